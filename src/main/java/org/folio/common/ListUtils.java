@@ -1,10 +1,13 @@
 package org.folio.common;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
@@ -41,4 +44,34 @@ public class ListUtils {
            ? Collections.emptyList()
            : Arrays.stream(StringUtils.split(string, ',')).map(String::trim).toList();
   }
+
+  /**
+   * Selects first k items of the source in order of the comparator.
+   *
+   * <p>At most k items are kept in a heap while the source is scanned, so that the whole source is not sorted
+   * when only its beginning is needed.
+   */
+  public static <T> List<T> topK(Collection<T> source, Comparator<? super T> comparator, int k) {
+    Objects.requireNonNull(source, "Collection is null");
+    if (k <= 0) {
+      return Collections.emptyList();
+    }
+    if (k >= source.size()) {
+      List<T> result = new ArrayList<>(source);
+      result.sort(comparator);
+      return result;
+    }
+    PriorityQueue<T> heap = new PriorityQueue<>(k + 1, comparator.reversed());
+    for (T item : source) {
+      if (heap.size() < k) {
+        heap.add(item);
+      } else if (comparator.compare(item, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(item);
+      }
+    }
+    List<T> result = new ArrayList<>(heap);
+    result.sort(comparator);
+    return result;
+  }
 }
@@ -0,0 +1,431 @@
+package org.folio.common.cache;
+
+import io.vertx.core.Vertx;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import lombok.extern.log4j.Log4j2;
+import org.folio.cache.VertxCache;
+
+/**
+ * {@link VertxCache} implementation that keeps total weight of entries under maximum weight.
+ *
+ * <p>Entries are evicted with W-TinyLFU policy: a new entry is added to a small LRU window, entries that leave
+ * the window enter the main space only when they were used more often than the entry they replace. The main space
+ * is split into probation and protected segments, entry read while in probation is promoted to protected segment.
+ * How often keys were used is estimated with {@link FrequencySketch}.
+ *
+ * <p>Weight of the entry is computed by weigher, e.g. from the number of customer resources of a title.
+ * Entries expire after expiration time in seconds from the moment they were put to the cache.
+ *
+ * <p>When refresh time is set, an entry older than refresh time is still returned by
+ * {@link #getValueOrLoad(Object, Supplier)}, and the loader reloads it in background. Only entries older than
+ * expiration time wait for the loader. Refresh time of each entry is shortened by up to 10% at random, so that
+ * entries cached at the same time are not refreshed at the same time. At most maximumRefreshes entries are
+ * reloaded at the same time, refresh of other entries is skipped until they are read again.
+ *
+ * <p>Invalidated key is also dropped from loads in flight, so a value loaded before invalidation is not cached.
+ */
+@Log4j2
+public class BoundedVertxCache<K, V> extends VertxCache<K, V> {
+
+  private static final double WINDOW_SHARE = 0.01;
+  private static final double PROTECTED_SHARE = 0.8;
+  private static final long CLEANUP_INTERVAL = 60;
+  private static final double REFRESH_JITTER = 0.1;
+
+  private final String cacheName;
+  private final long maximumWeight;
+  private final long maximumWindowWeight;
+  private final long maximumProtectedWeight;
+  private final long expirationNanos;
+  private final long refreshNanos;
+  private final int maximumRefreshes;
+  private final ToIntFunction<? super V> weigher;
+  private final FrequencySketch sketch;
+  private final LongSupplier ticker;
+  private final Map<K, Node<K, V>> data = new HashMap<>();
+  private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>();
+  private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>();
+  private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>();
+  private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+  private long windowWeight;
+  private long probationWeight;
+  private long protectedWeight;
+  private int refreshes;
+
+  public BoundedVertxCache(Vertx vertx, long expirationTime, long maximumWeight,
+                           ToIntFunction<? super V> weigher, String cacheName) {
+    this(vertx, expirationTime, 0, 0, maximumWeight, weigher, cacheName);
+  }
+
+  /**
+   * Creates cache that refreshes entries older than refreshTime seconds in background.
+   */
+  public BoundedVertxCache(Vertx vertx, long expirationTime, long refreshTime, int maximumRefreshes,
+                           long maximumWeight, ToIntFunction<? super V> weigher, String cacheName) {
+    this(vertx, expirationTime, refreshTime, maximumRefreshes, maximumWeight, weigher, cacheName, System::nanoTime);
+  }
+
+  BoundedVertxCache(Vertx vertx, long expirationTime, long refreshTime, int maximumRefreshes, long maximumWeight,
+                    ToIntFunction<? super V> weigher, String cacheName, LongSupplier ticker) {
+    super(vertx, expirationTime, cacheName);
+    this.cacheName = cacheName;
+    this.maximumWeight = Math.max(maximumWeight, 1);
+    this.maximumWindowWeight = Math.max((long) (this.maximumWeight * WINDOW_SHARE), 1);
+    this.maximumProtectedWeight = (long) ((this.maximumWeight - maximumWindowWeight) * PROTECTED_SHARE);
+    this.expirationNanos = TimeUnit.SECONDS.toNanos(expirationTime);
+    this.refreshNanos = TimeUnit.SECONDS.toNanos(refreshTime);
+    this.maximumRefreshes = maximumRefreshes;
+    this.weigher = weigher;
+    this.sketch = new FrequencySketch(this.maximumWeight);
+    this.ticker = ticker;
+    if (expirationTime > 0) {
+      vertx.setPeriodic(TimeUnit.SECONDS.toMillis(Math.min(expirationTime, CLEANUP_INTERVAL)),
+        timerId -> removeExpired());
+    }
+  }
+
+  @Override
+  public V getValue(K key) {
+    Node<K, V> node = getNode(key);
+    return node == null ? null : node.value;
+  }
+
+  /**
+   * Returns cached value or loads it, concurrent loads of the same key share one loader call.
+   * Value that is due to refresh is returned at once and reloaded in background.
+   */
+  @Override
+  public CompletableFuture<V> getValueOrLoad(K key, Supplier<CompletableFuture<V>> loader) {
+    Node<K, V> node = getNode(key);
+    if (node != null) {
+      if (refreshNanos > 0 && ticker.getAsLong() - node.refreshTime > 0) {
+        refresh(key, loader);
+      }
+      return CompletableFuture.completedFuture(node.value);
+    }
+    CompletableFuture<V> loadFuture = new CompletableFuture<>();
+    CompletableFuture<V> existingLoad = loading.putIfAbsent(key, loadFuture);
+    if (existingLoad != null) {
+      return existingLoad;
+    }
+    return load(key, loader, loadFuture);
+  }
+
+  @Override
+  public synchronized void putValue(K key, V cacheValue) {
+    int weight = Math.max(weigher.applyAsInt(cacheValue), 1);
+    Node<K, V> existingNode = data.get(key);
+    if (weight > maximumWeight) {
+      log.debug("putValue:: Value of weight {} is not cached in {}, maximum weight is {}",
+        weight, cacheName, maximumWeight);
+      if (existingNode != null) {
+        remove(existingNode);
+      }
+      return;
+    }
+    sketch.increment(key);
+    long now = ticker.getAsLong();
+    var node = new Node<>(key, cacheValue, weight, now, nextRefreshTime(now));
+    data.put(key, node);
+    if (existingNode != null) {
+      node.segment = existingNode.segment;
+      segmentOf(node.segment).put(key, node);
+      addWeight(node.segment, (long) weight - existingNode.weight);
+    } else {
+      node.segment = Segment.WINDOW;
+      window.put(key, node);
+      windowWeight += weight;
+    }
+    demoteProtected();
+    evict();
+  }
+
+  @Override
+  public synchronized void invalidate(K key) {
+    loading.remove(key);
+    Node<K, V> node = data.get(key);
+    if (node != null) {
+      remove(node);
+    }
+  }
+
+  /**
+   * Invalidates all keys that match the predicate, e.g. keys of one record cached for any credentials.
+   */
+  public synchronized void invalidateIf(Predicate<? super K> predicate) {
+    loading.keySet().removeIf(predicate);
+    Iterator<Node<K, V>> iterator = data.values().iterator();
+    while (iterator.hasNext()) {
+      Node<K, V> node = iterator.next();
+      if (predicate.test(node.key)) {
+        iterator.remove();
+        removeFromSegment(node);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    loading.clear();
+    data.clear();
+    window.clear();
+    probation.clear();
+    protectedSegment.clear();
+    windowWeight = 0;
+    probationWeight = 0;
+    protectedWeight = 0;
+  }
+
+  synchronized long getWeight() {
+    return windowWeight + probationWeight + protectedWeight;
+  }
+
+  private synchronized Node<K, V> getNode(K key) {
+    sketch.increment(key);
+    Node<K, V> node = data.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (isExpired(node, ticker.getAsLong())) {
+      remove(node);
+      return null;
+    }
+    onAccess(node);
+    return node;
+  }
+
+  /**
+   * Reloads the value in background unless it is already loading or refresh limit is reached.
+   * Value stays cached when refresh fails.
+   */
+  private void refresh(K key, Supplier<CompletableFuture<V>> loader) {
+    CompletableFuture<V> refreshFuture = new CompletableFuture<>();
+    if (loading.putIfAbsent(key, refreshFuture) != null) {
+      return;
+    }
+    synchronized (this) {
+      if (refreshes >= maximumRefreshes) {
+        loading.remove(key, refreshFuture);
+        return;
+      }
+      refreshes++;
+    }
+    load(key, loader, refreshFuture).whenComplete((value, throwable) -> {
+      synchronized (this) {
+        refreshes--;
+      }
+      if (throwable != null) {
+        log.warn("refresh:: Failed to refresh value in {}, msg: {}", cacheName, throwable.getMessage());
+      }
+    });
+  }
+
+  private CompletableFuture<V> load(K key, Supplier<CompletableFuture<V>> loader, CompletableFuture<V> loadFuture) {
+    CompletableFuture<V> loaderFuture;
+    try {
+      loaderFuture = loader.get();
+    } catch (RuntimeException e) {
+      loaderFuture = CompletableFuture.failedFuture(e);
+    }
+    loaderFuture.whenComplete((loadedValue, throwable) -> {
+      if (throwable == null && loadedValue != null) {
+        putLoadedValue(key, loadedValue, loadFuture);
+      }
+      loading.remove(key, loadFuture);
+      if (throwable == null) {
+        loadFuture.complete(loadedValue);
+      } else {
+        loadFuture.completeExceptionally(throwable);
+      }
+    });
+    return loadFuture;
+  }
+
+  private synchronized void putLoadedValue(K key, V loadedValue, CompletableFuture<V> loadFuture) {
+    if (loading.get(key) == loadFuture) {
+      putValue(key, loadedValue);
+    }
+  }
+
+  private void onAccess(Node<K, V> node) {
+    switch (node.segment) {
+      case WINDOW -> moveToMostRecent(window, node);
+      case PROTECTED -> moveToMostRecent(protectedSegment, node);
+      case PROBATION -> {
+        probation.remove(node.key);
+        probationWeight -= node.weight;
+        node.segment = Segment.PROTECTED;
+        protectedSegment.put(node.key, node);
+        protectedWeight += node.weight;
+        demoteProtected();
+      }
+    }
+  }
+
+  /**
+   * Moves least recently used entries of protected segment to probation segment while it is over its size.
+   */
+  private void demoteProtected() {
+    while (protectedWeight > maximumProtectedWeight && !protectedSegment.isEmpty()) {
+      Node<K, V> node = pollFirst(protectedSegment);
+      protectedWeight -= node.weight;
+      node.segment = Segment.PROBATION;
+      probation.put(node.key, node);
+      probationWeight += node.weight;
+    }
+  }
+
+  private void evict() {
+    while (windowWeight > maximumWindowWeight) {
+      Node<K, V> candidate = pollFirst(window);
+      windowWeight -= candidate.weight;
+      candidate.segment = Segment.PROBATION;
+      probation.put(candidate.key, candidate);
+      probationWeight += candidate.weight;
+      if (getWeight() > maximumWeight) {
+        admitOrReject(candidate);
+      }
+    }
+    while (getWeight() > maximumWeight) {
+      remove(findVictim(null));
+    }
+  }
+
+  /**
+   * Keeps candidate that left the window only if it is used more often than least recently used entries
+   * of the main space, otherwise the candidate is removed.
+   */
+  private void admitOrReject(Node<K, V> candidate) {
+    int candidateFrequency = sketch.frequency(candidate.key);
+    while (getWeight() > maximumWeight && candidate.segment != null) {
+      Node<K, V> victim = findVictim(candidate);
+      if (victim == candidate || sketch.frequency(victim.key) >= candidateFrequency) {
+        remove(candidate);
+      } else {
+        remove(victim);
+      }
+    }
+  }
+
+  private Node<K, V> findVictim(Node<K, V> excluded) {
+    for (Map<K, Node<K, V>> segment : List.of(probation, protectedSegment, window)) {
+      for (Node<K, V> node : segment.values()) {
+        if (node != excluded) {
+          return node;
+        }
+      }
+    }
+    return excluded;
+  }
+
+  private synchronized void removeExpired() {
+    long now = ticker.getAsLong();
+    Iterator<Node<K, V>> iterator = data.values().iterator();
+    while (iterator.hasNext()) {
+      Node<K, V> node = iterator.next();
+      if (isExpired(node, now)) {
+        iterator.remove();
+        removeFromSegment(node);
+      }
+    }
+  }
+
+  private long nextRefreshTime(long now) {
+    if (refreshNanos <= 0) {
+      return now;
+    }
+    return now + (long) (refreshNanos * (1 - ThreadLocalRandom.current().nextDouble(REFRESH_JITTER)));
+  }
+
+  private boolean isExpired(Node<K, V> node, long now) {
+    return expirationNanos > 0 && now - node.writeTime > expirationNanos;
+  }
+
+  private void remove(Node<K, V> node) {
+    data.remove(node.key);
+    removeFromSegment(node);
+  }
+
+  private Map<K, Node<K, V>> segmentOf(Segment segment) {
+    return switch (segment) {
+      case WINDOW -> window;
+      case PROBATION -> probation;
+      case PROTECTED -> protectedSegment;
+    };
+  }
+
+  private void addWeight(Segment segment, long weight) {
+    switch (segment) {
+      case WINDOW -> windowWeight += weight;
+      case PROBATION -> probationWeight += weight;
+      case PROTECTED -> protectedWeight += weight;
+    }
+  }
+
+  private void removeFromSegment(Node<K, V> node) {
+    if (node.segment == null) {
+      return;
+    }
+    switch (node.segment) {
+      case WINDOW -> {
+        window.remove(node.key);
+        windowWeight -= node.weight;
+      }
+      case PROBATION -> {
+        probation.remove(node.key);
+        probationWeight -= node.weight;
+      }
+      case PROTECTED -> {
+        protectedSegment.remove(node.key);
+        protectedWeight -= node.weight;
+      }
+    }
+    node.segment = null;
+  }
+
+  private void moveToMostRecent(Map<K, Node<K, V>> segment, Node<K, V> node) {
+    segment.remove(node.key);
+    segment.put(node.key, node);
+  }
+
+  private Node<K, V> pollFirst(Map<K, Node<K, V>> segment) {
+    Iterator<Node<K, V>> iterator = segment.values().iterator();
+    Node<K, V> node = iterator.next();
+    iterator.remove();
+    return node;
+  }
+
+  private enum Segment {
+    WINDOW, PROBATION, PROTECTED
+  }
+
+  private static final class Node<K, V> {
+
+    private final K key;
+    private final V value;
+    private final int weight;
+    private final long writeTime;
+    private final long refreshTime;
+    private Segment segment;
+
+    private Node(K key, V value, int weight, long writeTime, long refreshTime) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+      this.writeTime = writeTime;
+      this.refreshTime = refreshTime;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package org.folio.common.cache;
+
+/**
+ * Count-min sketch that estimates how often keys were used recently, counters are capped at 15.
+ *
+ * <p>When the number of increments reaches sample size all counters are halved, so that keys popular
+ * in the past lose their advantage over keys popular now.
+ */
+class FrequencySketch {
+
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = {0x97cb3127, 0xb0f2d3a5, 0x6a8f2f21, 0xd1e8a6f3};
+
+  private final byte[] counters;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  FrequencySketch(long expectedSize) {
+    int width = Integer.highestOneBit(Math.clamp(expectedSize, 16, 1 << 24) - 1) << 1;
+    this.counters = new byte[width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_COUNT;
+    for (int seed : SEEDS) {
+      frequency = Math.min(frequency, counters[indexOf(hash, seed)]);
+    }
+    return frequency;
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int seed : SEEDS) {
+      int index = indexOf(hash, seed);
+      if (counters[index] < MAX_COUNT) {
+        counters[index]++;
+        added = true;
+      }
+    }
+    if (added && ++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = (byte) (counters[i] >>> 1);
+    }
+    additions /= 2;
+  }
+
+  private int indexOf(int hash, int seed) {
+    int index = (hash + seed) * seed;
+    index ^= index >>> 16;
+    return index & mask;
+  }
+
+  private static int spread(int hash) {
+    int spread = hash * 0x9e3779b9;
+    return spread ^ (spread >>> 16);
+  }
+}
@@ -0,0 +1,25 @@
+package org.folio.config.cache;
+
+import io.vertx.core.shareddata.Shareable;
+import lombok.Builder;
+import lombok.Value;
+import org.folio.rest.jaxrs.model.Order;
+import org.folio.service.uc.sorting.CostPerUseSort;
+
+/**
+ * Key of cost per use of package resources, sort and order are empty for resources in order they were computed.
+ */
+@Value
+@Builder(toBuilder = true)
+public class UcPackageResourcesCacheKey implements Shareable {
+
+  String tenant;
+  String credentialsId;
+  String packageId;
+  String fiscalYear;
+  String fiscalMonth;
+  String analysisCurrency;
+  String platformType;
+  CostPerUseSort sort;
+  Order order;
+}
@@ -3,6 +3,7 @@ package org.folio.config.cache;
 import io.vertx.core.shareddata.Shareable;
 import lombok.Value;
 import org.folio.client.uc.configuration.GetTitlePackageUcConfiguration;
+import org.folio.client.uc.model.UcTitlePackageId;
 
 @Value
 public class UcTitlePackageCacheKey implements Shareable {
@@ -13,15 +14,17 @@ public class UcTitlePackageCacheKey implements Shareable {
   String analysisCurrency;
   boolean publisherPlatform;
   boolean previousYear;
-  byte[] bodyHash;
+  int titleId;
+  int packageId;
 
-  public UcTitlePackageCacheKey(GetTitlePackageUcConfiguration configuration, byte[] bodyHash) {
+  public UcTitlePackageCacheKey(GetTitlePackageUcConfiguration configuration, UcTitlePackageId titlePackageId) {
     this.customerKey = configuration.getCustomerKey();
     this.fiscalYear = configuration.getFiscalYear();
     this.fiscalMonth = configuration.getFiscalMonth();
     this.analysisCurrency = configuration.getAnalysisCurrency();
     this.publisherPlatform = configuration.isPublisherPlatform();
     this.previousYear = configuration.isPreviousYear();
-    this.bodyHash = bodyHash;
+    this.titleId = titlePackageId.titleId();
+    this.packageId = titlePackageId.packageId();
   }
 }
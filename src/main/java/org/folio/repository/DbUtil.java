@@ -11,9 +11,13 @@ import static org.folio.repository.accesstypes.AccessTypesTableConstants.ACCESS_
 import static org.folio.repository.accesstypes.AccessTypesTableConstants.ACCESS_TYPES_VIEW_NAME;
 import static org.folio.repository.assigneduser.AssignedUsersConstants.ASSIGNED_USERS_TABLE_NAME;
 import static org.folio.repository.currencies.CurrenciesConstants.CURRENCIES_TABLE_NAME;
+import static org.folio.repository.export.ExportJobTableConstants.EXPORT_JOB_TABLE;
 import static org.folio.repository.holdings.HoldingsTableConstants.HOLDINGS_TABLE;
+import static org.folio.repository.holdings.lock.HoldingsLockTableConstants.HOLDINGS_LOAD_LOCK_TABLE;
 import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.HOLDINGS_STATUS_TABLE;
 import static org.folio.repository.holdings.status.audit.HoldingsStatusAuditTableConstants.HOLDINGS_STATUS_AUDIT_TABLE;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.LOAD_CHECKPOINT_TABLE;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.RETRY_JOB_TABLE;
 import static org.folio.repository.holdings.status.retry.RetryStatusTableConstants.RETRY_STATUS_TABLE;
 import static org.folio.repository.holdings.transaction.TransactionIdTableConstants.TRANSACTION_ID_TABLE;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.KB_CREDENTIALS_TABLE_NAME;
@@ -22,8 +26,11 @@ import static org.folio.repository.providers.ProviderTableConstants.PROVIDERS_TA
 import static org.folio.repository.resources.ResourceTableConstants.RESOURCES_TABLE_NAME;
 import static org.folio.repository.tag.TagTableConstants.TAGS_TABLE_NAME;
 import static org.folio.repository.titles.TitlesTableConstants.TITLES_TABLE_NAME;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.PACKAGE_COST_PER_USE_TABLE;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.RESOURCE_COST_PER_USE_TABLE;
 import static org.folio.repository.uc.UcCredentialsTableConstants.UC_CREDENTIALS_TABLE_NAME;
 import static org.folio.repository.uc.UcSettingsTableConstants.UC_SETTINGS_TABLE_NAME;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.UC_TITLE_PACKAGE_COST_TABLE;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -83,6 +90,18 @@ public final class DbUtil {
     return getTableName(tenantId, RETRY_STATUS_TABLE);
   }
 
+  public static String getLoadCheckpointTableName(String tenantId) {
+    return getTableName(tenantId, LOAD_CHECKPOINT_TABLE);
+  }
+
+  public static String getHoldingsLoadLockTableName(String tenantId) {
+    return getTableName(tenantId, HOLDINGS_LOAD_LOCK_TABLE);
+  }
+
+  public static String getRetryJobTableName(String tenantId) {
+    return getTableName(tenantId, RETRY_JOB_TABLE);
+  }
+
   public static String getTransactionIdTableName(String tenantId) {
     return getTableName(tenantId, TRANSACTION_ID_TABLE);
   }
@@ -119,6 +138,22 @@ public final class DbUtil {
     return getTableName(tenantId, UC_CREDENTIALS_TABLE_NAME);
   }
 
+  public static String getUcTitlePackageCostTableName(String tenantId) {
+    return getTableName(tenantId, UC_TITLE_PACKAGE_COST_TABLE);
+  }
+
+  public static String getPackageCostPerUseTableName(String tenantId) {
+    return getTableName(tenantId, PACKAGE_COST_PER_USE_TABLE);
+  }
+
+  public static String getResourceCostPerUseTableName(String tenantId) {
+    return getTableName(tenantId, RESOURCE_COST_PER_USE_TABLE);
+  }
+
+  public static String getExportJobTableName(String tenantId) {
+    return getTableName(tenantId, EXPORT_JOB_TABLE);
+  }
+
   public static Function<Throwable, Future<RowSet<Row>>> uniqueConstraintRecover(String columnName, Throwable t) {
     return uniqueConstraintRecover(singletonList(columnName), t);
   }
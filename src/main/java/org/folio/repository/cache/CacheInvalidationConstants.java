@@ -0,0 +1,20 @@
+package org.folio.repository.cache;
+
+import org.folio.rest.persist.PostgresClient;
+
+public final class CacheInvalidationConstants {
+
+  public static final String NOTIFY_QUERY = "SELECT pg_notify($1, $2);";
+
+  private static final String CHANNEL_SUFFIX = "_cache_invalidation";
+
+  private CacheInvalidationConstants() {
+  }
+
+  /**
+   * Notifications are delivered per database, so instances of the module for all tenants share one channel.
+   */
+  public static String cacheInvalidationChannel() {
+    return PostgresClient.getModuleName() + CHANNEL_SUFFIX;
+  }
+}
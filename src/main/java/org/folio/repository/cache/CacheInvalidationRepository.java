@@ -0,0 +1,9 @@
+package org.folio.repository.cache;
+
+import io.vertx.core.json.JsonObject;
+import java.util.concurrent.CompletableFuture;
+
+public interface CacheInvalidationRepository {
+
+  CompletableFuture<Void> notify(JsonObject payload);
+}
@@ -0,0 +1,40 @@
+package org.folio.repository.cache;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.repository.cache.CacheInvalidationConstants.NOTIFY_QUERY;
+import static org.folio.repository.cache.CacheInvalidationConstants.cacheInvalidationChannel;
+import static org.folio.util.FutureUtils.mapResult;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class CacheInvalidationRepositoryImpl implements CacheInvalidationRepository {
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public CacheInvalidationRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<Void> notify(JsonObject payload) {
+    final Tuple parameters = Tuple.of(cacheInvalidationChannel(), payload.encode());
+    logSelectQuery(log, NOTIFY_QUERY, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    PostgresClient.getInstance(vertx).select(NOTIFY_QUERY, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+}
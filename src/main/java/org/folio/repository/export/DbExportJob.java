@@ -0,0 +1,25 @@
+package org.folio.repository.export;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Job that exports cost per use of package titles, exported file is stored separately from the job.
+ */
+@Value
+@Builder(toBuilder = true)
+public class DbExportJob {
+
+  UUID id;
+  UUID credentialsId;
+  String packageId;
+  String platform;
+  String fiscalYear;
+  ExportJobStatus status;
+  String errorMessage;
+  OffsetDateTime createdAt;
+  OffsetDateTime startedAt;
+  OffsetDateTime finishedAt;
+}
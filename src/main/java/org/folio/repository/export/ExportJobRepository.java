@@ -0,0 +1,52 @@
+package org.folio.repository.export;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface ExportJobRepository {
+
+  /**
+   * Saves new job queued by given instance, the job is leased by the instance for leaseDuration milliseconds.
+   */
+  CompletableFuture<Void> save(DbExportJob job, UUID instanceId, long leaseDuration, String tenant);
+
+  CompletableFuture<Optional<DbExportJob>> findById(UUID id, UUID credentialsId, String tenant);
+
+  /**
+   * Returns exported file of the job, the file is empty until the job is completed.
+   */
+  CompletableFuture<Optional<byte[]>> findFile(UUID id, UUID credentialsId, String tenant);
+
+  /**
+   * Updates status, error message, start and finish time of the job.
+   */
+  CompletableFuture<Void> updateStatus(DbExportJob job, String tenant);
+
+  /**
+   * Saves exported file of the job and marks the job completed.
+   */
+  CompletableFuture<Void> saveFile(UUID id, byte[] file, OffsetDateTime finishedAt, String tenant);
+
+  /**
+   * Deletes jobs created before the time together with their files.
+   */
+  CompletableFuture<Void> deleteCreatedBefore(OffsetDateTime createdAt, String tenant);
+
+  /**
+   * Extends lease of queued and running jobs of given instance by leaseDuration milliseconds from now.
+   */
+  CompletableFuture<Void> renewLeases(UUID instanceId, long leaseDuration, String tenant);
+
+  /**
+   * Marks queued and running jobs with expired lease failed, e.g. jobs of an instance that was stopped.
+   */
+  CompletableFuture<Void> failAbandoned(String errorMessage, String tenant);
+
+  /**
+   * Returns ids of tenants that module is enabled for.
+   */
+  CompletableFuture<List<String>> findTenants();
+}
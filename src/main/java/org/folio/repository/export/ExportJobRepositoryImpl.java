@@ -0,0 +1,202 @@
+package org.folio.repository.export;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logDeleteQuery;
+import static org.folio.common.LogUtils.logInsertQuery;
+import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.common.LogUtils.logUpdateQuery;
+import static org.folio.db.RowSetUtils.isEmpty;
+import static org.folio.db.RowSetUtils.mapFirstItem;
+import static org.folio.repository.DbUtil.pgClient;
+import static org.folio.repository.export.ExportJobTableConstants.CREATED_AT_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.CREDENTIALS_ID_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.ERROR_MESSAGE_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.FILE_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.FINISHED_AT_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.FISCAL_YEAR_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.ID_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.PACKAGE_ID_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.PLATFORM_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.STARTED_AT_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.STATUS_COLUMN;
+import static org.folio.repository.export.ExportJobTableConstants.deleteExpiredExportJobs;
+import static org.folio.repository.export.ExportJobTableConstants.failAbandonedExportJobs;
+import static org.folio.repository.export.ExportJobTableConstants.insertExportJob;
+import static org.folio.repository.export.ExportJobTableConstants.renewExportJobLeases;
+import static org.folio.repository.export.ExportJobTableConstants.selectExportJob;
+import static org.folio.repository.export.ExportJobTableConstants.selectExportJobFile;
+import static org.folio.repository.export.ExportJobTableConstants.selectTenantSchemas;
+import static org.folio.repository.export.ExportJobTableConstants.updateExportJobFile;
+import static org.folio.repository.export.ExportJobTableConstants.updateExportJobStatus;
+import static org.folio.util.FutureUtils.mapResult;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.db.RowSetUtils;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class ExportJobRepositoryImpl implements ExportJobRepository {
+
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public ExportJobRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<Void> save(DbExportJob job, UUID instanceId, long leaseDuration, String tenant) {
+    String query = insertExportJob(tenant);
+    Tuple params = Tuple.of(job.getId(), job.getCredentialsId(), job.getPackageId(), job.getPlatform(),
+      job.getFiscalYear(), job.getStatus().name(), job.getErrorMessage(), job.getCreatedAt(), job.getStartedAt(),
+      job.getFinishedAt())
+      .addUUID(instanceId)
+      .addLong(leaseDuration);
+
+    logInsertQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Optional<DbExportJob>> findById(UUID id, UUID credentialsId, String tenant) {
+    String query = selectExportJob(tenant);
+    Tuple params = Tuple.of(id, credentialsId);
+
+    logSelectQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).select(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), this::mapExportJob);
+  }
+
+  @Override
+  public CompletableFuture<Optional<byte[]>> findFile(UUID id, UUID credentialsId, String tenant) {
+    String query = selectExportJobFile(tenant);
+    Tuple params = Tuple.of(id, credentialsId);
+
+    logSelectQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).select(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), this::mapFile);
+  }
+
+  @Override
+  public CompletableFuture<Void> updateStatus(DbExportJob job, String tenant) {
+    String query = updateExportJobStatus(tenant);
+    Tuple params = Tuple.of(job.getStatus().name(), job.getErrorMessage(), job.getStartedAt(), job.getFinishedAt(),
+      job.getId());
+
+    logUpdateQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> saveFile(UUID id, byte[] file, OffsetDateTime finishedAt, String tenant) {
+    String query = updateExportJobFile(tenant);
+    Tuple params = Tuple.of(Buffer.buffer(file), finishedAt, id);
+
+    log.debug("saveFile:: Saving file of {} bytes for export job {}", file.length, id);
+    logUpdateQuery(log, query, Tuple.of(finishedAt, id));
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteCreatedBefore(OffsetDateTime createdAt, String tenant) {
+    String query = deleteExpiredExportJobs(tenant);
+    Tuple params = Tuple.of(createdAt);
+
+    logDeleteQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> renewLeases(UUID instanceId, long leaseDuration, String tenant) {
+    String query = renewExportJobLeases(tenant);
+    Tuple params = Tuple.of(leaseDuration, instanceId);
+
+    logUpdateQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> failAbandoned(String errorMessage, String tenant) {
+    String query = failAbandonedExportJobs(tenant);
+    Tuple params = Tuple.of(errorMessage);
+
+    logUpdateQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<List<String>> findTenants() {
+    final String schemaSuffix = "_" + PostgresClient.getModuleName();
+    final String query = selectTenantSchemas();
+    final Tuple parameters = Tuple.of(schemaSuffix.length(), schemaSuffix);
+    logSelectQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    PostgresClient.getInstance(vertx).select(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()),
+      rowSet -> RowSetUtils.mapItems(rowSet, row -> {
+        String schema = row.getString(0);
+        return schema.substring(0, schema.length() - schemaSuffix.length());
+      }));
+  }
+
+  private Optional<DbExportJob> mapExportJob(RowSet<Row> rows) {
+    return isEmpty(rows)
+           ? Optional.empty()
+           : mapFirstItem(rows, row -> Optional.of(DbExportJob.builder()
+             .id(row.getUUID(ID_COLUMN))
+             .credentialsId(row.getUUID(CREDENTIALS_ID_COLUMN))
+             .packageId(row.getString(PACKAGE_ID_COLUMN))
+             .platform(row.getString(PLATFORM_COLUMN))
+             .fiscalYear(row.getString(FISCAL_YEAR_COLUMN))
+             .status(ExportJobStatus.valueOf(row.getString(STATUS_COLUMN)))
+             .errorMessage(row.getString(ERROR_MESSAGE_COLUMN))
+             .createdAt(row.getOffsetDateTime(CREATED_AT_COLUMN))
+             .startedAt(row.getOffsetDateTime(STARTED_AT_COLUMN))
+             .finishedAt(row.getOffsetDateTime(FINISHED_AT_COLUMN))
+             .build()));
+  }
+
+  private Optional<byte[]> mapFile(RowSet<Row> rows) {
+    if (isEmpty(rows)) {
+      return Optional.empty();
+    }
+    return mapFirstItem(rows, row -> Optional.ofNullable(row.getBuffer(FILE_COLUMN)).map(Buffer::getBytes));
+  }
+}
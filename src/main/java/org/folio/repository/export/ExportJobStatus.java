@@ -0,0 +1,8 @@
+package org.folio.repository.export;
+
+public enum ExportJobStatus {
+  QUEUED,
+  IN_PROGRESS,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,127 @@
+package org.folio.repository.export;
+
+import static org.folio.repository.DbUtil.getExportJobTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.joinWithComma;
+
+public final class ExportJobTableConstants {
+
+  public static final String EXPORT_JOB_TABLE = "export_job";
+  public static final String ID_COLUMN = "id";
+  public static final String CREDENTIALS_ID_COLUMN = "credentials_id";
+  public static final String PACKAGE_ID_COLUMN = "package_id";
+  public static final String PLATFORM_COLUMN = "platform";
+  public static final String FISCAL_YEAR_COLUMN = "fiscal_year";
+  public static final String STATUS_COLUMN = "status";
+  public static final String ERROR_MESSAGE_COLUMN = "error_message";
+  public static final String CREATED_AT_COLUMN = "created_at";
+  public static final String STARTED_AT_COLUMN = "started_at";
+  public static final String FINISHED_AT_COLUMN = "finished_at";
+  public static final String FILE_COLUMN = "file";
+  public static final String INSTANCE_ID_COLUMN = "instance_id";
+  public static final String LEASE_UNTIL_COLUMN = "lease_until";
+  public static final String EXPORT_JOB_FIELD_LIST = joinWithComma(ID_COLUMN, CREDENTIALS_ID_COLUMN, PACKAGE_ID_COLUMN,
+    PLATFORM_COLUMN, FISCAL_YEAR_COLUMN, STATUS_COLUMN, ERROR_MESSAGE_COLUMN, CREATED_AT_COLUMN, STARTED_AT_COLUMN,
+    FINISHED_AT_COLUMN);
+  private static final String ACTIVE_STATUSES =
+    "('" + ExportJobStatus.QUEUED.name() + "', '" + ExportJobStatus.IN_PROGRESS.name() + "')";
+
+  private ExportJobTableConstants() {
+  }
+
+  public static String insertExportJob(String tenantId) {
+    return prepareQuery(insertExportJobQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String selectExportJob(String tenantId) {
+    return prepareQuery(selectExportJobQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String selectExportJobFile(String tenantId) {
+    return prepareQuery(selectExportJobFileQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String updateExportJobStatus(String tenantId) {
+    return prepareQuery(updateExportJobStatusQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String updateExportJobFile(String tenantId) {
+    return prepareQuery(updateExportJobFileQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String deleteExpiredExportJobs(String tenantId) {
+    return prepareQuery(deleteExpiredExportJobsQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String renewExportJobLeases(String tenantId) {
+    return prepareQuery(renewExportJobLeasesQuery(), getExportJobTableName(tenantId));
+  }
+
+  public static String failAbandonedExportJobs(String tenantId) {
+    return prepareQuery(failAbandonedExportJobsQuery(), getExportJobTableName(tenantId));
+  }
+
+  /**
+   * Selects schemas of tenants that have export job table.
+   */
+  public static String selectTenantSchemas() {
+    return prepareQuery("SELECT nspname FROM pg_namespace WHERE right(nspname, ?) = ? "
+      + "AND to_regclass(quote_ident(nspname) || '." + EXPORT_JOB_TABLE + "') IS NOT NULL;");
+  }
+
+  private static String insertExportJobQuery() {
+    return "INSERT INTO %s (" + EXPORT_JOB_FIELD_LIST + ", " + INSTANCE_ID_COLUMN + ", " + LEASE_UNTIL_COLUMN + ") "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now() + ? * interval '1 millisecond');";
+  }
+
+  private static String selectExportJobQuery() {
+    return "SELECT " + EXPORT_JOB_FIELD_LIST + " FROM %s WHERE "
+      + ID_COLUMN + " = ? AND " + CREDENTIALS_ID_COLUMN + " = ?;";
+  }
+
+  private static String selectExportJobFileQuery() {
+    return "SELECT " + FILE_COLUMN + " FROM %s WHERE "
+      + ID_COLUMN + " = ? AND " + CREDENTIALS_ID_COLUMN + " = ?;";
+  }
+
+  private static String updateExportJobStatusQuery() {
+    return "UPDATE %s SET "
+      + STATUS_COLUMN + " = ?, "
+      + ERROR_MESSAGE_COLUMN + " = ?, "
+      + STARTED_AT_COLUMN + " = ?, "
+      + FINISHED_AT_COLUMN + " = ? "
+      + "WHERE " + ID_COLUMN + " = ?;";
+  }
+
+  /**
+   * File and completed status are written together, so that the file can be read as soon as the job is completed.
+   */
+  private static String updateExportJobFileQuery() {
+    return "UPDATE %s SET "
+      + FILE_COLUMN + " = ?, "
+      + STATUS_COLUMN + " = '" + ExportJobStatus.COMPLETED.name() + "', "
+      + FINISHED_AT_COLUMN + " = ? "
+      + "WHERE " + ID_COLUMN + " = ?;";
+  }
+
+  private static String deleteExpiredExportJobsQuery() {
+    return "DELETE FROM %s WHERE " + CREATED_AT_COLUMN + " < ?;";
+  }
+
+  private static String renewExportJobLeasesQuery() {
+    return "UPDATE %s SET " + LEASE_UNTIL_COLUMN + " = now() + ? * interval '1 millisecond' "
+      + "WHERE " + INSTANCE_ID_COLUMN + " = ? AND " + STATUS_COLUMN + " IN " + ACTIVE_STATUSES + ";";
+  }
+
+  /**
+   * Jobs whose lease is not renewed are not queued or executed by any instance anymore.
+   */
+  private static String failAbandonedExportJobsQuery() {
+    return "UPDATE %s SET "
+      + STATUS_COLUMN + " = '" + ExportJobStatus.FAILED.name() + "', "
+      + ERROR_MESSAGE_COLUMN + " = ?, "
+      + FINISHED_AT_COLUMN + " = now() "
+      + "WHERE " + STATUS_COLUMN + " IN " + ACTIVE_STATUSES + " "
+      + "AND (" + LEASE_UNTIL_COLUMN + " IS NULL OR " + LEASE_UNTIL_COLUMN + " <= now());";
+  }
+}
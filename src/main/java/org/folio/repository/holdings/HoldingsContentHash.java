@@ -0,0 +1,34 @@
+package org.folio.repository.holdings;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Calculates hash of holding columns that can change between loads.
+ * Hash is stored together with holding, so that upsert can skip rows that are not changed.
+ */
+public final class HoldingsContentHash {
+
+  private HoldingsContentHash() {
+  }
+
+  public static long of(DbHoldingInfo holding) {
+    Hasher hasher = Hashing.farmHashFingerprint64().newHasher()
+      .putInt(holding.getVendorId())
+      .putInt(holding.getPackageId())
+      .putInt(holding.getTitleId());
+    putString(hasher, holding.getResourceType());
+    putString(hasher, holding.getPublisherName());
+    putString(hasher, holding.getPublicationTitle());
+    return hasher.hash().asLong();
+  }
+
+  private static void putString(Hasher hasher, String value) {
+    if (value == null) {
+      hasher.putInt(-1);
+    } else {
+      hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -5,17 +5,80 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface HoldingsRepository {
 
   CompletableFuture<Void> saveAll(Set<DbHoldingInfo> holding, OffsetDateTime updatedAt, UUID credentialsId,
                                   String tenantId);
 
-  CompletableFuture<Void> deleteBeforeTimestamp(OffsetDateTime timestamp, UUID credentialsId, String tenantId);
+  /**
+   * Saves holdings and records them as received by the load with given generation.
+   */
+  CompletableFuture<Void> saveAllInGeneration(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt, long generation,
+                                              UUID credentialsId, String tenantId);
+
+  /**
+   * Deletes holdings of credentials that were not received by the load with given generation
+   * and clears received holdings of all generations.
+   */
+  CompletableFuture<Void> deleteNotInGeneration(long generation, UUID credentialsId, String tenantId);
+
+  /**
+   * Checks that holdings received by the load with given generation are recorded.
+   */
+  CompletableFuture<Boolean> hasGenerationHoldings(long generation, UUID credentialsId, String tenantId);
+
+  /**
+   * Clears holdings received by all previous loads of credentials.
+   */
+  CompletableFuture<Void> clearGenerations(UUID credentialsId, String tenantId);
 
   CompletableFuture<List<DbHoldingInfo>> findAllById(List<String> resourceIds, UUID credentialsId, String tenantId);
 
-  CompletableFuture<List<DbHoldingInfo>> findAllByPackageId(int packageId, UUID credentialsId, String tenantId);
+  /**
+   * Reads holdings of package through a database cursor and passes them to chunkConsumer in chunks of chunkSize,
+   * so that the whole package is never held in one result set.
+   */
+  CompletableFuture<Void> findAllByPackageId(int packageId, UUID credentialsId, String tenantId, int chunkSize,
+                                             Consumer<List<DbHoldingInfo>> chunkConsumer);
 
   CompletableFuture<Void> deleteAll(Set<HoldingsId> holdings, UUID credentialsId, String tenantId);
+
+  /**
+   * Creates empty snapshot table for credentials, existing snapshot table is dropped.
+   */
+  CompletableFuture<Void> createSnapshotTable(UUID credentialsId, String tenantId);
+
+  /**
+   * Saves holdings to the snapshot table of credentials.
+   */
+  CompletableFuture<Void> saveAllToSnapshot(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt, UUID credentialsId,
+                                            String tenantId);
+
+  /**
+   * Replaces holdings partition of credentials with the snapshot table.
+   * Index and constraints of the snapshot table are built and validated first, then previous partition is detached
+   * concurrently and dropped, and snapshot table is attached to holdings table as a new partition without
+   * validation scan. Holdings of credentials are not available between detach and attach.
+   */
+  CompletableFuture<Void> replaceWithSnapshot(UUID credentialsId, String tenantId);
+
+  CompletableFuture<Void> dropSnapshotTable(UUID credentialsId, String tenantId);
+
+  /**
+   * Checks that snapshot table of credentials exists and contains holdings.
+   */
+  CompletableFuture<Boolean> hasSnapshotHoldings(UUID credentialsId, String tenantId);
+
+  /**
+   * Creates holdings partition for credentials, does nothing if partition already exists.
+   * Holdings table has no default partition, so holdings of credentials can't be saved before it is created.
+   */
+  CompletableFuture<Void> createPartition(UUID credentialsId, String tenantId);
+
+  /**
+   * Drops holdings partition and snapshot table of credentials together with all holdings stored in them.
+   */
+  CompletableFuture<Void> dropPartition(UUID credentialsId, String tenantId);
 }
@@ -5,18 +5,40 @@ import static org.folio.common.ListUtils.mapItems;
 import static org.folio.common.LogUtils.logDeleteQuery;
 import static org.folio.common.LogUtils.logInsertQuery;
 import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.common.LogUtils.logUpdateQuery;
 import static org.folio.db.DbUtils.createParams;
+import static org.folio.repository.DbUtil.getHoldingsTableName;
 import static org.folio.repository.holdings.HoldingsTableConstants.PACKAGE_ID_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.PUBLICATION_TITLE_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.PUBLISHER_NAME_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.RESOURCE_TYPE_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.TITLE_ID_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.VENDOR_ID_COLUMN;
+import static org.folio.repository.holdings.HoldingsTableConstants.addSnapshotForeignKey;
+import static org.folio.repository.holdings.HoldingsTableConstants.attachPartition;
+import static org.folio.repository.holdings.HoldingsTableConstants.createPartition;
+import static org.folio.repository.holdings.HoldingsTableConstants.createSnapshotPackageIdIndex;
+import static org.folio.repository.holdings.HoldingsTableConstants.createSnapshotTable;
 import static org.folio.repository.holdings.HoldingsTableConstants.deleteByPkHoldings;
-import static org.folio.repository.holdings.HoldingsTableConstants.deleteOldRecordsByCredentialsId;
-import static org.folio.repository.holdings.HoldingsTableConstants.insertOrUpdateHoldings;
+import static org.folio.repository.holdings.HoldingsTableConstants.deleteNotSeenHoldings;
+import static org.folio.repository.holdings.HoldingsTableConstants.deleteSeenHoldings;
+import static org.folio.repository.holdings.HoldingsTableConstants.detachPartitionConcurrently;
+import static org.folio.repository.holdings.HoldingsTableConstants.dropPartition;
+import static org.folio.repository.holdings.HoldingsTableConstants.dropSnapshotTable;
+import static org.folio.repository.holdings.HoldingsTableConstants.finalizeDetachPartition;
+import static org.folio.repository.holdings.HoldingsTableConstants.getSnapshotTableName;
+import static org.folio.repository.holdings.HoldingsTableConstants.insertOrUpdateHoldingsInBulk;
+import static org.folio.repository.holdings.HoldingsTableConstants.insertOrUpdateHoldingsInto;
+import static org.folio.repository.holdings.HoldingsTableConstants.insertSeenHoldings;
+import static org.folio.repository.holdings.HoldingsTableConstants.renameSnapshotTableToPartition;
+import static org.folio.repository.holdings.HoldingsTableConstants.seenHoldingsExist;
 import static org.folio.repository.holdings.HoldingsTableConstants.selectByPackageIdAndCredentials;
 import static org.folio.repository.holdings.HoldingsTableConstants.selectByPkHoldings;
+import static org.folio.repository.holdings.HoldingsTableConstants.selectPartitionDetachPending;
+import static org.folio.repository.holdings.HoldingsTableConstants.setSnapshotTableLogged;
+import static org.folio.repository.holdings.HoldingsTableConstants.snapshotTableExists;
+import static org.folio.repository.holdings.HoldingsTableConstants.snapshotTableHasRows;
+import static org.folio.repository.holdings.HoldingsTableConstants.validateSnapshotForeignKey;
 import static org.folio.util.FutureUtils.mapResult;
 import static org.folio.util.FutureUtils.mapVertxFuture;
 
@@ -25,6 +47,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Cursor;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
@@ -34,11 +57,13 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
 import org.folio.db.RowSetUtils;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.util.IdParser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -47,32 +72,120 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
   private static final int MAX_BATCH_SIZE = 200;
 
   private final Vertx vertx;
+  private final boolean bulkWriteEnabled;
 
-  public HoldingsRepositoryImpl(Vertx vertx) {
+  public HoldingsRepositoryImpl(Vertx vertx, @Value("${holdings.bulk.write.enable:false}") boolean bulkWriteEnabled) {
     this.vertx = vertx;
+    this.bulkWriteEnabled = bulkWriteEnabled;
   }
 
   @Override
   public CompletableFuture<Void> saveAll(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt, UUID credentialsId,
                                          String tenantId) {
-    PostgresClient postgresClient = PostgresClient.getInstance(vertx, tenantId);
+    return saveAll(holdings, updatedAt, credentialsId, getHoldingsTableName(tenantId), tenantId);
+  }
 
-    Future<Void> future = postgresClient.withTransaction(connection ->
-      executeInBatches(holdings,
-        batch -> saveHoldings(batch, updatedAt, credentialsId, tenantId, connection))
+  @Override
+  public CompletableFuture<Void> saveAllInGeneration(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt,
+                                                     long generation, UUID credentialsId, String tenantId) {
+    String tableName = getHoldingsTableName(tenantId);
+    Future<Void> future = pgClient(tenantId).withTransaction(connection ->
+      saveHoldings(holdings, updatedAt, credentialsId, tableName, connection)
+        .compose(o -> saveSeenHoldings(holdings, generation, credentialsId, tenantId, connection))
     );
+    return mapVertxFuture(future);
+  }
 
+  @Override
+  public CompletableFuture<Void> deleteNotInGeneration(long generation, UUID credentialsId, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withTransaction(connection ->
+      executeQuery(deleteNotSeenHoldings(tenantId), Tuple.of(credentialsId, generation), connection)
+        .compose(o -> executeQuery(deleteSeenHoldings(tenantId), Tuple.of(credentialsId), connection))
+    );
     return mapVertxFuture(future);
   }
 
   @Override
-  public CompletableFuture<Void> deleteBeforeTimestamp(OffsetDateTime timestamp, UUID credentialsId, String tenantId) {
-    final String query = deleteOldRecordsByCredentialsId(tenantId);
-    final Tuple params = Tuple.of(credentialsId, timestamp);
-    logDeleteQuery(log, query, params);
+  public CompletableFuture<Boolean> hasGenerationHoldings(long generation, UUID credentialsId, String tenantId) {
+    final String query = seenHoldingsExist(tenantId);
+    final Tuple params = Tuple.of(credentialsId, generation);
+    logSelectQuery(log, query, params);
     Promise<RowSet<Row>> promise = Promise.promise();
-    pgClient(tenantId).execute(query, params, promise::handle);
-    return mapVertxFuture(promise.future()).thenApply(nothing());
+    pgClient(tenantId).select(query, params, promise::handle);
+    return mapResult(promise.future(), rows -> rows.iterator().next().getBoolean(0));
+  }
+
+  @Override
+  public CompletableFuture<Void> clearGenerations(UUID credentialsId, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withConnection(connection ->
+      executeQuery(deleteSeenHoldings(tenantId), Tuple.of(credentialsId), connection));
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Void> saveAllToSnapshot(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt,
+                                                   UUID credentialsId, String tenantId) {
+    return saveAll(holdings, updatedAt, credentialsId, getSnapshotTableName(tenantId, credentialsId), tenantId);
+  }
+
+  @Override
+  public CompletableFuture<Void> createSnapshotTable(UUID credentialsId, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withTransaction(connection ->
+      executeQuery(dropSnapshotTable(tenantId, credentialsId), connection)
+        .compose(o -> executeQuery(createSnapshotTable(tenantId, credentialsId), connection))
+    );
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Void> replaceWithSnapshot(UUID credentialsId, String tenantId) {
+    PostgresClient pgClient = pgClient(tenantId);
+    Future<Void> future = pgClient.withConnection(connection ->
+        executeQuery(createSnapshotPackageIdIndex(tenantId, credentialsId), connection)
+          .compose(o -> executeQuery(setSnapshotTableLogged(tenantId, credentialsId), connection))
+          .compose(o -> executeQuery(addSnapshotForeignKey(tenantId, credentialsId), connection))
+          .compose(o -> executeQuery(validateSnapshotForeignKey(tenantId, credentialsId), connection))
+          .compose(o -> detachPartition(credentialsId, tenantId, connection))
+          .compose(o -> executeQuery(dropPartition(tenantId, credentialsId), connection)))
+      .compose(v -> pgClient.withTransaction(connection ->
+        executeQuery(renameSnapshotTableToPartition(tenantId, credentialsId), connection)
+          .compose(o -> executeQuery(attachPartition(tenantId, credentialsId), connection))
+      ));
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> hasSnapshotHoldings(UUID credentialsId, String tenantId) {
+    Future<Boolean> future = pgClient(tenantId).withConnection(connection ->
+      selectFlag(snapshotTableExists(tenantId, credentialsId), connection)
+        .compose(exists -> Boolean.TRUE.equals(exists)
+                           ? selectFlag(snapshotTableHasRows(tenantId, credentialsId), connection)
+                           : Future.succeededFuture(false))
+    );
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Void> createPartition(UUID credentialsId, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withConnection(connection ->
+      executeQuery(createPartition(tenantId, credentialsId), connection));
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Void> dropPartition(UUID credentialsId, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withTransaction(connection ->
+      executeQuery(dropSnapshotTable(tenantId, credentialsId), connection)
+        .compose(o -> executeQuery(dropPartition(tenantId, credentialsId), connection))
+    );
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Void> dropSnapshotTable(UUID credentialsId, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withConnection(connection ->
+      executeQuery(dropSnapshotTable(tenantId, credentialsId), connection));
+    return mapVertxFuture(future);
   }
 
   @Override
@@ -90,20 +203,24 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
   }
 
   @Override
-  public CompletableFuture<List<DbHoldingInfo>> findAllByPackageId(int packageId, UUID credentialsId, String tenantId) {
+  public CompletableFuture<Void> findAllByPackageId(int packageId, UUID credentialsId, String tenantId, int chunkSize,
+                                                    Consumer<List<DbHoldingInfo>> chunkConsumer) {
     var query = selectByPackageIdAndCredentials(tenantId);
     var params = createParams(packageId, credentialsId);
     logSelectQuery(log, query, params);
-    Promise<RowSet<Row>> promise = Promise.promise();
-    pgClient(tenantId).select(query, params, promise::handle);
-    return mapResult(promise.future(), this::mapHoldings);
+    Future<Void> future = pgClient(tenantId).withTransaction(connection -> connection.prepare(query)
+      .compose(statement -> {
+        Cursor cursor = statement.cursor(params);
+        return readInChunks(cursor, chunkSize, chunkConsumer)
+          .eventually(() -> cursor.close().eventually(statement::close));
+      })
+    );
+    return mapVertxFuture(future);
   }
 
   @Override
   public CompletableFuture<Void> deleteAll(Set<HoldingsId> holdings, UUID credentialsId, String tenantId) {
-    PostgresClient postgresClient = PostgresClient.getInstance(vertx, tenantId);
-
-    Future<Void> future = postgresClient.withTransaction(conn ->
+    Future<Void> future = pgClient(tenantId).withTransaction(conn ->
       executeInBatches(holdings,
         batch -> deleteHoldings(batch, credentialsId, tenantId, conn))
     );
@@ -111,11 +228,49 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
     return mapVertxFuture(future);
   }
 
+  private CompletableFuture<Void> saveAll(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt, UUID credentialsId,
+                                          String tableName, String tenantId) {
+    Future<Void> future = pgClient(tenantId).withTransaction(connection ->
+      saveHoldings(holdings, updatedAt, credentialsId, tableName, connection));
+
+    return mapVertxFuture(future);
+  }
+
+  private Future<Void> saveHoldings(Set<DbHoldingInfo> holdings, OffsetDateTime updatedAt, UUID credentialsId,
+                                    String tableName, PgConnection connection) {
+    return bulkWriteEnabled
+           ? saveHoldingsInBulk(List.copyOf(holdings), updatedAt, credentialsId, tableName, connection)
+           : executeInBatches(holdings, batch -> saveHoldings(batch, updatedAt, credentialsId, tableName, connection));
+  }
+
+  private Future<Void> saveSeenHoldings(Set<DbHoldingInfo> holdings, long generation, UUID credentialsId,
+                                        String tenantId, PgConnection connection) {
+    final Tuple parameters = Tuple.of(credentialsId, generation)
+      .addArrayOfString(holdings.stream().map(this::getHoldingsId).toArray(String[]::new));
+    return executeQuery(insertSeenHoldings(tenantId), parameters, connection);
+  }
+
   private Future<Void> saveHoldings(List<DbHoldingInfo> holdings, OffsetDateTime updatedAt,
-                                    UUID credentialsId, String tenantId,
+                                    UUID credentialsId, String tableName,
                                     PgConnection connection) {
     final Tuple parameters = createParameters(credentialsId, holdings, updatedAt);
-    final String query = insertOrUpdateHoldings(tenantId, holdings);
+    final String query = insertOrUpdateHoldingsInto(tableName, holdings);
+    logInsertQuery(log, query, parameters);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    connection
+      .preparedQuery(query)
+      .execute(parameters)
+      .onComplete(promise);
+
+    return promise.future().map(nothing());
+  }
+
+  private Future<Void> saveHoldingsInBulk(List<DbHoldingInfo> holdings, OffsetDateTime updatedAt,
+                                          UUID credentialsId, String tableName,
+                                          PgConnection connection) {
+    final Tuple parameters = createBulkParameters(credentialsId, holdings, updatedAt);
+    final String query = insertOrUpdateHoldingsInBulk(tableName);
     logInsertQuery(log, query, parameters);
 
     Promise<RowSet<Row>> promise = Promise.promise();
@@ -127,6 +282,66 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
     return promise.future().map(nothing());
   }
 
+  /**
+   * Detaches partition of credentials from holdings table if it is attached, detach interrupted before is completed.
+   */
+  private Future<Void> detachPartition(UUID credentialsId, String tenantId, PgConnection connection) {
+    final String query = selectPartitionDetachPending(tenantId, credentialsId);
+    logSelectQuery(log, query);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    connection
+      .query(query)
+      .execute()
+      .onComplete(promise);
+
+    return promise.future().compose(rows -> {
+      if (rows.size() == 0) {
+        return Future.succeededFuture();
+      }
+      boolean detachPending = rows.iterator().next().getBoolean(0);
+      return executeQuery(detachPending
+                          ? finalizeDetachPartition(tenantId, credentialsId)
+                          : detachPartitionConcurrently(tenantId, credentialsId), connection);
+    });
+  }
+
+  private Future<Void> executeQuery(String query, PgConnection connection) {
+    logUpdateQuery(log, query, Tuple.tuple());
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    connection
+      .query(query)
+      .execute()
+      .onComplete(promise);
+
+    return promise.future().map(nothing());
+  }
+
+  private Future<Void> executeQuery(String query, Tuple params, PgConnection connection) {
+    logUpdateQuery(log, query, params);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    connection
+      .preparedQuery(query)
+      .execute(params)
+      .onComplete(promise);
+
+    return promise.future().map(nothing());
+  }
+
+  private Future<Boolean> selectFlag(String query, PgConnection connection) {
+    logSelectQuery(log, query);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    connection
+      .query(query)
+      .execute()
+      .onComplete(promise);
+
+    return promise.future().map(rows -> rows.iterator().next().getBoolean(0));
+  }
+
   private Future<Void> deleteHoldings(List<HoldingsId> holdings, UUID credentialsId, String tenantId,
                                       PgConnection connection) {
     var params = getHoldingsPkKeysParams(credentialsId, mapItems(holdings, IdParser::getResourceId));
@@ -160,6 +375,15 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
     return future;
   }
 
+  private Future<Void> readInChunks(Cursor cursor, int chunkSize, Consumer<List<DbHoldingInfo>> chunkConsumer) {
+    return cursor.read(chunkSize).compose(rows -> {
+      chunkConsumer.accept(mapHoldings(rows));
+      return cursor.hasMore()
+             ? readInChunks(cursor, chunkSize, chunkConsumer)
+             : Future.succeededFuture();
+    });
+  }
+
   private List<DbHoldingInfo> mapHoldings(RowSet<Row> resultSet) {
     return RowSetUtils.mapItems(resultSet, row -> DbHoldingInfo.builder()
       .titleId(row.getInteger(TITLE_ID_COLUMN))
@@ -187,11 +411,24 @@ public class HoldingsRepositoryImpl implements HoldingsRepository {
       params.addValue(holding.getResourceType());
       params.addValue(holding.getPublisherName());
       params.addValue(holding.getPublicationTitle());
+      params.addValue(HoldingsContentHash.of(holding));
       params.addValue(updatedAt);
     });
     return params;
   }
 
+  private Tuple createBulkParameters(UUID credentialsId, List<DbHoldingInfo> holdings, OffsetDateTime updatedAt) {
+    return Tuple.of(credentialsId, updatedAt)
+      .addArrayOfString(holdings.stream().map(this::getHoldingsId).toArray(String[]::new))
+      .addArrayOfInteger(holdings.stream().map(DbHoldingInfo::getVendorId).toArray(Integer[]::new))
+      .addArrayOfInteger(holdings.stream().map(DbHoldingInfo::getPackageId).toArray(Integer[]::new))
+      .addArrayOfInteger(holdings.stream().map(DbHoldingInfo::getTitleId).toArray(Integer[]::new))
+      .addArrayOfString(holdings.stream().map(DbHoldingInfo::getResourceType).toArray(String[]::new))
+      .addArrayOfString(holdings.stream().map(DbHoldingInfo::getPublisherName).toArray(String[]::new))
+      .addArrayOfString(holdings.stream().map(DbHoldingInfo::getPublicationTitle).toArray(String[]::new))
+      .addArrayOfLong(holdings.stream().map(HoldingsContentHash::of).toArray(Long[]::new));
+  }
+
   private Tuple getHoldingsPkKeysParams(UUID credentialsId, List<String> resourceIds) {
     var parameters = Tuple.tuple();
     for (String resourceId : resourceIds) {
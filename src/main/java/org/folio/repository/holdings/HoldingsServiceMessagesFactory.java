@@ -1,5 +1,7 @@
 package org.folio.repository.holdings;
 
+import org.folio.holdingsiq.model.Configuration;
+import org.folio.repository.holdings.status.retry.RetryJob;
 import org.folio.service.holdings.HoldingsStatus;
 import org.folio.service.holdings.message.ConfigurationMessage;
 import org.folio.service.holdings.message.LoadFailedMessage;
@@ -56,18 +58,21 @@ public final class HoldingsServiceMessagesFactory {
       message.getTotalCount(),
       message.getTotalPages(),
       message.getTransactionId(),
-      previousTransactionId);
+      previousTransactionId,
+      1);
   }
 
   @NonNull
-  public static LoadHoldingsMessage getLoadHoldingsMessage(LoadFailedMessage message, String previousTransactionId) {
+  public static LoadHoldingsMessage getLoadHoldingsMessage(Configuration configuration, RetryJob job, String tenantId,
+                                                           String previousTransactionId) {
     return new LoadHoldingsMessage(
-      message.getConfiguration(),
-      message.getCredentialsId(),
-      message.getTenantId(),
-      message.getTotalCount(),
-      message.getTotalPages(),
-      message.getTransactionId(),
-      previousTransactionId);
+      configuration,
+      job.getCredentialsId().toString(),
+      tenantId,
+      job.getTotalCount(),
+      job.getTotalPages(),
+      job.getTransactionId(),
+      previousTransactionId,
+      1);
   }
 }
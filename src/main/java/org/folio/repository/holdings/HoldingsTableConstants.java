@@ -2,21 +2,24 @@ package org.folio.repository.holdings;
 
 import static org.folio.common.ListUtils.createPlaceholders;
 import static org.folio.repository.DbUtil.getHoldingsTableName;
+import static org.folio.repository.DbUtil.getKbCredentialsTableName;
+import static org.folio.repository.DbUtil.getTableName;
 import static org.folio.repository.DbUtil.prepareQuery;
 import static org.folio.repository.SqlQueryHelper.deleteQuery;
-import static org.folio.repository.SqlQueryHelper.equalCondition;
 import static org.folio.repository.SqlQueryHelper.joinWithComma;
-import static org.folio.repository.SqlQueryHelper.lessThanCondition;
 import static org.folio.repository.SqlQueryHelper.selectQuery;
 import static org.folio.repository.SqlQueryHelper.updateOnConflictedIdQuery;
-import static org.folio.repository.SqlQueryHelper.whereConditionsQuery;
 import static org.folio.repository.SqlQueryHelper.whereQuery;
 
 import java.util.List;
+import java.util.UUID;
 
 public final class HoldingsTableConstants {
 
   public static final String HOLDINGS_TABLE = "holdings";
+  public static final String HOLDINGS_SNAPSHOT_TABLE_PREFIX = "holdings_snapshot_";
+  public static final String HOLDINGS_PARTITION_PREFIX = "holdings_";
+  public static final String HOLDINGS_SEEN_TABLE = "holdings_seen";
   public static final String ID_COLUMN = "id";
   public static final String CREDENTIALS_ID_COLUMN = "credentials_id";
   public static final String TITLE_ID_COLUMN = "title_id";
@@ -25,16 +28,30 @@ public final class HoldingsTableConstants {
   public static final String RESOURCE_TYPE_COLUMN = "resource_type";
   public static final String PUBLISHER_NAME_COLUMN = "publisher_name";
   public static final String PUBLICATION_TITLE_COLUMN = "publication_title";
+  public static final String CONTENT_HASH_COLUMN = "content_hash";
   public static final String UPDATED_AT_COLUMN = "updated_at";
+  public static final String GENERATION_COLUMN = "generation";
 
+  private static final String HOLDINGS_CREDENTIALS_FK = "fk_holdings_kb_credentials";
+  // shorter than partition index suffix to keep snapshot index name within identifier length limit
+  private static final String SNAPSHOT_PACKAGE_ID_INDEX_SUFFIX = "_pkg_idx";
   private static final String PK_HOLDINGS = joinWithComma(CREDENTIALS_ID_COLUMN, ID_COLUMN);
   private static final String ALL_COLUMNS = joinWithComma(PK_HOLDINGS, VENDOR_ID_COLUMN,
     PACKAGE_ID_COLUMN, TITLE_ID_COLUMN, RESOURCE_TYPE_COLUMN, PUBLISHER_NAME_COLUMN, PUBLICATION_TITLE_COLUMN,
-    UPDATED_AT_COLUMN);
+    CONTENT_HASH_COLUMN, UPDATED_AT_COLUMN);
+
+  private static final String MUTABLE_COLUMNS = joinWithComma(ID_COLUMN, VENDOR_ID_COLUMN, PACKAGE_ID_COLUMN,
+    TITLE_ID_COLUMN, RESOURCE_TYPE_COLUMN, PUBLISHER_NAME_COLUMN, PUBLICATION_TITLE_COLUMN, CONTENT_HASH_COLUMN);
 
   private static final String[] EXCLUDE_COLUMNS = new String[] {
     VENDOR_ID_COLUMN, PACKAGE_ID_COLUMN, TITLE_ID_COLUMN,
-    RESOURCE_TYPE_COLUMN, PUBLISHER_NAME_COLUMN, PUBLICATION_TITLE_COLUMN, UPDATED_AT_COLUMN};
+    RESOURCE_TYPE_COLUMN, PUBLISHER_NAME_COLUMN, PUBLICATION_TITLE_COLUMN, CONTENT_HASH_COLUMN, UPDATED_AT_COLUMN};
+
+  /**
+   * Existing row is updated only when its content is changed, unchanged rows are left untouched.
+   */
+  private static final String UPSERT_CHANGED_ONLY = updateOnConflictedIdQuery(PK_HOLDINGS, EXCLUDE_COLUMNS)
+    + " WHERE h." + CONTENT_HASH_COLUMN + " IS DISTINCT FROM EXCLUDED." + CONTENT_HASH_COLUMN;
 
   private HoldingsTableConstants() {
   }
@@ -57,20 +74,182 @@ public final class HoldingsTableConstants {
     return prepareQuery(selectByPackageIdAndCredentialsQuery(), getHoldingsTableName(tenantId));
   }
 
-  public static String deleteOldRecordsByCredentialsId(String tenantId) {
-    return prepareQuery(deleteOldRecordsByCredentialsIdQuery(), getHoldingsTableName(tenantId));
+  public static String insertOrUpdateHoldings(String tenantId, List<DbHoldingInfo> holdings) {
+    return insertOrUpdateHoldingsInto(getHoldingsTableName(tenantId), holdings);
   }
 
-  public static String insertOrUpdateHoldings(String tenantId, List<DbHoldingInfo> holdings) {
+  public static String insertOrUpdateHoldingsInto(String tableName, List<DbHoldingInfo> holdings) {
     return prepareQuery(insertOrUpdateHoldings(),
-      getHoldingsTableName(tenantId),
-      createPlaceholders(9, holdings.size())
+      tableName,
+      createPlaceholders(10, holdings.size())
     );
   }
 
   public static String insertOrUpdateHoldings() {
-    return "INSERT INTO %s (" + ALL_COLUMNS + ") VALUES %s "
-      + updateOnConflictedIdQuery(PK_HOLDINGS, EXCLUDE_COLUMNS);
+    return "INSERT INTO %s AS h (" + ALL_COLUMNS + ") VALUES %s " + UPSERT_CHANGED_ONLY;
+  }
+
+  public static String insertOrUpdateHoldingsInBulk(String tableName) {
+    return prepareQuery(insertOrUpdateHoldingsInBulkQuery(), tableName);
+  }
+
+  /**
+   * Returns name of the table that accumulates new snapshot of holdings for credentials
+   * until it is swapped into holdings table.
+   */
+  public static String getSnapshotTableName(String tenantId, UUID credentialsId) {
+    return getTableName(tenantId, HOLDINGS_SNAPSHOT_TABLE_PREFIX + toTableSuffix(credentialsId));
+  }
+
+  /**
+   * Returns name of the holdings table partition that stores holdings of credentials.
+   */
+  public static String getPartitionName(String tenantId, UUID credentialsId) {
+    return getTableName(tenantId, HOLDINGS_PARTITION_PREFIX + toTableSuffix(credentialsId));
+  }
+
+  public static String createPartition(String tenantId, UUID credentialsId) {
+    return String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES IN ('%s');",
+      getPartitionName(tenantId, credentialsId), getHoldingsTableName(tenantId), credentialsId);
+  }
+
+  public static String dropPartition(String tenantId, UUID credentialsId) {
+    return String.format("DROP TABLE IF EXISTS %s;", getPartitionName(tenantId, credentialsId));
+  }
+
+  public static String dropSnapshotTable(String tenantId, UUID credentialsId) {
+    return String.format("DROP TABLE IF EXISTS %s;", getSnapshotTableName(tenantId, credentialsId));
+  }
+
+  /**
+   * Snapshot table is created with the same structure as a partition of credentials,
+   * check constraint matches the partition bound, so it is attached as a partition without validation scan.
+   */
+  public static String createSnapshotTable(String tenantId, UUID credentialsId) {
+    return String.format("CREATE UNLOGGED TABLE %s (LIKE %s INCLUDING DEFAULTS, "
+                         + "PRIMARY KEY (" + PK_HOLDINGS + "), CHECK (" + CREDENTIALS_ID_COLUMN + " = '%s'));",
+      getSnapshotTableName(tenantId, credentialsId), getHoldingsTableName(tenantId), credentialsId);
+  }
+
+  public static String snapshotTableExists(String tenantId, UUID credentialsId) {
+    return String.format("SELECT to_regclass('%s') IS NOT NULL;", getSnapshotTableName(tenantId, credentialsId));
+  }
+
+  public static String snapshotTableHasRows(String tenantId, UUID credentialsId) {
+    return String.format("SELECT EXISTS (SELECT 1 FROM %s);", getSnapshotTableName(tenantId, credentialsId));
+  }
+
+  public static String setSnapshotTableLogged(String tenantId, UUID credentialsId) {
+    return String.format("ALTER TABLE %s SET LOGGED;", getSnapshotTableName(tenantId, credentialsId));
+  }
+
+  /**
+   * Index matches the package_id index of holdings table, so that it is reused when snapshot table is attached
+   * instead of being built while holdings table is locked.
+   */
+  public static String createSnapshotPackageIdIndex(String tenantId, UUID credentialsId) {
+    return String.format("CREATE INDEX IF NOT EXISTS %s ON %s (" + PACKAGE_ID_COLUMN + ");",
+      HOLDINGS_SNAPSHOT_TABLE_PREFIX + toTableSuffix(credentialsId) + SNAPSHOT_PACKAGE_ID_INDEX_SUFFIX,
+      getSnapshotTableName(tenantId, credentialsId));
+  }
+
+  /**
+   * Foreign key matches the foreign key of holdings table, so that it is reused when snapshot table is attached.
+   * It is added without validation to not lock credentials table while snapshot table is scanned.
+   */
+  public static String addSnapshotForeignKey(String tenantId, UUID credentialsId) {
+    return String.format("ALTER TABLE %s ADD CONSTRAINT " + HOLDINGS_CREDENTIALS_FK
+                         + " FOREIGN KEY (" + CREDENTIALS_ID_COLUMN + ") REFERENCES %s (" + ID_COLUMN + ") "
+                         + "ON DELETE CASCADE NOT VALID;",
+      getSnapshotTableName(tenantId, credentialsId), getKbCredentialsTableName(tenantId));
+  }
+
+  public static String validateSnapshotForeignKey(String tenantId, UUID credentialsId) {
+    return String.format("ALTER TABLE %s VALIDATE CONSTRAINT " + HOLDINGS_CREDENTIALS_FK + ";",
+      getSnapshotTableName(tenantId, credentialsId));
+  }
+
+  /**
+   * Selects whether detach of the partition of credentials is pending, no rows are selected if partition
+   * is not attached to holdings table.
+   */
+  public static String selectPartitionDetachPending(String tenantId, UUID credentialsId) {
+    return String.format("SELECT inhdetachpending FROM pg_inherits WHERE inhrelid = to_regclass('%s') "
+                         + "AND inhparent = to_regclass('%s');",
+      getPartitionName(tenantId, credentialsId), getHoldingsTableName(tenantId));
+  }
+
+  /**
+   * Detaches partition without blocking reads and writes of holdings table, must not run in a transaction block.
+   */
+  public static String detachPartitionConcurrently(String tenantId, UUID credentialsId) {
+    return String.format("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY;",
+      getHoldingsTableName(tenantId), getPartitionName(tenantId, credentialsId));
+  }
+
+  /**
+   * Completes concurrent detach of partition that was interrupted.
+   */
+  public static String finalizeDetachPartition(String tenantId, UUID credentialsId) {
+    return String.format("ALTER TABLE %s DETACH PARTITION %s FINALIZE;",
+      getHoldingsTableName(tenantId), getPartitionName(tenantId, credentialsId));
+  }
+
+  public static String renameSnapshotTableToPartition(String tenantId, UUID credentialsId) {
+    String partition = HOLDINGS_PARTITION_PREFIX + toTableSuffix(credentialsId);
+    String snapshotTable = getSnapshotTableName(tenantId, credentialsId);
+    return String.format("ALTER TABLE %s RENAME TO %s; ALTER INDEX %s RENAME TO %s; ALTER INDEX %s RENAME TO %s;",
+      snapshotTable, partition,
+      snapshotTable + "_pkey", partition + "_pkey",
+      snapshotTable + SNAPSHOT_PACKAGE_ID_INDEX_SUFFIX, partition + "_package_id_idx");
+  }
+
+  public static String attachPartition(String tenantId, UUID credentialsId) {
+    return String.format("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES IN ('%s');",
+      getHoldingsTableName(tenantId), getPartitionName(tenantId, credentialsId), credentialsId);
+  }
+
+  public static String insertSeenHoldings(String tenantId) {
+    return prepareQuery("INSERT INTO %s (" + joinWithComma(CREDENTIALS_ID_COLUMN, GENERATION_COLUMN, ID_COLUMN) + ") "
+                        + "SELECT ?, ?, unnest(?::varchar[]) ON CONFLICT DO NOTHING;",
+      getTableName(tenantId, HOLDINGS_SEEN_TABLE));
+  }
+
+  public static String seenHoldingsExist(String tenantId) {
+    return prepareQuery("SELECT EXISTS (SELECT 1 FROM %s "
+                        + whereQuery(CREDENTIALS_ID_COLUMN, GENERATION_COLUMN) + ");",
+      getTableName(tenantId, HOLDINGS_SEEN_TABLE));
+  }
+
+  public static String deleteSeenHoldings(String tenantId) {
+    return prepareQuery(deleteQuery() + " " + whereQuery(CREDENTIALS_ID_COLUMN) + ";",
+      getTableName(tenantId, HOLDINGS_SEEN_TABLE));
+  }
+
+  /**
+   * Deletes holdings of credentials that were not received by the load with given generation.
+   */
+  public static String deleteNotSeenHoldings(String tenantId) {
+    return prepareQuery("DELETE FROM %s h WHERE h." + CREDENTIALS_ID_COLUMN + " = ? AND NOT EXISTS ("
+                        + "SELECT 1 FROM %s s WHERE s." + CREDENTIALS_ID_COLUMN + " = h." + CREDENTIALS_ID_COLUMN
+                        + " AND s." + GENERATION_COLUMN + " = ? AND s." + ID_COLUMN + " = h." + ID_COLUMN + ");",
+      getHoldingsTableName(tenantId), getTableName(tenantId, HOLDINGS_SEEN_TABLE));
+  }
+
+  /**
+   * Query that upserts whole page of holdings with one statement.
+   * Column values are bound as arrays, that are expanded into rows by unnest().
+   */
+  private static String insertOrUpdateHoldingsInBulkQuery() {
+    return "INSERT INTO %s AS h (" + ALL_COLUMNS + ") "
+      + "SELECT ?, " + MUTABLE_COLUMNS + ", ? "
+      + "FROM unnest(?::varchar[], ?::int[], ?::int[], ?::int[], ?::varchar[], ?::varchar[], ?::varchar[], "
+      + "?::bigint[]) AS t(" + MUTABLE_COLUMNS + ") "
+      + UPSERT_CHANGED_ONLY;
+  }
+
+  private static String toTableSuffix(UUID credentialsId) {
+    return credentialsId.toString().replace("-", "");
   }
 
   private static String deleteByPkHoldingsQuery() {
@@ -84,9 +263,4 @@ public final class HoldingsTableConstants {
   private static String selectByPackageIdAndCredentialsQuery() {
     return selectQuery() + " " + whereQuery(PACKAGE_ID_COLUMN, CREDENTIALS_ID_COLUMN) + ";";
   }
-
-  private static String deleteOldRecordsByCredentialsIdQuery() {
-    return deleteQuery() + " "
-      + whereConditionsQuery(equalCondition(CREDENTIALS_ID_COLUMN), lessThanCondition(UPDATED_AT_COLUMN)) + ";";
-  }
 }
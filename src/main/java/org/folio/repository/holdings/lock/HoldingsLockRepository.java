@@ -0,0 +1,19 @@
+package org.folio.repository.holdings.lock;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface HoldingsLockRepository {
+
+  /**
+   * Acquires lease of the lock for given owner.
+   * Lease that is held by other owner can be acquired only after it expires.
+   *
+   * @return true if the lease is acquired
+   */
+  CompletableFuture<Boolean> tryAcquire(String lockName, String ownerId, long leaseDuration, String tenantId);
+
+  /**
+   * Releases lease of the lock, does nothing if the lease is held by other owner.
+   */
+  CompletableFuture<Void> release(String lockName, String ownerId, String tenantId);
+}
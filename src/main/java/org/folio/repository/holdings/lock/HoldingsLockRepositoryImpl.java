@@ -0,0 +1,57 @@
+package org.folio.repository.holdings.lock;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logDeleteQuery;
+import static org.folio.common.LogUtils.logInsertQuery;
+import static org.folio.db.DbUtils.createParams;
+import static org.folio.db.RowSetUtils.isEmpty;
+import static org.folio.repository.holdings.lock.HoldingsLockTableConstants.acquireLock;
+import static org.folio.repository.holdings.lock.HoldingsLockTableConstants.releaseLock;
+import static org.folio.util.FutureUtils.mapResult;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class HoldingsLockRepositoryImpl implements HoldingsLockRepository {
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public HoldingsLockRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<Boolean> tryAcquire(String lockName, String ownerId, long leaseDuration, String tenantId) {
+    final String query = acquireLock(tenantId);
+    final Tuple parameters = createParams(lockName, ownerId, leaseDuration);
+    logInsertQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), rowSet -> !isEmpty(rowSet));
+  }
+
+  @Override
+  public CompletableFuture<Void> release(String lockName, String ownerId, String tenantId) {
+    final String query = releaseLock(tenantId);
+    final Tuple parameters = createParams(lockName, ownerId);
+    logDeleteQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  private PostgresClient pgClient(String tenantId) {
+    return PostgresClient.getInstance(vertx, tenantId);
+  }
+}
@@ -0,0 +1,43 @@
+package org.folio.repository.holdings.lock;
+
+import static org.folio.repository.DbUtil.getHoldingsLoadLockTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.joinWithComma;
+
+public final class HoldingsLockTableConstants {
+
+  public static final String HOLDINGS_LOAD_LOCK_TABLE = "holdings_load_lock";
+  public static final String LOCK_NAME_COLUMN = "lock_name";
+  public static final String OWNER_ID_COLUMN = "owner_id";
+  public static final String EXPIRES_AT_COLUMN = "expires_at";
+  public static final String HOLDINGS_LOAD_LOCK_FIELD_LIST = joinWithComma(LOCK_NAME_COLUMN, OWNER_ID_COLUMN,
+    EXPIRES_AT_COLUMN);
+
+  private HoldingsLockTableConstants() {
+  }
+
+  public static String acquireLock(String tenantId) {
+    return prepareQuery(acquireLockQuery(), getHoldingsLoadLockTableName(tenantId));
+  }
+
+  public static String releaseLock(String tenantId) {
+    return prepareQuery(releaseLockQuery(), getHoldingsLoadLockTableName(tenantId));
+  }
+
+  /**
+   * Inserts lease of the lock or takes over expired lease, returns lock name only if the lease is acquired.
+   */
+  private static String acquireLockQuery() {
+    return "INSERT INTO %s AS l (" + HOLDINGS_LOAD_LOCK_FIELD_LIST + ") "
+      + "VALUES (?, ?, now() + ? * interval '1 millisecond') "
+      + "ON CONFLICT (" + LOCK_NAME_COLUMN + ") DO UPDATE SET "
+      + OWNER_ID_COLUMN + " = EXCLUDED." + OWNER_ID_COLUMN + ", "
+      + EXPIRES_AT_COLUMN + " = EXCLUDED." + EXPIRES_AT_COLUMN + " "
+      + "WHERE l." + EXPIRES_AT_COLUMN + " < now() "
+      + "RETURNING " + LOCK_NAME_COLUMN + ";";
+  }
+
+  private static String releaseLockQuery() {
+    return "DELETE FROM %s WHERE " + LOCK_NAME_COLUMN + "=? AND " + OWNER_ID_COLUMN + "=?;";
+  }
+}
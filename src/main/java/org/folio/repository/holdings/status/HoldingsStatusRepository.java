@@ -17,6 +17,12 @@ public interface HoldingsStatusRepository {
 
   CompletableFuture<Void> delete(UUID credentialsId, String tenantId);
 
+  /**
+   * Sets imported holdings and pages counted by the load, the status is left unchanged if it already
+   * contains more imported pages.
+   */
+  CompletableFuture<Void> setImportedCount(int importedCount, int importedPages, UUID credentialsId, String tenantId);
+
   CompletableFuture<HoldingsLoadingStatus> increaseImportedCount(int holdingsAmount, int pageAmount, UUID credentialsId,
                                                                  String tenantId);
 }
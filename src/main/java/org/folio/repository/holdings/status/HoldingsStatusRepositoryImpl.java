@@ -16,6 +16,7 @@ import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.
 import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.getHoldingsStatusById;
 import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.getHoldingsStatuses;
 import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.insertLoadingStatus;
+import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.setImportedCount;
 import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.updateImportedCount;
 import static org.folio.repository.holdings.status.HoldingsStatusTableConstants.updateLoadingStatus;
 import static org.folio.util.FutureUtils.mapResult;
@@ -97,6 +98,18 @@ public class HoldingsStatusRepositoryImpl implements HoldingsStatusRepository {
     return mapVertxFuture(promise.future().recover(excTranslator.translateOrPassBy())).thenApply(nothing());
   }
 
+  @Override
+  public CompletableFuture<Void> setImportedCount(int importedCount, int importedPages, UUID credentialsId,
+                                                  String tenantId) {
+    final Tuple params = Tuple.of(importedCount, importedPages, importedPages, vertxIdProvider.getVertxId(),
+      credentialsId);
+    final String query = setImportedCount(tenantId);
+    logTraceLevel(log, "Set imported count query = {} with params = {}", query, params, false);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, params, promise::handle);
+    return mapVertxFuture(promise.future().recover(excTranslator.translateOrPassBy())).thenApply(nothing());
+  }
+
   @Override
   public CompletableFuture<HoldingsLoadingStatus> increaseImportedCount(int holdingsAmount, int pageAmount,
                                                                         UUID credentialsId, String tenantId) {
@@ -37,6 +37,10 @@ public final class HoldingsStatusTableConstants {
     return prepareQuery(updateImportedCountQuery(), getHoldingsStatusTableName(tenantId));
   }
 
+  public static String setImportedCount(String tenantId) {
+    return prepareQuery(setImportedCountQuery(), getHoldingsStatusTableName(tenantId));
+  }
+
   public static String updateLoadingStatus(String tenantId) {
     return prepareQuery(updateLoadingStatusQuery(), getHoldingsStatusTableName(tenantId));
   }
@@ -71,6 +75,19 @@ public final class HoldingsStatusTableConstants {
       + "process_id=? AND " + CREDENTIALS_COLUMN + "=?;";
   }
 
+  /**
+   * Sets imported count and pages, the status is not updated if it already contains more imported pages.
+   */
+  private static String setImportedCountQuery() {
+    return "UPDATE %s SET jsonb = jsonb_set(jsonb_set(jsonb, "
+      + "'{data,attributes,importedCount}', to_jsonb(?::int), false), "
+      + "'{data,attributes,importedPages}', to_jsonb(?::int), false) "
+      + "WHERE "
+      + "jsonb->'data'->'attributes'->>'importedCount' IS NOT NULL AND "
+      + "(jsonb->'data'->'attributes'->>'importedPages')::int < ? AND "
+      + "process_id=? AND " + CREDENTIALS_COLUMN + "=?;";
+  }
+
   private static String updateLoadingStatusQuery() {
     return "UPDATE %s SET " + JSONB_COLUMN + " = ? WHERE process_id=? AND " + CREDENTIALS_COLUMN + "=?;";
   }
@@ -0,0 +1,26 @@
+package org.folio.repository.holdings.status.checkpoint;
+
+import java.time.OffsetDateTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Progress of holdings load that is persisted, so that failed load can be resumed.
+ * lastPage is the highest page such that all pages up to it are written to the database,
+ * generation identifies holdings received by the load.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+public class LoadCheckpoint {
+  private String transactionId;
+  private long generation;
+  private int lastPage;
+  private int importedCount;
+  private OffsetDateTime startedAt;
+}
@@ -0,0 +1,21 @@
+package org.folio.repository.holdings.status.checkpoint;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface LoadCheckpointRepository {
+
+  CompletableFuture<LoadCheckpoint> findByCredentialsId(UUID credentialsId, String tenantId);
+
+  /**
+   * Saves checkpoint of a new load, existing checkpoint of credentials is replaced.
+   */
+  CompletableFuture<Void> save(LoadCheckpoint checkpoint, UUID credentialsId, String tenantId);
+
+  /**
+   * Moves checkpoint forward, checkpoint is never moved back to lower page.
+   */
+  CompletableFuture<Void> updateLastPage(int lastPage, int importedCount, UUID credentialsId, String tenantId);
+
+  CompletableFuture<Void> delete(UUID credentialsId, String tenantId);
+}
@@ -0,0 +1,105 @@
+package org.folio.repository.holdings.status.checkpoint;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logDeleteQuery;
+import static org.folio.common.LogUtils.logInsertQuery;
+import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.common.LogUtils.logUpdateQuery;
+import static org.folio.db.DbUtils.createParams;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.GENERATION_COLUMN;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.IMPORTED_COUNT_COLUMN;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.LAST_PAGE_COLUMN;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.STARTED_AT_COLUMN;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.TRANSACTION_ID_COLUMN;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.deleteLoadCheckpoint;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.getLoadCheckpointByCredentials;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.updateLastPage;
+import static org.folio.repository.holdings.status.checkpoint.LoadCheckpointTableConstants.upsertLoadCheckpoint;
+import static org.folio.util.FutureUtils.mapResult;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.db.RowSetUtils;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class LoadCheckpointRepositoryImpl implements LoadCheckpointRepository {
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public LoadCheckpointRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<LoadCheckpoint> findByCredentialsId(UUID credentialsId, String tenantId) {
+    final String query = getLoadCheckpointByCredentials(tenantId);
+    final Tuple parameters = Tuple.of(credentialsId);
+    logSelectQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).select(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), this::mapCheckpoint);
+  }
+
+  @Override
+  public CompletableFuture<Void> save(LoadCheckpoint checkpoint, UUID credentialsId, String tenantId) {
+    final String query = upsertLoadCheckpoint(tenantId);
+    final Tuple parameters = createParams(
+      credentialsId,
+      checkpoint.getTransactionId(),
+      checkpoint.getGeneration(),
+      checkpoint.getLastPage(),
+      checkpoint.getImportedCount(),
+      checkpoint.getStartedAt()
+    );
+    logInsertQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> updateLastPage(int lastPage, int importedCount, UUID credentialsId,
+                                                String tenantId) {
+    final String query = updateLastPage(tenantId);
+    final Tuple parameters = createParams(lastPage, importedCount, credentialsId, lastPage);
+    logUpdateQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(UUID credentialsId, String tenantId) {
+    final String query = deleteLoadCheckpoint(tenantId);
+    final Tuple parameters = Tuple.of(credentialsId);
+    logDeleteQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  private LoadCheckpoint mapCheckpoint(RowSet<Row> resultSet) {
+    return RowSetUtils.mapFirstItem(resultSet, row -> new LoadCheckpoint(
+      row.getString(TRANSACTION_ID_COLUMN),
+      row.getLong(GENERATION_COLUMN),
+      row.getInteger(LAST_PAGE_COLUMN),
+      row.getInteger(IMPORTED_COUNT_COLUMN),
+      row.getOffsetDateTime(STARTED_AT_COLUMN))
+    );
+  }
+
+  private PostgresClient pgClient(String tenantId) {
+    return PostgresClient.getInstance(vertx, tenantId);
+  }
+}
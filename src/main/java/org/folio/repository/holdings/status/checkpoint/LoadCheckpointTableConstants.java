@@ -0,0 +1,60 @@
+package org.folio.repository.holdings.status.checkpoint;
+
+import static org.folio.repository.DbUtil.getLoadCheckpointTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.joinWithComma;
+
+public final class LoadCheckpointTableConstants {
+
+  public static final String LOAD_CHECKPOINT_TABLE = "holdings_load_checkpoint";
+  public static final String CREDENTIALS_ID_COLUMN = "credentials_id";
+  public static final String TRANSACTION_ID_COLUMN = "transaction_id";
+  public static final String GENERATION_COLUMN = "generation";
+  public static final String LAST_PAGE_COLUMN = "last_page";
+  public static final String IMPORTED_COUNT_COLUMN = "imported_count";
+  public static final String STARTED_AT_COLUMN = "started_at";
+  public static final String LOAD_CHECKPOINT_FIELD_LIST = joinWithComma(CREDENTIALS_ID_COLUMN, TRANSACTION_ID_COLUMN,
+    GENERATION_COLUMN, LAST_PAGE_COLUMN, IMPORTED_COUNT_COLUMN, STARTED_AT_COLUMN);
+
+  private LoadCheckpointTableConstants() {
+  }
+
+  public static String getLoadCheckpointByCredentials(String tenantId) {
+    return prepareQuery(getLoadCheckpointByCredentialsQuery(), getLoadCheckpointTableName(tenantId));
+  }
+
+  public static String upsertLoadCheckpoint(String tenantId) {
+    return prepareQuery(upsertLoadCheckpointQuery(), getLoadCheckpointTableName(tenantId));
+  }
+
+  public static String updateLastPage(String tenantId) {
+    return prepareQuery(updateLastPageQuery(), getLoadCheckpointTableName(tenantId));
+  }
+
+  public static String deleteLoadCheckpoint(String tenantId) {
+    return prepareQuery(deleteLoadCheckpointQuery(), getLoadCheckpointTableName(tenantId));
+  }
+
+  private static String getLoadCheckpointByCredentialsQuery() {
+    return "SELECT " + LOAD_CHECKPOINT_FIELD_LIST + " FROM %s WHERE " + CREDENTIALS_ID_COLUMN + "=?;";
+  }
+
+  private static String upsertLoadCheckpointQuery() {
+    return "INSERT INTO %s (" + LOAD_CHECKPOINT_FIELD_LIST + ") VALUES (?, ?, ?, ?, ?, ?) "
+      + "ON CONFLICT (" + CREDENTIALS_ID_COLUMN + ") DO UPDATE SET "
+      + TRANSACTION_ID_COLUMN + " = EXCLUDED." + TRANSACTION_ID_COLUMN + ", "
+      + GENERATION_COLUMN + " = EXCLUDED." + GENERATION_COLUMN + ", "
+      + LAST_PAGE_COLUMN + " = EXCLUDED." + LAST_PAGE_COLUMN + ", "
+      + IMPORTED_COUNT_COLUMN + " = EXCLUDED." + IMPORTED_COUNT_COLUMN + ", "
+      + STARTED_AT_COLUMN + " = EXCLUDED." + STARTED_AT_COLUMN + ";";
+  }
+
+  private static String updateLastPageQuery() {
+    return "UPDATE %s SET " + LAST_PAGE_COLUMN + "=?, " + IMPORTED_COUNT_COLUMN + "=? WHERE "
+      + CREDENTIALS_ID_COLUMN + "=? AND " + LAST_PAGE_COLUMN + "<?;";
+  }
+
+  private static String deleteLoadCheckpointQuery() {
+    return "DELETE FROM %s WHERE " + CREDENTIALS_ID_COLUMN + "=?;";
+  }
+}
@@ -0,0 +1,30 @@
+package org.folio.repository.holdings.status.retry;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Retry of failed holdings load that is executed when it is due.
+ * Job keeps only totals of the failed load, configuration of credentials is read when the job is executed.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor
+@Builder
+public class RetryJob {
+  private UUID credentialsId;
+  private RetryJobType type;
+  private String transactionId;
+  private Integer totalCount;
+  private Integer totalPages;
+  private OffsetDateTime dueAt;
+  private int attempts;
+}
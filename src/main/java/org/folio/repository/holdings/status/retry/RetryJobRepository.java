@@ -0,0 +1,32 @@
+package org.folio.repository.holdings.status.retry;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface RetryJobRepository {
+
+  /**
+   * Saves retry job of credentials, previous job of the same credentials is replaced together with its claim.
+   */
+  CompletableFuture<Void> save(RetryJob job, String tenantId);
+
+  /**
+   * Claims due retry jobs for given instance and returns them. Claim expires after leaseDuration milliseconds,
+   * so jobs of an instance that stopped before deleting them are claimed again by other instances.
+   * Each job is returned only to one caller, even if jobs are claimed by several instances at the same time.
+   */
+  CompletableFuture<List<RetryJob>> claimDue(int limit, UUID instanceId, long leaseDuration, String tenantId);
+
+  /**
+   * Deletes retry job of credentials if it is still claimed by given instance.
+   */
+  CompletableFuture<Void> deleteClaimed(UUID credentialsId, UUID instanceId, String tenantId);
+
+  CompletableFuture<Void> delete(UUID credentialsId, String tenantId);
+
+  /**
+   * Returns ids of tenants that module is enabled for.
+   */
+  CompletableFuture<List<String>> findTenants();
+}
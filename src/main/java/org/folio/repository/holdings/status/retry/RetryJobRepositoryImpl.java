@@ -0,0 +1,121 @@
+package org.folio.repository.holdings.status.retry;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logDeleteQuery;
+import static org.folio.common.LogUtils.logInsertQuery;
+import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.common.LogUtils.logUpdateQuery;
+import static org.folio.db.DbUtils.createParams;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.ATTEMPTS_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.CREDENTIALS_ID_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.DUE_AT_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.JOB_TYPE_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.TOTAL_COUNT_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.TOTAL_PAGES_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.TRANSACTION_ID_COLUMN;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.claimDueRetryJobs;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.deleteClaimedRetryJob;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.deleteRetryJob;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.selectTenantSchemas;
+import static org.folio.repository.holdings.status.retry.RetryJobTableConstants.upsertRetryJob;
+import static org.folio.util.FutureUtils.mapResult;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.db.RowSetUtils;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class RetryJobRepositoryImpl implements RetryJobRepository {
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public RetryJobRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<Void> save(RetryJob job, String tenantId) {
+    final String query = upsertRetryJob(tenantId);
+    final Tuple parameters = createParams(job.getCredentialsId(), job.getType().name(), job.getTransactionId(),
+      job.getTotalCount(), job.getTotalPages(), job.getDueAt());
+    logInsertQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<List<RetryJob>> claimDue(int limit, UUID instanceId, long leaseDuration,
+                                                    String tenantId) {
+    final String query = claimDueRetryJobs(tenantId);
+    final Tuple parameters = Tuple.of(instanceId, leaseDuration, limit);
+    logUpdateQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), this::mapRetryJobs);
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteClaimed(UUID credentialsId, UUID instanceId, String tenantId) {
+    final String query = deleteClaimedRetryJob(tenantId);
+    final Tuple parameters = Tuple.of(credentialsId, instanceId);
+    logDeleteQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(UUID credentialsId, String tenantId) {
+    final String query = deleteRetryJob(tenantId);
+    final Tuple parameters = Tuple.of(credentialsId);
+    logDeleteQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenantId).execute(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  @Override
+  public CompletableFuture<List<String>> findTenants() {
+    final String schemaSuffix = "_" + PostgresClient.getModuleName();
+    final String query = selectTenantSchemas();
+    final Tuple parameters = Tuple.of(schemaSuffix.length(), schemaSuffix);
+    logSelectQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    PostgresClient.getInstance(vertx).select(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()),
+      rowSet -> RowSetUtils.mapItems(rowSet, row -> {
+        String schema = row.getString(0);
+        return schema.substring(0, schema.length() - schemaSuffix.length());
+      }));
+  }
+
+  private List<RetryJob> mapRetryJobs(RowSet<Row> resultSet) {
+    return RowSetUtils.mapItems(resultSet, row -> RetryJob.builder()
+      .credentialsId(row.getUUID(CREDENTIALS_ID_COLUMN))
+      .type(RetryJobType.valueOf(row.getString(JOB_TYPE_COLUMN)))
+      .transactionId(row.getString(TRANSACTION_ID_COLUMN))
+      .totalCount(row.getInteger(TOTAL_COUNT_COLUMN))
+      .totalPages(row.getInteger(TOTAL_PAGES_COLUMN))
+      .dueAt(row.getOffsetDateTime(DUE_AT_COLUMN))
+      .attempts(row.getInteger(ATTEMPTS_COLUMN))
+      .build()
+    );
+  }
+
+  private PostgresClient pgClient(String tenantId) {
+    return PostgresClient.getInstance(vertx, tenantId);
+  }
+}
@@ -0,0 +1,85 @@
+package org.folio.repository.holdings.status.retry;
+
+import static org.folio.repository.DbUtil.getRetryJobTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.joinWithComma;
+
+public final class RetryJobTableConstants {
+
+  public static final String RETRY_JOB_TABLE = "holdings_retry_job";
+  public static final String CREDENTIALS_ID_COLUMN = "credentials_id";
+  public static final String JOB_TYPE_COLUMN = "job_type";
+  public static final String TRANSACTION_ID_COLUMN = "transaction_id";
+  public static final String TOTAL_COUNT_COLUMN = "total_count";
+  public static final String TOTAL_PAGES_COLUMN = "total_pages";
+  public static final String DUE_AT_COLUMN = "due_at";
+  public static final String ATTEMPTS_COLUMN = "attempts";
+  public static final String CLAIMED_BY_COLUMN = "claimed_by";
+  public static final String CLAIMED_UNTIL_COLUMN = "claimed_until";
+  public static final String RETRY_JOB_FIELD_LIST = joinWithComma(CREDENTIALS_ID_COLUMN, JOB_TYPE_COLUMN,
+    TRANSACTION_ID_COLUMN, TOTAL_COUNT_COLUMN, TOTAL_PAGES_COLUMN, DUE_AT_COLUMN);
+
+  private RetryJobTableConstants() {
+  }
+
+  public static String upsertRetryJob(String tenantId) {
+    return prepareQuery(upsertRetryJobQuery(), getRetryJobTableName(tenantId));
+  }
+
+  public static String claimDueRetryJobs(String tenantId) {
+    String tableName = getRetryJobTableName(tenantId);
+    return prepareQuery(claimDueRetryJobsQuery(), tableName, tableName);
+  }
+
+  public static String deleteClaimedRetryJob(String tenantId) {
+    return prepareQuery(deleteClaimedRetryJobQuery(), getRetryJobTableName(tenantId));
+  }
+
+  public static String deleteRetryJob(String tenantId) {
+    return prepareQuery(deleteRetryJobQuery(), getRetryJobTableName(tenantId));
+  }
+
+  /**
+   * Selects schemas of tenants that have retry job table.
+   */
+  public static String selectTenantSchemas() {
+    return prepareQuery("SELECT nspname FROM pg_namespace WHERE right(nspname, ?) = ? "
+      + "AND to_regclass(quote_ident(nspname) || '." + RETRY_JOB_TABLE + "') IS NOT NULL;");
+  }
+
+  private static String upsertRetryJobQuery() {
+    return "INSERT INTO %s (" + RETRY_JOB_FIELD_LIST + ") VALUES (?, ?, ?, ?, ?, ?) "
+      + "ON CONFLICT (" + CREDENTIALS_ID_COLUMN + ") DO UPDATE SET "
+      + JOB_TYPE_COLUMN + " = EXCLUDED." + JOB_TYPE_COLUMN + ", "
+      + TRANSACTION_ID_COLUMN + " = EXCLUDED." + TRANSACTION_ID_COLUMN + ", "
+      + TOTAL_COUNT_COLUMN + " = EXCLUDED." + TOTAL_COUNT_COLUMN + ", "
+      + TOTAL_PAGES_COLUMN + " = EXCLUDED." + TOTAL_PAGES_COLUMN + ", "
+      + DUE_AT_COLUMN + " = EXCLUDED." + DUE_AT_COLUMN + ", "
+      + ATTEMPTS_COLUMN + " = 0, "
+      + CLAIMED_BY_COLUMN + " = NULL, "
+      + CLAIMED_UNTIL_COLUMN + " = NULL;";
+  }
+
+  /**
+   * Claims due jobs that are not claimed or whose claim has expired and returns them.
+   * Jobs that are being claimed by other instance are skipped, every claim is counted as an attempt.
+   */
+  private static String claimDueRetryJobsQuery() {
+    return "UPDATE %s SET " + CLAIMED_BY_COLUMN + " = ?, "
+      + CLAIMED_UNTIL_COLUMN + " = now() + ? * interval '1 millisecond', "
+      + ATTEMPTS_COLUMN + " = " + ATTEMPTS_COLUMN + " + 1 "
+      + "WHERE " + CREDENTIALS_ID_COLUMN + " IN ("
+      + "SELECT " + CREDENTIALS_ID_COLUMN + " FROM %s WHERE " + DUE_AT_COLUMN + " <= now() "
+      + "AND (" + CLAIMED_UNTIL_COLUMN + " IS NULL OR " + CLAIMED_UNTIL_COLUMN + " <= now()) "
+      + "ORDER BY " + DUE_AT_COLUMN + " LIMIT ? FOR UPDATE SKIP LOCKED) "
+      + "RETURNING " + RETRY_JOB_FIELD_LIST + ", " + ATTEMPTS_COLUMN + ";";
+  }
+
+  private static String deleteClaimedRetryJobQuery() {
+    return "DELETE FROM %s WHERE " + CREDENTIALS_ID_COLUMN + "=? AND " + CLAIMED_BY_COLUMN + "=?;";
+  }
+
+  private static String deleteRetryJobQuery() {
+    return "DELETE FROM %s WHERE " + CREDENTIALS_ID_COLUMN + "=?;";
+  }
+}
@@ -0,0 +1,6 @@
+package org.folio.repository.holdings.status.retry;
+
+public enum RetryJobType {
+  CREATE_SNAPSHOT,
+  LOAD_HOLDINGS
+}
@@ -6,12 +6,15 @@ import static org.folio.common.FunctionUtils.nothing;
 import static org.folio.common.LogUtils.logDeleteQuery;
 import static org.folio.common.LogUtils.logInsertQuery;
 import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.common.LogUtils.logUpdateQuery;
 import static org.folio.db.DbUtils.createParams;
 import static org.folio.db.RowSetUtils.isEmpty;
 import static org.folio.db.RowSetUtils.mapFirstItem;
 import static org.folio.db.RowSetUtils.mapItems;
 import static org.folio.repository.DbUtil.foreignKeyConstraintRecover;
 import static org.folio.repository.DbUtil.uniqueConstraintRecover;
+import static org.folio.repository.holdings.HoldingsTableConstants.dropPartition;
+import static org.folio.repository.holdings.HoldingsTableConstants.dropSnapshotTable;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.API_KEY_COLUMN;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.CUSTOMER_ID_COLUMN;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.ID_COLUMN;
@@ -27,6 +30,7 @@ import static org.folio.util.FutureUtils.mapResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnection;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.Tuple;
@@ -111,11 +115,12 @@ public class KbCredentialsRepositoryImpl implements KbCredentialsRepository {
     String query = deleteCredentialsQuery(tenant);
     Tuple params = Tuple.of(id);
 
-    logDeleteQuery(log, query, params);
-    Promise<RowSet<Row>> promise = Promise.promise();
-    pgClient(tenant).execute(query, params, promise::handle);
-
-    Future<RowSet<Row>> resultFuture = promise.future()
+    Future<RowSet<Row>> resultFuture = pgClient(tenant).withTransaction(connection ->
+      dropHoldingsPartition(id, tenant, connection)
+        .compose(o -> {
+          logDeleteQuery(log, query, params);
+          return connection.preparedQuery(query).execute(params);
+        }))
       .recover(excTranslator.translateOrPassBy())
       .recover(foreignKeyConstraintViolation());
     return mapResult(resultFuture, nothing());
@@ -181,6 +186,20 @@ public class KbCredentialsRepositoryImpl implements KbCredentialsRepository {
       format(CREDENTIALS_CUSTOMERID_URL_UNIQUENESS_DETAILS, customerId, url)));
   }
 
+  /**
+   * Holdings partition of credentials is dropped before credentials are deleted,
+   * so that holdings are not deleted one by one by the cascade of holdings foreign key.
+   */
+  private Future<Void> dropHoldingsPartition(UUID id, String tenant, PgConnection connection) {
+    String dropSnapshotQuery = dropSnapshotTable(tenant, id);
+    String dropPartitionQuery = dropPartition(tenant, id);
+    logUpdateQuery(log, dropSnapshotQuery, Tuple.tuple());
+    logUpdateQuery(log, dropPartitionQuery, Tuple.tuple());
+    return connection.query(dropSnapshotQuery).execute()
+      .compose(o -> connection.query(dropPartitionQuery).execute())
+      .map(nothing());
+  }
+
   private Function<Throwable, Future<RowSet<Row>>> foreignKeyConstraintViolation() {
     return foreignKeyConstraintRecover(new BadRequestException(CREDENTIALS_DELETE_ALLOWED_DETAILS));
   }
@@ -0,0 +1,6 @@
+package org.folio.repository.uc;
+
+import io.vertx.core.json.JsonObject;
+import java.time.OffsetDateTime;
+
+public record DbPackageCostPerUse(JsonObject parameters, int totalResults, OffsetDateTime computedAt) { }
@@ -0,0 +1,4 @@
+package org.folio.repository.uc;
+
+public record DbResourceCostPerUse(String resourceId, String name, String publicationType, Double cost,
+                                   Integer usage, Double costPerUse, Double percent) { }
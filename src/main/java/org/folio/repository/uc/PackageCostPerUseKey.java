@@ -0,0 +1,8 @@
+package org.folio.repository.uc;
+
+import java.util.UUID;
+
+/**
+ * Identifies cost per use of package resources computed for fiscal year and platform type.
+ */
+public record PackageCostPerUseKey(UUID credentialsId, int packageId, String fiscalYear, String platformType) { }
@@ -0,0 +1,34 @@
+package org.folio.repository.uc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.folio.rest.jaxrs.model.Order;
+import org.folio.service.uc.sorting.CostPerUseSort;
+
+/**
+ * Stores cost per use of package resources, so that pages of resources are read without recomputing
+ * cost of the whole package.
+ */
+public interface PackageCostPerUseRepository {
+
+  CompletableFuture<Optional<DbPackageCostPerUse>> findPackage(PackageCostPerUseKey key, String tenant);
+
+  /**
+   * Finds page of package resources ordered by sort.
+   */
+  CompletableFuture<List<DbResourceCostPerUse>> findResources(PackageCostPerUseKey key, CostPerUseSort sort,
+                                                              Order order, int offset, int limit, String tenant);
+
+  /**
+   * Replaces stored cost per use of package resources.
+   */
+  CompletableFuture<Void> save(PackageCostPerUseKey key, DbPackageCostPerUse packageCostPerUse,
+                               List<DbResourceCostPerUse> resources, String tenant);
+
+  /**
+   * Deletes cost per use of all packages of credentials.
+   */
+  CompletableFuture<Void> deleteByCredentialsId(UUID credentialsId, String tenant);
+}
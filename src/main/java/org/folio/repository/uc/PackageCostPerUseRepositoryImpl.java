@@ -0,0 +1,154 @@
+package org.folio.repository.uc;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logDeleteQuery;
+import static org.folio.common.LogUtils.logInsertQuery;
+import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.db.RowSetUtils.isEmpty;
+import static org.folio.db.RowSetUtils.mapFirstItem;
+import static org.folio.repository.DbUtil.pgClient;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.COMPUTED_AT_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.COST_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.COST_PER_USE_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.NAME_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.PARAMETERS_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.PERCENT_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.PUBLICATION_TYPE_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.RESOURCE_ID_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.TOTAL_RESULTS_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.USAGE_COLUMN;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.deletePackageCostPerUseByCredentialsId;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.deleteResourceCostPerUse;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.insertResourceCostPerUse;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.selectPackageCostPerUse;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.selectResourceCostPerUse;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.upsertPackageCostPerUse;
+import static org.folio.util.FutureUtils.mapResult;
+import static org.folio.util.FutureUtils.mapVertxFuture;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.db.RowSetUtils;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.jaxrs.model.Order;
+import org.folio.service.uc.sorting.CostPerUseSort;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class PackageCostPerUseRepositoryImpl implements PackageCostPerUseRepository {
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public PackageCostPerUseRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<Optional<DbPackageCostPerUse>> findPackage(PackageCostPerUseKey key, String tenant) {
+    String query = selectPackageCostPerUse(tenant);
+    Tuple params = createKeyParams(key);
+
+    logSelectQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).select(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), this::mapPackageCostPerUse);
+  }
+
+  @Override
+  public CompletableFuture<List<DbResourceCostPerUse>> findResources(PackageCostPerUseKey key, CostPerUseSort sort,
+                                                                     Order order, int offset, int limit,
+                                                                     String tenant) {
+    String query = selectResourceCostPerUse(tenant, sort, order);
+    Tuple params = createKeyParams(key).addInteger(offset).addInteger(limit);
+
+    logSelectQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).select(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), this::mapResourceCostPerUse);
+  }
+
+  @Override
+  public CompletableFuture<Void> save(PackageCostPerUseKey key, DbPackageCostPerUse packageCostPerUse,
+                                      List<DbResourceCostPerUse> resources, String tenant) {
+    Future<Void> future = pgClient(tenant, vertx).withTransaction(connection ->
+      execute(upsertPackageCostPerUse(tenant), createKeyParams(key)
+        .addJsonObject(packageCostPerUse.parameters())
+        .addInteger(packageCostPerUse.totalResults())
+        .addOffsetDateTime(packageCostPerUse.computedAt()), connection)
+        .compose(o -> execute(deleteResourceCostPerUse(tenant), createKeyParams(key), connection))
+        .compose(o -> execute(insertResourceCostPerUse(tenant), createResourceParams(key, resources), connection))
+    );
+    return mapVertxFuture(future);
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteByCredentialsId(UUID credentialsId, String tenant) {
+    String query = deletePackageCostPerUseByCredentialsId(tenant);
+    Tuple params = Tuple.of(credentialsId);
+
+    logDeleteQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()), nothing());
+  }
+
+  private Future<Void> execute(String query, Tuple params, PgConnection connection) {
+    logInsertQuery(log, query, params);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    connection
+      .preparedQuery(query)
+      .execute(params)
+      .onComplete(promise);
+    return promise.future().recover(excTranslator.translateOrPassBy()).map(nothing());
+  }
+
+  private Tuple createKeyParams(PackageCostPerUseKey key) {
+    return Tuple.of(key.credentialsId(), key.packageId(), key.fiscalYear(), key.platformType());
+  }
+
+  private Tuple createResourceParams(PackageCostPerUseKey key, List<DbResourceCostPerUse> resources) {
+    return createKeyParams(key)
+      .addArrayOfString(resources.stream().map(DbResourceCostPerUse::resourceId).toArray(String[]::new))
+      .addArrayOfString(resources.stream().map(DbResourceCostPerUse::name).toArray(String[]::new))
+      .addArrayOfString(resources.stream().map(DbResourceCostPerUse::publicationType).toArray(String[]::new))
+      .addArrayOfDouble(resources.stream().map(DbResourceCostPerUse::cost).toArray(Double[]::new))
+      .addArrayOfInteger(resources.stream().map(DbResourceCostPerUse::usage).toArray(Integer[]::new))
+      .addArrayOfDouble(resources.stream().map(DbResourceCostPerUse::costPerUse).toArray(Double[]::new))
+      .addArrayOfDouble(resources.stream().map(DbResourceCostPerUse::percent).toArray(Double[]::new));
+  }
+
+  private Optional<DbPackageCostPerUse> mapPackageCostPerUse(RowSet<Row> rows) {
+    return isEmpty(rows)
+           ? Optional.empty()
+           : mapFirstItem(rows, row -> Optional.of(new DbPackageCostPerUse(
+             row.getJsonObject(PARAMETERS_COLUMN),
+             row.getInteger(TOTAL_RESULTS_COLUMN),
+             row.getOffsetDateTime(COMPUTED_AT_COLUMN))));
+  }
+
+  private List<DbResourceCostPerUse> mapResourceCostPerUse(RowSet<Row> rows) {
+    return RowSetUtils.mapItems(rows, row -> new DbResourceCostPerUse(
+      row.getString(RESOURCE_ID_COLUMN),
+      row.getString(NAME_COLUMN),
+      row.getString(PUBLICATION_TYPE_COLUMN),
+      row.getDouble(COST_COLUMN),
+      row.getInteger(USAGE_COLUMN),
+      row.getDouble(COST_PER_USE_COLUMN),
+      row.getDouble(PERCENT_COLUMN)));
+  }
+}
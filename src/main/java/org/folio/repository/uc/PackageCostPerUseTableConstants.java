@@ -0,0 +1,120 @@
+package org.folio.repository.uc;
+
+import static org.folio.repository.DbUtil.getPackageCostPerUseTableName;
+import static org.folio.repository.DbUtil.getResourceCostPerUseTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.joinWithComma;
+
+import org.folio.rest.jaxrs.model.Order;
+import org.folio.service.uc.sorting.CostPerUseSort;
+
+public final class PackageCostPerUseTableConstants {
+
+  public static final String PACKAGE_COST_PER_USE_TABLE = "package_cost_per_use";
+  public static final String RESOURCE_COST_PER_USE_TABLE = "resource_cost_per_use";
+  public static final String CREDENTIALS_ID_COLUMN = "credentials_id";
+  public static final String PACKAGE_ID_COLUMN = "package_id";
+  public static final String FISCAL_YEAR_COLUMN = "fiscal_year";
+  public static final String PLATFORM_TYPE_COLUMN = "platform_type";
+  public static final String PARAMETERS_COLUMN = "parameters";
+  public static final String TOTAL_RESULTS_COLUMN = "total_results";
+  public static final String COMPUTED_AT_COLUMN = "computed_at";
+  public static final String RESOURCE_ID_COLUMN = "resource_id";
+  public static final String NAME_COLUMN = "name";
+  public static final String PUBLICATION_TYPE_COLUMN = "publication_type";
+  public static final String COST_COLUMN = "cost";
+  public static final String USAGE_COLUMN = "usage";
+  public static final String COST_PER_USE_COLUMN = "cost_per_use";
+  public static final String PERCENT_COLUMN = "percent";
+  private static final String KEY_FIELD_LIST =
+    joinWithComma(CREDENTIALS_ID_COLUMN, PACKAGE_ID_COLUMN, FISCAL_YEAR_COLUMN, PLATFORM_TYPE_COLUMN);
+  private static final String RESOURCE_FIELD_LIST =
+    joinWithComma(RESOURCE_ID_COLUMN, NAME_COLUMN, PUBLICATION_TYPE_COLUMN, COST_COLUMN, USAGE_COLUMN,
+      COST_PER_USE_COLUMN, PERCENT_COLUMN);
+  private static final String WHERE_KEY = " WHERE " + CREDENTIALS_ID_COLUMN + " = ? AND " + PACKAGE_ID_COLUMN
+    + " = ? AND " + FISCAL_YEAR_COLUMN + " = ? AND " + PLATFORM_TYPE_COLUMN + " = ?";
+  /**
+   * Names are compared by code points like {@link String#compareTo(String)} in cost per use comparators.
+   */
+  private static final String NAME_ORDER = NAME_COLUMN + " COLLATE \"C\"";
+
+  private PackageCostPerUseTableConstants() {
+  }
+
+  public static String selectPackageCostPerUse(String tenantId) {
+    return prepareQuery(selectPackageCostPerUseQuery(), getPackageCostPerUseTableName(tenantId));
+  }
+
+  public static String selectResourceCostPerUse(String tenantId, CostPerUseSort sort, Order order) {
+    return prepareQuery(selectResourceCostPerUseQuery(sort, order), getResourceCostPerUseTableName(tenantId));
+  }
+
+  public static String upsertPackageCostPerUse(String tenantId) {
+    return prepareQuery(upsertPackageCostPerUseQuery(), getPackageCostPerUseTableName(tenantId));
+  }
+
+  public static String deleteResourceCostPerUse(String tenantId) {
+    return prepareQuery(deleteResourceCostPerUseQuery(), getResourceCostPerUseTableName(tenantId));
+  }
+
+  public static String insertResourceCostPerUse(String tenantId) {
+    return prepareQuery(insertResourceCostPerUseQuery(), getResourceCostPerUseTableName(tenantId));
+  }
+
+  public static String deletePackageCostPerUseByCredentialsId(String tenantId) {
+    return prepareQuery(deletePackageCostPerUseByCredentialsIdQuery(), getPackageCostPerUseTableName(tenantId));
+  }
+
+  private static String selectPackageCostPerUseQuery() {
+    return "SELECT " + joinWithComma(PARAMETERS_COLUMN, TOTAL_RESULTS_COLUMN, COMPUTED_AT_COLUMN) + " FROM %s"
+      + WHERE_KEY + ";";
+  }
+
+  private static String selectResourceCostPerUseQuery(CostPerUseSort sort, Order order) {
+    return "SELECT " + RESOURCE_FIELD_LIST + " FROM %s" + WHERE_KEY
+      + " ORDER BY " + orderBy(sort, order) + " OFFSET ? LIMIT ?;";
+  }
+
+  /**
+   * Orders resources the same way as cost per use comparators: nulls go first in ascending order
+   * and resources with equal values are ordered by name.
+   */
+  private static String orderBy(CostPerUseSort sort, Order order) {
+    String direction = order == Order.DESC ? " DESC" : " ASC";
+    String nulls = order == Order.DESC ? " NULLS LAST" : " NULLS FIRST";
+    String column = switch (sort) {
+      case TYPE -> PUBLICATION_TYPE_COLUMN + " COLLATE \"C\"";
+      case COST -> COST_COLUMN;
+      case USAGE -> USAGE_COLUMN;
+      case COSTPERUSE -> COST_PER_USE_COLUMN;
+      case PERCENT -> PERCENT_COLUMN;
+      case NAME -> null;
+    };
+    return column == null
+           ? NAME_ORDER + direction
+           : column + direction + nulls + ", " + NAME_ORDER + direction;
+  }
+
+  private static String upsertPackageCostPerUseQuery() {
+    return "INSERT INTO %s (" + KEY_FIELD_LIST + ", " + PARAMETERS_COLUMN + ", " + TOTAL_RESULTS_COLUMN + ", "
+      + COMPUTED_AT_COLUMN + ") VALUES (?, ?, ?, ?, ?, ?, ?) "
+      + "ON CONFLICT (" + KEY_FIELD_LIST + ") DO UPDATE SET "
+      + PARAMETERS_COLUMN + " = EXCLUDED." + PARAMETERS_COLUMN + ", "
+      + TOTAL_RESULTS_COLUMN + " = EXCLUDED." + TOTAL_RESULTS_COLUMN + ", "
+      + COMPUTED_AT_COLUMN + " = EXCLUDED." + COMPUTED_AT_COLUMN + ";";
+  }
+
+  private static String deleteResourceCostPerUseQuery() {
+    return "DELETE FROM %s" + WHERE_KEY + ";";
+  }
+
+  private static String insertResourceCostPerUseQuery() {
+    return "INSERT INTO %s (" + KEY_FIELD_LIST + ", " + RESOURCE_FIELD_LIST + ") "
+      + "SELECT ?::uuid, ?::integer, ?, ?, resource.* FROM unnest(?::varchar[], ?::text[], ?::varchar[], "
+      + "?::double precision[], ?::integer[], ?::double precision[], ?::double precision[]) AS resource;";
+  }
+
+  private static String deletePackageCostPerUseByCredentialsIdQuery() {
+    return "DELETE FROM %s WHERE " + CREDENTIALS_ID_COLUMN + " = ?;";
+  }
+}
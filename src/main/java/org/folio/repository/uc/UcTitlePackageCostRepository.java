@@ -0,0 +1,41 @@
+package org.folio.repository.uc;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.folio.client.uc.configuration.GetTitlePackageUcConfiguration;
+import org.folio.client.uc.model.UcCostAnalysis;
+import org.folio.client.uc.model.UcTitlePackageId;
+
+/**
+ * Stores cost of title packages received from Usage Consolidation, so that it is shared by all instances of the module
+ * and survives restarts.
+ */
+public interface UcTitlePackageCostRepository {
+
+  /**
+   * Finds not expired cost of title packages for configuration, title packages without stored cost are skipped.
+   */
+  CompletableFuture<Map<UcTitlePackageId, UcCostAnalysis>> findAll(GetTitlePackageUcConfiguration configuration,
+                                                                   Collection<UcTitlePackageId> titlePackageIds,
+                                                                   String tenant);
+
+  /**
+   * Saves cost of title packages for configuration, previously saved cost of the same title packages is replaced.
+   */
+  CompletableFuture<Void> saveAll(GetTitlePackageUcConfiguration configuration,
+                                  Map<UcTitlePackageId, UcCostAnalysis> titlePackageCost, OffsetDateTime expiresAt,
+                                  String tenant);
+
+  /**
+   * Removes expired cost of title packages of all configurations.
+   */
+  CompletableFuture<Void> deleteExpired(String tenant);
+
+  /**
+   * Returns ids of tenants that module is enabled for.
+   */
+  CompletableFuture<List<String>> findTenants();
+}
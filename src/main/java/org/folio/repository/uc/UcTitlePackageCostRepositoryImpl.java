@@ -0,0 +1,125 @@
+package org.folio.repository.uc;
+
+import static org.folio.common.FunctionUtils.nothing;
+import static org.folio.common.LogUtils.logDeleteQuery;
+import static org.folio.common.LogUtils.logInsertQuery;
+import static org.folio.common.LogUtils.logSelectQuery;
+import static org.folio.repository.DbUtil.pgClient;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.COST_ANALYSIS_COLUMN;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.PACKAGE_ID_COLUMN;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.TITLE_ID_COLUMN;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.deleteExpiredTitlePackageCost;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.selectTenantSchemas;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.selectTitlePackageCost;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.upsertTitlePackageCost;
+import static org.folio.util.FutureUtils.mapResult;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.folio.client.uc.configuration.GetTitlePackageUcConfiguration;
+import org.folio.client.uc.model.UcCostAnalysis;
+import org.folio.client.uc.model.UcTitlePackageId;
+import org.folio.db.RowSetUtils;
+import org.folio.db.exc.translation.DBExceptionTranslator;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+public class UcTitlePackageCostRepositoryImpl implements UcTitlePackageCostRepository {
+  private final Vertx vertx;
+  private final DBExceptionTranslator excTranslator;
+
+  public UcTitlePackageCostRepositoryImpl(Vertx vertx, DBExceptionTranslator excTranslator) {
+    this.vertx = vertx;
+    this.excTranslator = excTranslator;
+  }
+
+  @Override
+  public CompletableFuture<Map<UcTitlePackageId, UcCostAnalysis>> findAll(
+    GetTitlePackageUcConfiguration configuration, Collection<UcTitlePackageId> titlePackageIds, String tenant) {
+    if (titlePackageIds.isEmpty()) {
+      return CompletableFuture.completedFuture(Map.of());
+    }
+    String query = selectTitlePackageCost(tenant);
+    Tuple params = createKeyParams(configuration)
+      .addArrayOfInteger(titlePackageIds.stream().map(UcTitlePackageId::titleId).toArray(Integer[]::new))
+      .addArrayOfInteger(titlePackageIds.stream().map(UcTitlePackageId::packageId).toArray(Integer[]::new));
+
+    logSelectQuery(log, query);
+    return mapResult(execute(query, params, tenant), this::mapTitlePackageCost);
+  }
+
+  @Override
+  public CompletableFuture<Void> saveAll(GetTitlePackageUcConfiguration configuration,
+                                         Map<UcTitlePackageId, UcCostAnalysis> titlePackageCost,
+                                         OffsetDateTime expiresAt, String tenant) {
+    if (titlePackageCost.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    List<Map.Entry<UcTitlePackageId, UcCostAnalysis>> entries = List.copyOf(titlePackageCost.entrySet());
+    String query = upsertTitlePackageCost(tenant);
+    Tuple params = createKeyParams(configuration)
+      .addOffsetDateTime(expiresAt)
+      .addArrayOfInteger(entries.stream().map(entry -> entry.getKey().titleId()).toArray(Integer[]::new))
+      .addArrayOfInteger(entries.stream().map(entry -> entry.getKey().packageId()).toArray(Integer[]::new))
+      .addArrayOfJsonObject(entries.stream().map(entry -> JsonObject.mapFrom(entry.getValue()))
+        .toArray(JsonObject[]::new));
+
+    logInsertQuery(log, query, params, true);
+    return mapResult(execute(query, params, tenant), nothing());
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteExpired(String tenant) {
+    String query = deleteExpiredTitlePackageCost(tenant);
+    logDeleteQuery(log, query);
+    return mapResult(execute(query, Tuple.tuple(), tenant), nothing());
+  }
+
+  @Override
+  public CompletableFuture<List<String>> findTenants() {
+    final String schemaSuffix = "_" + PostgresClient.getModuleName();
+    final String query = selectTenantSchemas();
+    final Tuple parameters = Tuple.of(schemaSuffix.length(), schemaSuffix);
+    logSelectQuery(log, query, parameters);
+    Promise<RowSet<Row>> promise = Promise.promise();
+    PostgresClient.getInstance(vertx).select(query, parameters, promise::handle);
+    return mapResult(promise.future().recover(excTranslator.translateOrPassBy()),
+      rowSet -> RowSetUtils.mapItems(rowSet, row -> {
+        String schema = row.getString(0);
+        return schema.substring(0, schema.length() - schemaSuffix.length());
+      }));
+  }
+
+  private Future<RowSet<Row>> execute(String query, Tuple params, String tenant) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient(tenant, vertx).execute(query, params, promise::handle);
+    return promise.future().recover(excTranslator.translateOrPassBy());
+  }
+
+  private Tuple createKeyParams(GetTitlePackageUcConfiguration configuration) {
+    return Tuple.of(configuration.getCustomerKey(), configuration.getFiscalYear(), configuration.getFiscalMonth(),
+      configuration.getAnalysisCurrency(), configuration.isPublisherPlatform(), configuration.isPreviousYear());
+  }
+
+  private Map<UcTitlePackageId, UcCostAnalysis> mapTitlePackageCost(RowSet<Row> rows) {
+    Map<UcTitlePackageId, UcCostAnalysis> titlePackageCost = new HashMap<>();
+    rows.forEach(row -> titlePackageCost.put(
+      new UcTitlePackageId(row.getInteger(TITLE_ID_COLUMN), row.getInteger(PACKAGE_ID_COLUMN)),
+      row.getJsonObject(COST_ANALYSIS_COLUMN).mapTo(UcCostAnalysis.class)));
+    return titlePackageCost;
+  }
+}
@@ -0,0 +1,71 @@
+package org.folio.repository.uc;
+
+import static org.folio.repository.DbUtil.getUcTitlePackageCostTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.joinWithComma;
+
+public final class UcTitlePackageCostTableConstants {
+
+  public static final String UC_TITLE_PACKAGE_COST_TABLE = "uc_title_package_cost";
+  public static final String CUSTOMER_KEY_COLUMN = "customer_key";
+  public static final String FISCAL_YEAR_COLUMN = "fiscal_year";
+  public static final String FISCAL_MONTH_COLUMN = "fiscal_month";
+  public static final String ANALYSIS_CURRENCY_COLUMN = "analysis_currency";
+  public static final String PUBLISHER_PLATFORM_COLUMN = "publisher_platform";
+  public static final String PREVIOUS_YEAR_COLUMN = "previous_year";
+  public static final String TITLE_ID_COLUMN = "title_id";
+  public static final String PACKAGE_ID_COLUMN = "package_id";
+  public static final String COST_ANALYSIS_COLUMN = "cost_analysis";
+  public static final String EXPIRES_AT_COLUMN = "expires_at";
+  private static final String PK_FIELD_LIST =
+    joinWithComma(CUSTOMER_KEY_COLUMN, FISCAL_YEAR_COLUMN, FISCAL_MONTH_COLUMN, ANALYSIS_CURRENCY_COLUMN,
+      PUBLISHER_PLATFORM_COLUMN, PREVIOUS_YEAR_COLUMN, TITLE_ID_COLUMN, PACKAGE_ID_COLUMN);
+
+  private UcTitlePackageCostTableConstants() {
+  }
+
+  public static String selectTitlePackageCost(String tenantId) {
+    return prepareQuery(selectTitlePackageCostQuery(), getUcTitlePackageCostTableName(tenantId));
+  }
+
+  public static String upsertTitlePackageCost(String tenantId) {
+    return prepareQuery(upsertTitlePackageCostQuery(), getUcTitlePackageCostTableName(tenantId));
+  }
+
+  public static String deleteExpiredTitlePackageCost(String tenantId) {
+    return prepareQuery(deleteExpiredTitlePackageCostQuery(), getUcTitlePackageCostTableName(tenantId));
+  }
+
+  /**
+   * Selects schemas of tenants that have title package cost table.
+   */
+  public static String selectTenantSchemas() {
+    return prepareQuery("SELECT nspname FROM pg_namespace WHERE right(nspname, ?) = ? "
+      + "AND to_regclass(quote_ident(nspname) || '." + UC_TITLE_PACKAGE_COST_TABLE + "') IS NOT NULL;");
+  }
+
+  /**
+   * Selects not expired cost of title packages, ids of title packages are passed as two arrays of the same length.
+   */
+  private static String selectTitlePackageCostQuery() {
+    return "SELECT " + joinWithComma(TITLE_ID_COLUMN, PACKAGE_ID_COLUMN, COST_ANALYSIS_COLUMN) + " FROM %s WHERE "
+      + CUSTOMER_KEY_COLUMN + " = ? AND " + FISCAL_YEAR_COLUMN + " = ? AND " + FISCAL_MONTH_COLUMN + " = ? AND "
+      + ANALYSIS_CURRENCY_COLUMN + " = ? AND " + PUBLISHER_PLATFORM_COLUMN + " = ? AND "
+      + PREVIOUS_YEAR_COLUMN + " = ? AND (" + TITLE_ID_COLUMN + ", " + PACKAGE_ID_COLUMN + ") IN "
+      + "(SELECT * FROM unnest(?::integer[], ?::integer[])) AND " + EXPIRES_AT_COLUMN + " > now();";
+  }
+
+  private static String upsertTitlePackageCostQuery() {
+    return "INSERT INTO %s (" + PK_FIELD_LIST + ", " + COST_ANALYSIS_COLUMN + ", " + EXPIRES_AT_COLUMN + ") "
+      + "SELECT ?, ?, ?, ?, ?::boolean, ?::boolean, cost.title_id, cost.package_id, cost.cost_analysis, "
+      + "?::timestamptz FROM unnest(?::integer[], ?::integer[], ?::jsonb[]) "
+      + "AS cost(title_id, package_id, cost_analysis) "
+      + "ON CONFLICT (" + PK_FIELD_LIST + ") DO UPDATE SET "
+      + COST_ANALYSIS_COLUMN + " = EXCLUDED." + COST_ANALYSIS_COLUMN + ", "
+      + EXPIRES_AT_COLUMN + " = EXCLUDED." + EXPIRES_AT_COLUMN + ";";
+  }
+
+  private static String deleteExpiredTitlePackageCostQuery() {
+    return "DELETE FROM %s WHERE " + EXPIRES_AT_COLUMN + " <= now();";
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.rest.converter.costperuse.export;
+
+import static org.folio.rest.util.DateTimeUtil.POSTGRES_TIMESTAMP_FORMATTER;
+
+import java.time.OffsetDateTime;
+import org.folio.repository.export.DbExportJob;
+import org.folio.repository.export.ExportJobStatus;
+import org.folio.rest.jaxrs.model.ExportJob;
+import org.folio.rest.jaxrs.model.ExportJobAttributes;
+import org.folio.rest.jaxrs.model.ExportJobStatusEnum;
+import org.folio.rest.jaxrs.model.PlatformType;
+import org.folio.rest.util.RestConstants;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExportJobConverter implements Converter<DbExportJob, ExportJob> {
+
+  @Override
+  public ExportJob convert(DbExportJob source) {
+    return new ExportJob()
+      .withId(source.getId().toString())
+      .withType(ExportJob.Type.EXPORT_JOBS)
+      .withAttributes(new ExportJobAttributes()
+        .withPackageId(source.getPackageId())
+        .withPlatform(source.getPlatform() == null ? null : PlatformType.fromValue(source.getPlatform()))
+        .withFiscalYear(source.getFiscalYear())
+        .withStatus(convertStatus(source.getStatus()))
+        .withCreated(formatTime(source.getCreatedAt()))
+        .withStarted(formatTime(source.getStartedAt()))
+        .withFinished(formatTime(source.getFinishedAt()))
+        .withError(source.getErrorMessage()))
+      .withJsonapi(RestConstants.JSONAPI);
+  }
+
+  private ExportJobStatusEnum convertStatus(ExportJobStatus status) {
+    return switch (status) {
+      case QUEUED -> ExportJobStatusEnum.QUEUED;
+      case IN_PROGRESS -> ExportJobStatusEnum.IN_PROGRESS;
+      case COMPLETED -> ExportJobStatusEnum.COMPLETED;
+      case FAILED -> ExportJobStatusEnum.FAILED;
+    };
+  }
+
+  private String formatTime(OffsetDateTime time) {
+    return time == null ? null : POSTGRES_TIMESTAMP_FORMATTER.format(time);
+  }
+}
@@ -7,14 +7,13 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import java.util.Map;
 import javax.ws.rs.core.Response;
-import org.folio.cache.VertxCache;
-import org.folio.holdingsiq.model.Configuration;
 import org.folio.okapi.common.XOkapiHeaders;
 import org.folio.rest.jaxrs.resource.EholdingsCache;
 import org.folio.rest.validator.HeaderValidator;
+import org.folio.service.cache.CacheInvalidation;
+import org.folio.service.cache.CacheInvalidationService;
 import org.folio.spring.SpringContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 
 @SuppressWarnings("java:S6813")
 public class EholdingsCacheImpl implements EholdingsCache {
@@ -22,8 +21,7 @@ public class EholdingsCacheImpl implements EholdingsCache {
   @Autowired
   private HeaderValidator headerValidator;
   @Autowired
-  @Qualifier("rmApiConfigurationCache")
-  private VertxCache<String, Configuration> rmapiConfigurationCache;
+  private CacheInvalidationService cacheInvalidationService;
 
   public EholdingsCacheImpl() {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
@@ -33,7 +31,8 @@ public class EholdingsCacheImpl implements EholdingsCache {
   public void deleteEholdingsCache(Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
                                    Context vertxContext) {
     headerValidator.validate(okapiHeaders);
-    rmapiConfigurationCache.invalidate(okapiHeaders.get(XOkapiHeaders.TENANT));
-    asyncResultHandler.handle(Future.succeededFuture(EholdingsCache.DeleteEholdingsCacheResponse.respond204()));
+    cacheInvalidationService.invalidate(CacheInvalidation.configuration(okapiHeaders.get(XOkapiHeaders.TENANT)))
+      .thenAccept(v -> asyncResultHandler.handle(
+        Future.succeededFuture(EholdingsCache.DeleteEholdingsCacheResponse.respond204())));
   }
 }
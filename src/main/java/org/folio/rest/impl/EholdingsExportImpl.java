@@ -5,26 +5,52 @@ import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import jakarta.validation.constraints.Pattern;
+import java.util.Arrays;
 import java.util.Map;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import org.folio.repository.export.DbExportJob;
 import org.folio.rest.annotations.Validate;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.rest.aspect.HandleValidationErrors;
+import org.folio.rest.jaxrs.model.ExportJob;
+import org.folio.rest.jaxrs.resource.EholdingsExportJobs;
 import org.folio.rest.jaxrs.resource.EholdingsPackagesPackageIdResourcesCostperuseExport;
+import org.folio.rest.tools.utils.BinaryOutStream;
 import org.folio.rest.util.ErrorHandler;
+import org.folio.service.uc.export.BufferWriteStream;
+import org.folio.service.uc.export.ExportJobService;
 import org.folio.service.uc.export.ExportService;
 import org.folio.spring.SpringContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
 
 @SuppressWarnings("java:S6813")
-public class EholdingsExportImpl implements EholdingsPackagesPackageIdResourcesCostperuseExport {
+public class EholdingsExportImpl implements EholdingsPackagesPackageIdResourcesCostperuseExport,
+  EholdingsExportJobs {
+
+  private static final String TEXT_CSV = "text/csv";
+  private static final String GZIP_ENCODING = "gzip";
+  private static final String ANY_ENCODING = "*";
 
   @Autowired
   private ExportService exporterService;
 
+  @Autowired
+  private ExportJobService exportJobService;
+
+  @Autowired
+  private Converter<DbExportJob, ExportJob> exportJobConverter;
+
   @Autowired
   private ErrorHandler exportErrorHandler;
 
+  @Value("${kb.ebsco.export.gzip.enable:false}")
+  private boolean compressionEnabled;
+
   public EholdingsExportImpl() {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
   }
@@ -40,11 +66,103 @@ public class EholdingsExportImpl implements EholdingsPackagesPackageIdResourcesC
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    exporterService.exportCsv(packageId, platform, fiscalYear, okapiHeaders)
-      .thenAccept(result ->
-        asyncResultHandler.handle(Future.succeededFuture(
-          EholdingsPackagesPackageIdResourcesCostperuseExport
-            .GetEholdingsPackagesResourcesCostperuseExportByPackageIdResponse.respond200WithTextCsv(result))))
+    // RMB writes the response entity at once, so the whole csv is kept in memory until it is sent,
+    // export jobs are used for packages that are too large for that
+    var output = new BufferWriteStream();
+    exporterService.exportCsv(packageId, platform, fiscalYear, compressionEnabled, output, okapiHeaders)
+      .thenAccept(unused -> asyncResultHandler.handle(Future.succeededFuture(createResponse(output.getBuffer()))))
       .exceptionally(exportErrorHandler.handle(asyncResultHandler));
   }
+
+  @Override
+  @Validate
+  @HandleValidationErrors
+  public void postEholdingsPackagesResourcesCostperuseExportJobsByPackageId(
+    @Pattern(regexp = "^\\d+-\\d+$") String packageId,
+    String platform,
+    @Pattern(regexp = "^\\d{4}$") String fiscalYear,
+    Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    exportJobService.createJob(packageId, platform, fiscalYear, okapiHeaders)
+      .thenAccept(job -> asyncResultHandler.handle(Future.succeededFuture(
+        PostEholdingsPackagesResourcesCostperuseExportJobsByPackageIdResponse
+          .respond202WithApplicationVndApiJson(exportJobConverter.convert(job)))))
+      .exceptionally(exportErrorHandler.handle(asyncResultHandler));
+  }
+
+  @Override
+  @Validate
+  @HandleValidationErrors
+  public void getEholdingsExportJobsByJobId(String jobId, Map<String, String> okapiHeaders,
+                                            Handler<AsyncResult<Response>> asyncResultHandler,
+                                            Context vertxContext) {
+    exportJobService.findJob(jobId, okapiHeaders)
+      .thenAccept(job -> asyncResultHandler.handle(Future.succeededFuture(
+        GetEholdingsExportJobsByJobIdResponse.respond200WithApplicationVndApiJson(exportJobConverter.convert(job)))))
+      .exceptionally(exportErrorHandler.handle(asyncResultHandler));
+  }
+
+  @Override
+  @Validate
+  @HandleValidationErrors
+  public void getEholdingsExportJobsFileByJobId(String jobId, String acceptEncoding, Map<String, String> okapiHeaders,
+                                                Handler<AsyncResult<Response>> asyncResultHandler,
+                                                Context vertxContext) {
+    var compressed = acceptsGzip(acceptEncoding);
+    exportJobService.findFile(jobId, compressed, okapiHeaders)
+      .thenAccept(file -> asyncResultHandler.handle(Future.succeededFuture(compressed
+                                                                           ? createCompressedResponse(file)
+                                                                           : createFileResponse(file))))
+      .exceptionally(exportErrorHandler.handle(asyncResultHandler));
+  }
+
+  /**
+   * Checks if gzip or any encoding is listed in Accept-Encoding header and not refused with zero quality value.
+   */
+  private boolean acceptsGzip(String acceptEncoding) {
+    if (StringUtils.isBlank(acceptEncoding)) {
+      return false;
+    }
+    return Arrays.stream(acceptEncoding.split(","))
+      .map(String::trim)
+      .anyMatch(coding -> {
+        var parts = coding.split(";");
+        var name = parts[0].trim();
+        return (GZIP_ENCODING.equalsIgnoreCase(name) || ANY_ENCODING.equals(name)) && !isRefused(parts);
+      });
+  }
+
+  private boolean isRefused(String[] codingParts) {
+    for (int i = 1; i < codingParts.length; i++) {
+      var parameter = codingParts[i].trim().replace(" ", "");
+      if (parameter.matches("(?i)q=0(\\.0{0,3})?")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Response createResponse(Buffer csv) {
+    if (compressionEnabled) {
+      return createCompressedResponse(csv.getBytes());
+    }
+    return EholdingsPackagesPackageIdResourcesCostperuseExport
+      .GetEholdingsPackagesResourcesCostperuseExportByPackageIdResponse.respond200WithTextCsv(csv.toString());
+  }
+
+  private Response createFileResponse(byte[] csv) {
+    var entity = new BinaryOutStream();
+    entity.setData(csv);
+    return Response.ok(entity, TEXT_CSV).build();
+  }
+
+  private Response createCompressedResponse(byte[] csv) {
+    var entity = new BinaryOutStream();
+    entity.setData(csv);
+    return Response.ok(entity, TEXT_CSV)
+      .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+      .build();
+  }
 }
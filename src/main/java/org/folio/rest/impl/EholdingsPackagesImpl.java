@@ -68,6 +68,7 @@ import org.folio.rest.model.filter.AccessTypeFilter;
 import org.folio.rest.model.filter.PackageRecordFilter;
 import org.folio.rest.model.filter.ResourceFilter;
 import org.folio.rest.model.filter.TagFilter;
+import org.folio.rest.tools.utils.TenantTool;
 import org.folio.rest.util.ErrorHandler;
 import org.folio.rest.util.ErrorUtil;
 import org.folio.rest.util.template.RmApiTemplate;
@@ -79,6 +80,8 @@ import org.folio.rmapi.result.TitleCollectionResult;
 import org.folio.rmapi.result.TitleResult;
 import org.folio.service.accesstypes.AccessTypeMappingsService;
 import org.folio.service.accesstypes.AccessTypesService;
+import org.folio.service.cache.CacheInvalidation;
+import org.folio.service.cache.CacheInvalidationService;
 import org.folio.service.kbcredentials.UserKbCredentialsService;
 import org.folio.service.loader.FilteredEntitiesLoader;
 import org.folio.service.loader.RelatedEntitiesLoader;
@@ -125,6 +128,8 @@ public class EholdingsPackagesImpl implements EholdingsPackages {
   private UserKbCredentialsService userKbCredentialsService;
   @Autowired
   private SearchProperties searchProperties;
+  @Autowired
+  private CacheInvalidationService cacheInvalidationService;
 
   public EholdingsPackagesImpl() {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
@@ -237,6 +242,8 @@ public class EholdingsPackagesImpl implements EholdingsPackages {
       .requestAction(context -> context.getPackagesService().retrievePackage(packageIdPart)
         .thenCompose(packageData -> fetchAccessType(entity, context)
           .thenCompose(accessType -> processUpdateRequest(entity, packageData, context)
+            .thenCompose(voidEntity -> cacheInvalidationService.invalidate(CacheInvalidation.packageRecord(
+              TenantTool.tenantId(okapiHeaders), packageIdToString(parsedPackageId))))
             .thenCompose(voidEntity -> {
               CompletableFuture<PackageData> future = context.getPackagesService().retrievePackage(packageIdPart);
               return handleDeletedPackage(future, parsedPackageId, context);
@@ -67,6 +67,7 @@ import org.folio.rest.jaxrs.model.ResourceTagsDataAttributes;
 import org.folio.rest.jaxrs.model.ResourceTagsItem;
 import org.folio.rest.jaxrs.model.ResourceTagsPutRequest;
 import org.folio.rest.jaxrs.resource.EholdingsResources;
+import org.folio.rest.tools.utils.TenantTool;
 import org.folio.rest.util.ErrorHandler;
 import org.folio.rest.util.IdParser;
 import org.folio.rest.util.template.RmApiTemplate;
@@ -79,6 +80,8 @@ import org.folio.rmapi.result.ObjectsForPostResourceResult;
 import org.folio.rmapi.result.ResourceResult;
 import org.folio.service.accesstypes.AccessTypeMappingsService;
 import org.folio.service.accesstypes.AccessTypesService;
+import org.folio.service.cache.CacheInvalidation;
+import org.folio.service.cache.CacheInvalidationService;
 import org.folio.service.kbcredentials.UserKbCredentialsService;
 import org.folio.service.loader.RelatedEntitiesLoader;
 import org.folio.spring.SpringContextUtil;
@@ -119,6 +122,8 @@ public class EholdingsResourcesImpl implements EholdingsResources {
   private UserKbCredentialsService userKbCredentialsService;
   @Autowired
   private SearchProperties searchProperties;
+  @Autowired
+  private CacheInvalidationService cacheInvalidationService;
 
   public EholdingsResourcesImpl() {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
@@ -168,7 +173,8 @@ public class EholdingsResourcesImpl implements EholdingsResources {
         .thenCompose(accessType -> processResourceUpdate(entity, parsedResourceId, context)
           .thenCompose(resourceResult -> {
             context.getTitlesService().updateCache(resourceResult);
-            return updateAccessType(resourceId, resourceResult, accessType, context);
+            return invalidateResourceCaches(parsedResourceId, resourceResult, okapiHeaders)
+              .thenCompose(v -> updateAccessType(resourceId, resourceResult, accessType, context));
           })
         ))
       .addErrorMapper(InputValidationException.class, error422InputValidationMapper())
@@ -365,6 +371,17 @@ public class EholdingsResourcesImpl implements EholdingsResources {
       .thenCompose(o -> context.getResourcesService().retrieveResource(parsedResourceId));
   }
 
+  /**
+   * Title is already updated in local cache, other instances drop it together with the resource.
+   */
+  private CompletableFuture<Void> invalidateResourceCaches(ResourceId resourceId, Title resource,
+                                                          Map<String, String> okapiHeaders) {
+    var tenant = TenantTool.tenantId(okapiHeaders);
+    return cacheInvalidationService.invalidate(CacheInvalidation.resource(tenant, resourceIdToString(resourceId)))
+      .thenCompose(v -> cacheInvalidationService.publish(
+        CacheInvalidation.title(tenant, String.valueOf(resource.getTitleId()))));
+  }
+
   private Function<ResourceNotFoundException, Response> error404ResourceNotFoundMapper() {
     return exception ->
       Response.status(SC_NOT_FOUND)
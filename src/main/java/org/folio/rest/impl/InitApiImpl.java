@@ -6,9 +6,13 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.serviceproxy.ServiceBinder;
 import org.folio.rest.resource.interfaces.InitAPI;
+import org.folio.service.cache.CacheInvalidationService;
 import org.folio.service.holdings.HoldingConstants;
+import org.folio.service.holdings.HoldingsRetryPoller;
 import org.folio.service.holdings.HoldingsService;
 import org.folio.service.holdings.LoadServiceFacade;
+import org.folio.service.uc.UcTitlePackageCostCleaner;
+import org.folio.service.uc.export.ExportJobCleaner;
 import org.folio.spring.SpringContextUtil;
 import org.folio.spring.config.ApplicationConfig;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +23,14 @@ public class InitApiImpl implements InitAPI {
   private HoldingsService holdingsService;
   @Autowired
   private LoadServiceFacade loadServiceFacade;
+  @Autowired
+  private HoldingsRetryPoller holdingsRetryPoller;
+  @Autowired
+  private CacheInvalidationService cacheInvalidationService;
+  @Autowired
+  private UcTitlePackageCostCleaner ucTitlePackageCostCleaner;
+  @Autowired
+  private ExportJobCleaner exportJobCleaner;
 
   @Override
   public void init(Vertx vertx, Context context, Handler<AsyncResult<Boolean>> handler) {
@@ -31,6 +43,10 @@ public class InitApiImpl implements InitAPI {
       new ServiceBinder(vertx)
         .setAddress(HoldingConstants.HOLDINGS_SERVICE_ADDRESS)
         .register(HoldingsService.class, holdingsService);
+      holdingsRetryPoller.start();
+      cacheInvalidationService.start();
+      ucTitlePackageCostCleaner.start();
+      exportJobCleaner.start();
       return true;
     }).onComplete(handler);
   }
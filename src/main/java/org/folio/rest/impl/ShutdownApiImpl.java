@@ -0,0 +1,21 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.folio.rest.resource.interfaces.ShutdownAPI;
+import org.folio.service.cache.CacheInvalidationService;
+import org.folio.spring.SpringContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@SuppressWarnings({"java:S6813", "SpringJavaInjectionPointsAutowiringInspection"})
+public class ShutdownApiImpl implements ShutdownAPI {
+  @Autowired
+  private CacheInvalidationService cacheInvalidationService;
+
+  @Override
+  public void shutdown(Vertx vertx, Handler<AsyncResult<Void>> handler) {
+    SpringContextUtil.autowireDependencies(this, vertx.getOrCreateContext());
+    cacheInvalidationService.stop().onComplete(handler);
+  }
+}
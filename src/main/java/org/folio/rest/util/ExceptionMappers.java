@@ -1,6 +1,7 @@
 package org.folio.rest.util;
 
 import static javax.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
+import static javax.ws.rs.core.Response.Status.TOO_MANY_REQUESTS;
 import static org.apache.http.protocol.HTTP.CONTENT_TYPE;
 import static org.folio.HttpStatus.SC_BAD_REQUEST;
 import static org.folio.HttpStatus.SC_CONFLICT;
@@ -29,6 +30,7 @@ import org.folio.rest.exception.InputValidationException;
 import org.folio.service.holdings.exception.ProcessInProgressException;
 import org.folio.service.uc.UcAuthenticationException;
 import org.folio.service.uc.export.ExportException;
+import org.folio.service.uc.export.ExportJobsQueueFullException;
 
 public final class ExceptionMappers {
 
@@ -269,6 +271,24 @@ public final class ExceptionMappers {
         .build();
   }
 
+  /**
+   * {@link ExportJobsQueueFullException} to {@link Response} error mapper
+   * <pre>
+   * Response.status = {@code 429}
+   * Response.entity =  {@link org.folio.rest.jaxrs.model.JsonapiError}
+   * Response.header.Content-Type = {@code application/vnd.api+json}
+   * </pre>.
+   *
+   * @return mapper
+   */
+  public static Function<ExportJobsQueueFullException, Response> error429ExportJobsQueueFullMapper() {
+    return exception ->
+      Response.status(TOO_MANY_REQUESTS)
+        .header(CONTENT_TYPE, JSON_API_TYPE)
+        .entity(createError(exception.getMessage()))
+        .build();
+  }
+
   /**
    * {@link InputValidationException} to {@link Response} error mapper
    * <pre>
@@ -18,9 +18,11 @@ import org.folio.rmapi.ProvidersServiceImpl;
 import org.folio.rmapi.ResourcesServiceImpl;
 import org.folio.rmapi.TitlesServiceImpl;
 import org.folio.rmapi.cache.PackageCacheKey;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.rmapi.cache.ResourceCacheKey;
 import org.folio.rmapi.cache.TitleCacheKey;
 import org.folio.rmapi.cache.VendorCacheKey;
+import org.folio.service.holdingsiq.HoldingsIqRequestScheduler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.core.convert.converter.Converter;
@@ -46,6 +48,8 @@ public class RmApiTemplateContextBuilder {
   private VertxCache<TitleCacheKey, Title> titleCache;
   @Autowired
   private SearchProperties searchProperties;
+  @Autowired
+  private HoldingsIqRequestScheduler requestScheduler;
 
   @Autowired
   private Vertx vertx;
@@ -65,17 +69,22 @@ public class RmApiTemplateContextBuilder {
     String tenant = requestContext.getTenant();
 
     Configuration configuration = converter.convert(credentials);
+    var requestQueue = requestScheduler.getQueue(credentials.getId());
+    var lookupCache = new RequestLookupCache();
 
     final HoldingsIQService holdingsService = new HoldingsIQServiceImpl(configuration, vertx);
     final TitlesServiceImpl titlesService =
-      new TitlesServiceImpl(configuration, vertx, requestContext.getTenant(), titleCache);
+      new TitlesServiceImpl(configuration, vertx, requestContext.getTenant(), titleCache, requestQueue,
+        lookupCache);
     final ProvidersServiceImpl providersService =
-      new ProvidersServiceImpl(configuration, vertx, tenant, holdingsService, vendorCache);
+      new ProvidersServiceImpl(configuration, vertx, tenant, holdingsService, vendorCache, requestQueue,
+        lookupCache);
     final PackageServiceImpl packagesService =
       new PackageServiceImpl(configuration, vertx, tenant, providersService, titlesService, packageCache,
-        searchProperties);
+        searchProperties, requestQueue, lookupCache);
     final ResourcesServiceImpl resourcesService =
-      new ResourcesServiceImpl(configuration, vertx, tenant, providersService, packagesService, resourceCache);
+      new ResourcesServiceImpl(configuration, vertx, tenant, providersService, packagesService, resourceCache,
+        requestQueue, lookupCache);
     final LoadService loadService = new LoadServiceImpl(configuration, vertx);
     providersService.setPackagesService(packagesService);
 
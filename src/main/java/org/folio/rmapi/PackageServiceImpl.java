@@ -8,13 +8,13 @@ import jakarta.validation.ValidationException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.folio.cache.VertxCache;
@@ -28,11 +28,14 @@ import org.folio.holdingsiq.model.Titles;
 import org.folio.holdingsiq.service.TitlesHoldingsIQService;
 import org.folio.holdingsiq.service.impl.PackagesHoldingsIQServiceImpl;
 import org.folio.properties.common.SearchProperties;
+import org.folio.repository.RecordType;
 import org.folio.rest.util.IdParser;
 import org.folio.rmapi.cache.PackageCacheKey;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.rmapi.result.PackageBulkResult;
 import org.folio.rmapi.result.PackageResult;
 import org.folio.rmapi.result.VendorResult;
+import org.folio.service.holdingsiq.CredentialsRequestQueue;
 
 @Log4j2
 public class PackageServiceImpl extends PackagesHoldingsIQServiceImpl {
@@ -43,13 +46,16 @@ public class PackageServiceImpl extends PackagesHoldingsIQServiceImpl {
   private final TitlesHoldingsIQService titlesService;
   private final VertxCache<PackageCacheKey, PackageData> packageCache;
   private final SearchProperties searchProperties;
+  private final CredentialsRequestQueue requestQueue;
+  private final RequestLookupCache lookupCache;
   private final Configuration configuration;
   private final String tenantId;
 
   public PackageServiceImpl(Configuration config, Vertx vertx, String tenantId, ProvidersServiceImpl providerService,
                             TitlesHoldingsIQService titlesService,
                             VertxCache<PackageCacheKey, PackageData> packageCache,
-                            SearchProperties searchProperties) {
+                            SearchProperties searchProperties, CredentialsRequestQueue requestQueue,
+                            RequestLookupCache lookupCache) {
     super(config, vertx);
     this.providerService = providerService;
     this.titlesService = titlesService;
@@ -57,6 +63,8 @@ public class PackageServiceImpl extends PackagesHoldingsIQServiceImpl {
     this.tenantId = tenantId;
     this.configuration = config;
     this.searchProperties = searchProperties;
+    this.requestQueue = requestQueue;
+    this.lookupCache = lookupCache;
   }
 
   public CompletableFuture<PackageResult> retrievePackage(PackageId packageId, List<String> includedObjects) {
@@ -69,7 +77,7 @@ public class PackageServiceImpl extends PackagesHoldingsIQServiceImpl {
     if (useCache) {
       packageFuture = retrievePackageWithCache(packageId);
     } else {
-      packageFuture = retrievePackage(packageId.packageIdPart());
+      packageFuture = lookupPackage(packageId);
     }
 
     CompletableFuture<Titles> titlesFuture;
@@ -93,25 +101,28 @@ public class PackageServiceImpl extends PackagesHoldingsIQServiceImpl {
   }
 
   public CompletableFuture<Packages> retrievePackages(List<PackageId> packageIds) {
-    Set<CompletableFuture<PackageResult>> futures = packageIds.stream()
-      .map(id -> retrievePackage(id, Collections.emptyList(), true))
-      .collect(Collectors.toSet());
+    List<Supplier<CompletableFuture<PackageResult>>> requests = packageIds.stream()
+      .<Supplier<CompletableFuture<PackageResult>>>map(id -> () -> retrievePackage(id, Collections.emptyList(), true))
+      .toList();
+    var futures = requestQueue.submitAll(requests);
     return allOfSucceeded(futures, throwable -> log.warn(throwable.getMessage(), throwable))
       .thenApply(this::mapToPackages);
   }
 
   public CompletableFuture<PackageBulkResult> retrievePackagesBulk(Set<String> packageIds) {
-    Set<CompletableFuture<Result<PackageResult, String>>> futures = new HashSet<>();
+    List<CompletableFuture<Result<PackageResult, String>>> futures = new ArrayList<>();
+    List<Supplier<CompletableFuture<Result<PackageResult, String>>>> requests = new ArrayList<>();
 
     packageIds.forEach(inputId -> {
       try {
         PackageId id = IdParser.parsePackageId(inputId);
 
-        futures.add(retrievePackageForBulk(id));
+        requests.add(() -> retrievePackageForBulk(id));
       } catch (ValidationException e) {
         futures.add(completedFuture(new Failure<>(inputId)));
       }
     });
+    futures.addAll(requestQueue.submitAll(requests));
 
     return allOfSucceeded(futures, throwable -> log.warn(throwable.getMessage(), throwable))
       .thenApply(this::mapToPackageBulk);
@@ -156,7 +167,12 @@ public class PackageServiceImpl extends PackagesHoldingsIQServiceImpl {
       .rmapiConfiguration(configuration)
       .tenant(tenantId)
       .build();
-    return packageCache.getValueOrLoad(cacheKey, () -> retrievePackage(packageId.packageIdPart()));
+    return packageCache.getValueOrLoad(cacheKey, () -> lookupPackage(packageId));
+  }
+
+  private CompletableFuture<PackageData> lookupPackage(PackageId packageId) {
+    return lookupCache.getValueOrLoad(RecordType.PACKAGE, IdParser.packageIdToString(packageId),
+      () -> retrievePackage(packageId.packageIdPart()));
   }
 
   private interface Result<R, F> {
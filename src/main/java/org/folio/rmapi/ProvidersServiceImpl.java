@@ -5,8 +5,8 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import io.vertx.core.Vertx;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.folio.cache.VertxCache;
@@ -21,8 +21,11 @@ import org.folio.holdingsiq.model.Vendors;
 import org.folio.holdingsiq.service.HoldingsIQService;
 import org.folio.holdingsiq.service.PackagesHoldingsIQService;
 import org.folio.holdingsiq.service.impl.ProviderHoldingsIQServiceImpl;
+import org.folio.repository.RecordType;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.rmapi.cache.VendorCacheKey;
 import org.folio.rmapi.result.VendorResult;
+import org.folio.service.holdingsiq.CredentialsRequestQueue;
 import org.folio.util.FutureUtils;
 
 @Log4j2
@@ -32,15 +35,20 @@ public class ProvidersServiceImpl extends ProviderHoldingsIQServiceImpl {
 
   private PackagesHoldingsIQService packagesService;
   private final VertxCache<VendorCacheKey, VendorById> vendorCache;
+  private final CredentialsRequestQueue requestQueue;
+  private final RequestLookupCache lookupCache;
   private final Configuration configuration;
   private final String tenantId;
 
   public ProvidersServiceImpl(Configuration config, Vertx vertx, String tenantId, HoldingsIQService holdingsService,
-                              VertxCache<VendorCacheKey, VendorById> vendorCache) {
+                              VertxCache<VendorCacheKey, VendorById> vendorCache,
+                              CredentialsRequestQueue requestQueue, RequestLookupCache lookupCache) {
     super(config, vertx, holdingsService);
     this.configuration = config;
     this.tenantId = tenantId;
     this.vendorCache = vendorCache;
+    this.requestQueue = requestQueue;
+    this.lookupCache = lookupCache;
   }
 
   public void setPackagesService(PackagesHoldingsIQService packagesService) {
@@ -58,7 +66,7 @@ public class ProvidersServiceImpl extends ProviderHoldingsIQServiceImpl {
     if (useCache) {
       vendorFuture = retrieveProviderWithCache(id);
     } else {
-      vendorFuture = super.retrieveProvider(id);
+      vendorFuture = lookupProvider(id);
     }
     if (INCLUDE_PACKAGES_VALUE.equalsIgnoreCase(include)) {
       packagesFuture = packagesService.retrievePackages(id,
@@ -73,9 +81,10 @@ public class ProvidersServiceImpl extends ProviderHoldingsIQServiceImpl {
   }
 
   public CompletableFuture<Vendors> retrieveProviders(List<Integer> providerIds) {
-    Set<CompletableFuture<VendorResult>> futures = providerIds.stream()
-      .map(id -> retrieveProvider(id, "", true))
-      .collect(Collectors.toSet());
+    List<Supplier<CompletableFuture<VendorResult>>> requests = providerIds.stream()
+      .<Supplier<CompletableFuture<VendorResult>>>map(id -> () -> retrieveProvider(id, "", true))
+      .toList();
+    var futures = requestQueue.submitAll(requests);
     return FutureUtils.allOfSucceeded(futures, throwable -> log.warn(throwable.getMessage(), throwable))
       .thenApply(this::mapToProviders);
   }
@@ -96,6 +105,10 @@ public class ProvidersServiceImpl extends ProviderHoldingsIQServiceImpl {
       .rmapiConfiguration(configuration)
       .tenant(tenantId)
       .build();
-    return vendorCache.getValueOrLoad(cacheKey, () -> retrieveProvider(id));
+    return vendorCache.getValueOrLoad(cacheKey, () -> lookupProvider(id));
+  }
+
+  private CompletableFuture<VendorById> lookupProvider(int id) {
+    return lookupCache.getValueOrLoad(RecordType.PROVIDER, String.valueOf(id), () -> super.retrieveProvider(id));
   }
 }
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import javax.ws.rs.NotFoundException;
 import lombok.extern.log4j.Log4j2;
 import org.folio.cache.VertxCache;
@@ -24,11 +24,14 @@ import org.folio.holdingsiq.model.Title;
 import org.folio.holdingsiq.model.Titles;
 import org.folio.holdingsiq.service.PackagesHoldingsIQService;
 import org.folio.holdingsiq.service.impl.ResourcesHoldingsIQServiceImpl;
+import org.folio.repository.RecordType;
 import org.folio.rest.util.IdParser;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.rmapi.cache.ResourceCacheKey;
 import org.folio.rmapi.result.ResourceBulkResult;
 import org.folio.rmapi.result.ResourceResult;
 import org.folio.rmapi.result.VendorResult;
+import org.folio.service.holdingsiq.CredentialsRequestQueue;
 import org.folio.util.FutureUtils;
 
 @Log4j2
@@ -39,18 +42,23 @@ public class ResourcesServiceImpl extends ResourcesHoldingsIQServiceImpl {
   private final ProvidersServiceImpl providerService;
   private final PackagesHoldingsIQService packagesService;
   private final VertxCache<ResourceCacheKey, Title> resourceCache;
+  private final CredentialsRequestQueue requestQueue;
+  private final RequestLookupCache lookupCache;
   private final Configuration configuration;
   private final String tenantId;
 
   public ResourcesServiceImpl(Configuration config, Vertx vertx, String tenantId,
                               ProvidersServiceImpl providerService, PackagesHoldingsIQService packagesService,
-                              VertxCache<ResourceCacheKey, Title> resourceCache) {
+                              VertxCache<ResourceCacheKey, Title> resourceCache,
+                              CredentialsRequestQueue requestQueue, RequestLookupCache lookupCache) {
     super(config, vertx);
     this.providerService = providerService;
     this.packagesService = packagesService;
     this.configuration = config;
     this.tenantId = tenantId;
     this.resourceCache = resourceCache;
+    this.requestQueue = requestQueue;
+    this.lookupCache = lookupCache;
   }
 
   public CompletableFuture<ResourceResult> retrieveResource(ResourceId resourceId, List<String> includes) {
@@ -76,20 +84,21 @@ public class ResourcesServiceImpl extends ResourcesHoldingsIQServiceImpl {
   }
 
   public CompletableFuture<Titles> retrieveResources(List<ResourceId> resourceIds, List<String> includes) {
-    Set<CompletableFuture<ResourceResult>> futures = resourceIds.stream()
-      .map(id -> retrieveResource(id, includes, true))
-      .collect(Collectors.toSet());
+    List<Supplier<CompletableFuture<ResourceResult>>> requests = resourceIds.stream()
+      .<Supplier<CompletableFuture<ResourceResult>>>map(id -> () -> retrieveResource(id, includes, true))
+      .toList();
+    var futures = requestQueue.submitAll(requests);
 
     return FutureUtils.allOfSucceeded(futures, throwable -> log.warn(throwable.getMessage(), throwable))
       .thenApply(this::mapToResources);
   }
 
   public CompletableFuture<ResourceBulkResult> retrieveResourcesBulk(Set<String> resourceBulk) {
-    List<String> failed = new ArrayList<>();
-    Set<CompletableFuture<ResourceResult>> futures = resourceBulk.stream()
+    List<String> failed = Collections.synchronizedList(new ArrayList<>());
+    List<Supplier<CompletableFuture<ResourceResult>>> requests = resourceBulk.stream()
       .map(id -> parseToResourceId(id, failed))
       .filter(Objects::nonNull)
-      .map(resourceId ->
+      .<Supplier<CompletableFuture<ResourceResult>>>map(resourceId -> () ->
         retrieveResource(resourceId, Collections.emptyList(), true)
           .whenComplete((result, throwable) -> {
             if (throwable != null) {
@@ -97,7 +106,8 @@ public class ResourcesServiceImpl extends ResourcesHoldingsIQServiceImpl {
                          + resourceId.titleIdPart());
             }
           }))
-      .collect(Collectors.toSet());
+      .toList();
+    var futures = requestQueue.submitAll(requests);
 
     return FutureUtils.allOfSucceeded(futures, throwable -> log.warn(throwable.getMessage(), throwable))
       .thenApply(resourceFutures -> mapToResources(resourceFutures, failed));
@@ -107,7 +117,8 @@ public class ResourcesServiceImpl extends ResourcesHoldingsIQServiceImpl {
                                                              List<String> includes) {
     if (includes.contains(INCLUDE_PACKAGE_VALUE)) {
       PackageId id = new PackageId(resourceId.providerIdPart(), resourceId.packageIdPart());
-      return packagesService.retrievePackage(id.packageIdPart());
+      return lookupCache.getValueOrLoad(RecordType.PACKAGE, IdParser.packageIdToString(id),
+        () -> packagesService.retrievePackage(id.packageIdPart()));
     }
     return completedFuture(null);
   }
@@ -125,7 +136,7 @@ public class ResourcesServiceImpl extends ResourcesHoldingsIQServiceImpl {
       return retrieveResourceWithCache(resourceId, tenantId, configuration)
         .thenApply(this::validateCustomerResourcesList);
     } else {
-      return super.retrieveResource(resourceId)
+      return lookupResource(resourceId)
         .thenApply(this::validateCustomerResourcesList);
     }
   }
@@ -137,7 +148,12 @@ public class ResourcesServiceImpl extends ResourcesHoldingsIQServiceImpl {
       .tenant(tenantId)
       .rmapiConfiguration(configuration)
       .build();
-    return resourceCache.getValueOrLoad(cacheKey, () -> retrieveResource(resourceId));
+    return resourceCache.getValueOrLoad(cacheKey, () -> lookupResource(resourceId));
+  }
+
+  private CompletableFuture<Title> lookupResource(ResourceId resourceId) {
+    return lookupCache.getValueOrLoad(RecordType.RESOURCE, IdParser.resourceIdToString(resourceId),
+      () -> super.retrieveResource(resourceId));
   }
 
   private ResourceBulkResult mapToResources(List<ResourceResult> resourceFutures, List<String> failed) {
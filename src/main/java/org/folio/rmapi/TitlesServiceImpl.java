@@ -4,31 +4,38 @@ import io.vertx.core.Vertx;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import lombok.extern.log4j.Log4j2;
 import org.folio.cache.VertxCache;
 import org.folio.holdingsiq.model.Configuration;
 import org.folio.holdingsiq.model.Title;
 import org.folio.holdingsiq.model.Titles;
 import org.folio.holdingsiq.service.impl.TitlesHoldingsIQServiceImpl;
+import org.folio.repository.RecordType;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.rmapi.cache.TitleCacheKey;
+import org.folio.service.holdingsiq.CredentialsRequestQueue;
 import org.folio.util.FutureUtils;
 
 @Log4j2
 public class TitlesServiceImpl extends TitlesHoldingsIQServiceImpl {
   private final VertxCache<TitleCacheKey, Title> titleCache;
+  private final CredentialsRequestQueue requestQueue;
+  private final RequestLookupCache lookupCache;
   private final Configuration configuration;
   private final String tenantId;
 
   public TitlesServiceImpl(Configuration config, Vertx vertx,
-                           String tenantId, VertxCache<TitleCacheKey, Title> titleCache) {
+                           String tenantId, VertxCache<TitleCacheKey, Title> titleCache,
+                           CredentialsRequestQueue requestQueue, RequestLookupCache lookupCache) {
     super(config, vertx);
 
     this.configuration = config;
     this.tenantId = tenantId;
     this.titleCache = titleCache;
+    this.requestQueue = requestQueue;
+    this.lookupCache = lookupCache;
   }
 
   @Override
@@ -44,15 +51,16 @@ public class TitlesServiceImpl extends TitlesHoldingsIQServiceImpl {
     if (useCache) {
       titleFuture = retrieveTitleWithCache(titleId);
     } else {
-      titleFuture = super.retrieveTitle(titleId);
+      titleFuture = lookupTitle(titleId);
     }
     return titleFuture;
   }
 
   public CompletableFuture<Titles> retrieveTitles(List<Integer> titleIds) {
-    Set<CompletableFuture<Title>> futures = titleIds.stream()
-      .map(id -> retrieveTitle(id, true))
-      .collect(Collectors.toSet());
+    List<Supplier<CompletableFuture<Title>>> requests = titleIds.stream()
+      .<Supplier<CompletableFuture<Title>>>map(id -> () -> retrieveTitle(id, true))
+      .toList();
+    var futures = requestQueue.submitAll(requests);
     return FutureUtils.allOfSucceeded(futures, throwable -> log.warn(throwable.getMessage(), throwable))
       .thenApply(this::mapToTitles);
   }
@@ -70,13 +78,17 @@ public class TitlesServiceImpl extends TitlesHoldingsIQServiceImpl {
     var cacheKey = buildTitleCacheKey(titleId);
     return titleCache.getValueOrLoad(cacheKey, () -> {
       log.info("Title not found in cache, retrieving from HoldingsIQ");
-      return super.retrieveTitle(titleId);
+      return lookupTitle(titleId);
     }).handle((title, throwable) -> {
       log.info("Title fetched from cache: " + title);
       return title;
     });
   }
 
+  private CompletableFuture<Title> lookupTitle(int titleId) {
+    return lookupCache.getValueOrLoad(RecordType.TITLE, String.valueOf(titleId), () -> super.retrieveTitle(titleId));
+  }
+
   private void mergeCustomerResources(Title cachedTitle, Title title) {
     var updatedCustomerResources = title.getCustomerResourcesList();
     var customerResources = cachedTitle.getCustomerResourcesList();
@@ -0,0 +1,47 @@
+package org.folio.rmapi.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.folio.repository.RecordType;
+
+/**
+ * Keeps HoldingsIQ lookups made while one API request is handled, so that the same provider, package, title
+ * or resource is requested from HoldingsIQ once per request, e.g. the package of each resource in a bulk fetch.
+ *
+ * <p>Lookups that are still in flight are shared as well. Failed lookups are not kept and are sent again
+ * by the next caller. The cache is created with {@code RmApiTemplateContext} and lives as long as the request.
+ */
+public class RequestLookupCache {
+
+  private final Map<LookupKey, CompletableFuture<?>> lookups = new ConcurrentHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> getValueOrLoad(RecordType recordType, String id,
+                                                 Supplier<CompletableFuture<T>> loader) {
+    var key = new LookupKey(recordType, id);
+    var lookup = new CompletableFuture<T>();
+    var existingLookup = (CompletableFuture<T>) lookups.putIfAbsent(key, lookup);
+    if (existingLookup != null) {
+      return existingLookup;
+    }
+    CompletableFuture<T> loadFuture;
+    try {
+      loadFuture = loader.get();
+    } catch (RuntimeException e) {
+      loadFuture = CompletableFuture.failedFuture(e);
+    }
+    loadFuture.whenComplete((value, throwable) -> {
+      if (throwable == null) {
+        lookup.complete(value);
+      } else {
+        lookups.remove(key, lookup);
+        lookup.completeExceptionally(throwable);
+      }
+    });
+    return lookup;
+  }
+
+  private record LookupKey(RecordType recordType, String id) { }
+}
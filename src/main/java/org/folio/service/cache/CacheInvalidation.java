@@ -0,0 +1,52 @@
+package org.folio.service.cache;
+
+import io.vertx.core.json.JsonObject;
+import lombok.Value;
+
+/**
+ * Invalidation of one record of a cache of the tenant, sent to all instances of the module.
+ * Record id is empty for caches keyed by tenant only.
+ */
+@Value
+public class CacheInvalidation {
+
+  private static final String CACHE_FIELD = "cache";
+  private static final String TENANT_FIELD = "tenant";
+  private static final String RECORD_ID_FIELD = "recordId";
+
+  CacheType cache;
+  String tenant;
+  String recordId;
+
+  public static CacheInvalidation configuration(String tenant) {
+    return new CacheInvalidation(CacheType.CONFIGURATION, tenant, null);
+  }
+
+  public static CacheInvalidation packageRecord(String tenant, String packageId) {
+    return new CacheInvalidation(CacheType.PACKAGE, tenant, packageId);
+  }
+
+  public static CacheInvalidation resource(String tenant, String resourceId) {
+    return new CacheInvalidation(CacheType.RESOURCE, tenant, resourceId);
+  }
+
+  public static CacheInvalidation title(String tenant, String titleId) {
+    return new CacheInvalidation(CacheType.TITLE, tenant, titleId);
+  }
+
+  public static CacheInvalidation fromJson(JsonObject json) {
+    return new CacheInvalidation(CacheType.valueOf(json.getString(CACHE_FIELD)), json.getString(TENANT_FIELD),
+      json.getString(RECORD_ID_FIELD));
+  }
+
+  public JsonObject toJson() {
+    return new JsonObject()
+      .put(CACHE_FIELD, cache.name())
+      .put(TENANT_FIELD, tenant)
+      .put(RECORD_ID_FIELD, recordId);
+  }
+
+  public enum CacheType {
+    CONFIGURATION, PACKAGE, RESOURCE, TITLE
+  }
+}
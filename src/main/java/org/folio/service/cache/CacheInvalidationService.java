@@ -0,0 +1,209 @@
+package org.folio.service.cache;
+
+import static org.folio.repository.cache.CacheInvalidationConstants.cacheInvalidationChannel;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.ClientSSLOptions;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.SslMode;
+import io.vertx.pgclient.pubsub.PgSubscriber;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.folio.cache.VertxCache;
+import org.folio.common.VertxIdProvider;
+import org.folio.common.cache.BoundedVertxCache;
+import org.folio.holdingsiq.model.Configuration;
+import org.folio.holdingsiq.model.PackageData;
+import org.folio.holdingsiq.model.Title;
+import org.folio.repository.cache.CacheInvalidationRepository;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.util.IdParser;
+import org.folio.rmapi.cache.PackageCacheKey;
+import org.folio.rmapi.cache.ResourceCacheKey;
+import org.folio.rmapi.cache.TitleCacheKey;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps caches of HoldingsIQ records coherent between instances of the module.
+ *
+ * <p>Invalidation is applied to the local caches and broadcast to other instances with Postgres NOTIFY.
+ * Every instance listens to the channel and drops the record from its caches for all credentials of the tenant.
+ * Notifications sent while the listener is disconnected are lost, so the caches are cleared each time it connects.
+ */
+@Log4j2
+@Component
+public class CacheInvalidationService {
+
+  private static final String SENDER_FIELD = "sender";
+  private static final String SERVER_PEM = "server_pem";
+  private static final String CONNECT_TIMEOUT = "connectTimeout";
+  private static final long DEFAULT_CONNECT_TIMEOUT = 60000;
+
+  private final Vertx vertx;
+  private final CacheInvalidationRepository cacheInvalidationRepository;
+  private final VertxIdProvider vertxIdProvider;
+  private final VertxCache<String, Configuration> rmApiConfigurationCache;
+  private final BoundedVertxCache<PackageCacheKey, PackageData> packageCache;
+  private final BoundedVertxCache<ResourceCacheKey, Title> resourceCache;
+  private final BoundedVertxCache<TitleCacheKey, Title> titleCache;
+  private final boolean enabled;
+  private final long reconnectInterval;
+  private PgSubscriber subscriber;
+  private long connectTimeout;
+  private volatile boolean stopped;
+
+  public CacheInvalidationService(Vertx vertx, CacheInvalidationRepository cacheInvalidationRepository,
+                                  VertxIdProvider vertxIdProvider,
+                                  @Qualifier("rmApiConfigurationCache")
+                                  VertxCache<String, Configuration> rmApiConfigurationCache,
+                                  @Qualifier("packageCache")
+                                  BoundedVertxCache<PackageCacheKey, PackageData> packageCache,
+                                  @Qualifier("resourceCache")
+                                  BoundedVertxCache<ResourceCacheKey, Title> resourceCache,
+                                  @Qualifier("titleCache")
+                                  BoundedVertxCache<TitleCacheKey, Title> titleCache,
+                                  @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                  @Value("${cache.invalidation.reconnect.interval:5000}") long reconnectInterval) {
+    this.vertx = vertx;
+    this.cacheInvalidationRepository = cacheInvalidationRepository;
+    this.vertxIdProvider = vertxIdProvider;
+    this.rmApiConfigurationCache = rmApiConfigurationCache;
+    this.packageCache = packageCache;
+    this.resourceCache = resourceCache;
+    this.titleCache = titleCache;
+    this.enabled = enabled;
+    this.reconnectInterval = reconnectInterval;
+  }
+
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    JsonObject config = PostgresClient.getInstance(vertx).getConnectionConfig();
+    connectTimeout = config.getLong(CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
+    subscriber = PgSubscriber.subscriber(vertx, connectOptions(config))
+      .reconnectPolicy(retries -> stopped ? -1 : reconnectInterval)
+      .closeHandler(v -> log.warn("start:: Cache invalidation listener is disconnected"));
+    subscriber.channel(cacheInvalidationChannel())
+      .subscribeHandler(v -> onSubscribe())
+      .handler(this::onNotification);
+    connect();
+  }
+
+  /**
+   * Stops listening to invalidations of other instances and closes the connection of the listener.
+   */
+  public Future<Void> stop() {
+    stopped = true;
+    if (subscriber == null) {
+      return Future.succeededFuture();
+    }
+    log.info("stop:: Stopping cache invalidation listener");
+    return subscriber.close();
+  }
+
+  /**
+   * Invalidates the record in local caches and in caches of other instances.
+   */
+  public CompletableFuture<Void> invalidate(CacheInvalidation invalidation) {
+    apply(invalidation);
+    return publish(invalidation);
+  }
+
+  /**
+   * Invalidates the record in caches of other instances only, e.g. when local cache is already updated.
+   * Failure to send the notification is logged and does not fail the caller.
+   */
+  public CompletableFuture<Void> publish(CacheInvalidation invalidation) {
+    if (!enabled) {
+      return CompletableFuture.completedFuture(null);
+    }
+    var payload = invalidation.toJson().put(SENDER_FIELD, vertxIdProvider.getVertxId().toString());
+    return cacheInvalidationRepository.notify(payload)
+      .exceptionally(e -> {
+        log.warn("publish:: Failed to send invalidation of {} cache, msg: {}", invalidation.getCache(),
+          e.getMessage());
+        return null;
+      });
+  }
+
+  void onNotification(String payload) {
+    try {
+      var json = new JsonObject(payload);
+      if (vertxIdProvider.getVertxId().toString().equals(json.getString(SENDER_FIELD))) {
+        return;
+      }
+      var invalidation = CacheInvalidation.fromJson(json);
+      log.debug("onNotification:: Invalidating {} cache of tenant {}", invalidation.getCache(),
+        invalidation.getTenant());
+      apply(invalidation);
+    } catch (RuntimeException e) {
+      log.warn("onNotification:: Failed to apply cache invalidation {}, msg: {}", payload, e.getMessage());
+    }
+  }
+
+  void onSubscribe() {
+    log.info("onSubscribe:: Cache invalidation listener is connected, clearing caches");
+    rmApiConfigurationCache.invalidateAll();
+    packageCache.invalidateAll();
+    resourceCache.invalidateAll();
+    titleCache.invalidateAll();
+  }
+
+  private void apply(CacheInvalidation invalidation) {
+    var tenant = invalidation.getTenant();
+    var recordId = invalidation.getRecordId();
+    switch (invalidation.getCache()) {
+      case CONFIGURATION -> rmApiConfigurationCache.invalidate(tenant);
+      case PACKAGE -> packageCache.invalidateIf(key -> Objects.equals(tenant, key.getTenant())
+        && Objects.equals(recordId, key.getPackageId()));
+      case RESOURCE -> resourceCache.invalidateIf(key -> Objects.equals(tenant, key.getTenant())
+        && Objects.equals(recordId, IdParser.resourceIdToString(key.getResourceId())));
+      case TITLE -> titleCache.invalidateIf(key -> Objects.equals(tenant, key.getTenant())
+        && Objects.equals(recordId, String.valueOf(key.getTitleId())));
+    }
+  }
+
+  private void connect() {
+    if (stopped) {
+      return;
+    }
+    subscriber.connect()
+      .timeout(connectTimeout, TimeUnit.MILLISECONDS)
+      .onFailure(e -> {
+        log.warn("connect:: Failed to start cache invalidation listener, msg: {}", e.getMessage());
+        vertx.setTimer(reconnectInterval, timerId -> connect());
+      });
+  }
+
+  /**
+   * Creates options of the listener connection with the same connection and SSL settings as PostgresClient uses.
+   */
+  static PgConnectOptions connectOptions(JsonObject config) {
+    var options = new PgConnectOptions()
+      .setHost(config.getString("host"))
+      .setPort(config.getInteger("port"))
+      .setDatabase(config.getString("database"))
+      .setUser(config.getString("username"))
+      .setPassword(config.getString("password"));
+    String serverPem = config.getString(SERVER_PEM);
+    if (serverPem != null) {
+      options
+        .setSslMode(SslMode.VERIFY_FULL)
+        .setSslOptions(new ClientSSLOptions()
+          .setHostnameVerificationAlgorithm("HTTPS")
+          .setTrustOptions(new PemTrustOptions().addCertValue(Buffer.buffer(serverPem)))
+          .setEnabledSecureTransportProtocols(Set.of("TLSv1.3")));
+    }
+    return options;
+  }
+}
@@ -10,6 +10,7 @@ import static org.folio.repository.holdings.LoadStatus.NONE;
 import static org.folio.service.holdings.HoldingConstants.HOLDINGS_SERVICE_ADDRESS;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -18,6 +19,8 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
@@ -42,10 +45,17 @@ public abstract class AbstractLoadServiceFacade implements LoadServiceFacade {
     .appendLiteral(' ')
     .append(DateTimeFormatter.ISO_LOCAL_TIME)
     .toFormatter();
+  /**
+   * Either the local holdings service, which receives pages by reference, or an event bus proxy,
+   * which serializes every page to JSON. Proxy waits for the reply up to holdings.service.proxy.timeout,
+   * so that a page that is still being written keeps its place in the page pipeline.
+   */
   protected final HoldingsService holdingsService;
   protected final int loadPageRetries;
   protected final int loadPageDelay;
   private final int loadPageSizeMin;
+  private final int maxPendingPages;
+  private final int pageConcurrency;
   private final int statusRetryCount;
   private final int snapshotRefreshPeriod;
   private final long statusRetryDelay;
@@ -57,15 +67,25 @@ public abstract class AbstractLoadServiceFacade implements LoadServiceFacade {
                                       @Value("${holdings.page.retry.count}") int loadPageRetryCount,
                                       @Value("${holdings.page.size.min}") int loadPageSizeMin,
                                       @Value("${holdings.snapshot.refresh.period}") int snapshotRefreshPeriod,
+                                      @Value("${holdings.page.pending.max:4}") int maxPendingPages,
+                                      @Value("${holdings.page.concurrency:1}") int pageConcurrency,
+                                      @Value("${holdings.service.direct.call.enable:false}") boolean directCallEnabled,
+                                      @Value("${holdings.service.proxy.timeout:600000}") long proxyTimeout,
+                                      HoldingsService localHoldingsService,
                                       Vertx vertx) {
     this.loadPageSizeMin = loadPageSizeMin;
+    this.maxPendingPages = maxPendingPages;
+    this.pageConcurrency = pageConcurrency;
     this.loadPageDelay = loadPageRetryDelay;
     this.loadPageRetries = loadPageRetryCount;
     this.statusRetryDelay = statusRetryDelay;
     this.statusRetryCount = statusRetryCount;
     this.snapshotRefreshPeriod = snapshotRefreshPeriod;
     this.vertx = vertx;
-    this.holdingsService = HoldingsService.createProxy(vertx, HOLDINGS_SERVICE_ADDRESS);
+    this.holdingsService = directCallEnabled
+                           ? localHoldingsService
+                           : HoldingsService.createProxy(vertx, HOLDINGS_SERVICE_ADDRESS,
+                             new DeliveryOptions().setSendTimeout(proxyTimeout));
   }
 
   @Override
@@ -136,10 +156,33 @@ public abstract class AbstractLoadServiceFacade implements LoadServiceFacade {
     return remainder == 0 ? quotient : quotient + 1;
   }
 
+  /**
+   * Loads pages from 1 to totalPages, each page is retried on failure.
+   *
+   * @see #loadWithPagination(int, Integer, IntFunction)
+   */
   protected CompletableFuture<Void> loadWithPagination(Integer totalPages,
                                                        IntFunction<CompletableFuture<Void>> offsetLoader) {
+    return loadWithPagination(1, totalPages, offsetLoader);
+  }
+
+  /**
+   * Loads pages from firstPage to totalPages, each page is retried on failure.
+   * If holdings.page.concurrency is greater than 1 then up to that amount of pages is loaded at the same time,
+   * otherwise pages are loaded one by one.
+   *
+   * @param firstPage    number of the first page to load, pages before it are already loaded
+   * @param totalPages   amount of pages to load
+   * @param offsetLoader loads a page with specified number
+   * @return future that will be completed when all pages are loaded, or failed when any page fails after retries
+   */
+  protected CompletableFuture<Void> loadWithPagination(int firstPage, Integer totalPages,
+                                                       IntFunction<CompletableFuture<Void>> offsetLoader) {
+    if (pageConcurrency > 1) {
+      return loadConcurrently(firstPage, totalPages, offsetLoader);
+    }
     CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
-    List<Integer> pagesToLoad = IntStream.range(1, totalPages + 1).boxed().toList();
+    List<Integer> pagesToLoad = IntStream.range(firstPage, totalPages + 1).boxed().toList();
     for (Integer page : pagesToLoad) {
       future = future.thenCompose(
         o -> retryOnFailure(loadPageRetries, loadPageDelay, retries -> calculateOffset(offsetLoader, page, retries)));
@@ -147,6 +190,45 @@ public abstract class AbstractLoadServiceFacade implements LoadServiceFacade {
     return future;
   }
 
+  private CompletableFuture<Void> loadConcurrently(int firstPage, int totalPages,
+                                                   IntFunction<CompletableFuture<Void>> offsetLoader) {
+    AtomicInteger nextPage = new AtomicInteger(firstPage);
+    AtomicBoolean failed = new AtomicBoolean(false);
+    CompletableFuture<?>[] workers = IntStream.range(0, Math.min(pageConcurrency, totalPages - firstPage + 1))
+      .mapToObj(worker -> loadNextPage(totalPages, nextPage, failed, offsetLoader))
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(workers);
+  }
+
+  private CompletableFuture<Void> loadNextPage(int totalPages, AtomicInteger nextPage, AtomicBoolean failed,
+                                               IntFunction<CompletableFuture<Void>> offsetLoader) {
+    int page = nextPage.getAndIncrement();
+    if (page > totalPages || failed.get()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return retryOnFailure(loadPageRetries, loadPageDelay, retries -> calculateOffset(offsetLoader, page, retries))
+      .whenComplete((o, throwable) -> {
+        if (throwable != null) {
+          failed.set(true);
+        }
+      })
+      .thenCompose(o -> loadNextPage(totalPages, nextPage, failed, offsetLoader));
+  }
+
+  /**
+   * Returns number of the page that loading should start from, pages before it were loaded by previous attempt.
+   */
+  protected int getFirstPage(LoadHoldingsMessage message) {
+    return message.getFirstPage() == null ? 1 : message.getFirstPage();
+  }
+
+  /**
+   * Creates pipeline that limits the amount of loaded pages waiting to be written to the database.
+   */
+  protected HoldingsPagePipeline createPagePipeline(String credentialsId) {
+    return new HoldingsPagePipeline(credentialsId, maxPendingPages);
+  }
+
   protected CompletableFuture<Void> calculateOffset(IntFunction<CompletableFuture<Void>> pageLoader,
                                                     Integer page, Integer retries) {
     if (loadPageRetries > retries) {
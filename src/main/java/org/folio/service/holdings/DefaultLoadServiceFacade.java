@@ -25,17 +25,27 @@ public class DefaultLoadServiceFacade extends AbstractLoadServiceFacade {
                                   @Value("${holdings.page.retry.count}") int loadPageRetryCount,
                                   @Value("${holdings.page.size:2500}") int loadPageSize,
                                   @Value("${holdings.page.size.min}") int loadPageSizeMin,
+                                  @Value("${holdings.page.pending.max:4}") int maxPendingPages,
+                                  @Value("${holdings.page.concurrency:1}") int pageConcurrency,
+                                  @Value("${holdings.service.direct.call.enable:false}") boolean directCallEnabled,
+                                  @Value("${holdings.service.proxy.timeout:600000}") long proxyTimeout,
+                                  HoldingsService localHoldingsService,
                                   Vertx vertx) {
     super(statusRetryDelay, statusRetryCount, loadPageRetryDelay, loadPageRetryCount, loadPageSizeMin,
-      snapshotRefreshPeriod, vertx);
+      snapshotRefreshPeriod, maxPendingPages, pageConcurrency, directCallEnabled, proxyTimeout, localHoldingsService,
+      vertx);
     this.loadPageSize = loadPageSize;
   }
 
   @Override
   protected CompletableFuture<Void> loadHoldings(LoadHoldingsMessage message, LoadService loadingService) {
-    return loadWithPagination(message.getTotalPages(), offset -> loadingService.loadHoldings(getMaxPageSize(), offset)
-      .thenAccept(holdings -> holdingsService.saveHolding(
-        new HoldingsMessage(holdings.getHoldingsList(), message.getTenantId(), null, message.getCredentialsId()))));
+    HoldingsPagePipeline pipeline = createPagePipeline(message.getCredentialsId());
+    return loadWithPagination(getFirstPage(message), message.getTotalPages(),
+      offset -> loadingService.loadHoldings(getMaxPageSize(), offset)
+        .thenCompose(holdings -> pipeline.submit(() -> holdingsService.saveHolding(
+          new HoldingsMessage(holdings.getHoldingsList(), message.getTenantId(), null, message.getCredentialsId(),
+            toPage(offset))))))
+      .thenCompose(o -> pipeline.drain());
   }
 
   @Override
@@ -73,6 +83,10 @@ public class DefaultLoadServiceFacade extends AbstractLoadServiceFacade {
     return offsetLoader.apply(offset);
   }
 
+  private int toPage(int offset) {
+    return (offset - 1) / getMaxPageSize() + 1;
+  }
+
   private HoldingsStatus mapToStatus(HoldingsLoadStatus status) {
     if (status == null) {
       return createNoneStatus();
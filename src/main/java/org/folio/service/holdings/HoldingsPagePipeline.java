@@ -0,0 +1,137 @@
+package org.folio.service.holdings;
+
+import static org.folio.util.FutureUtils.mapVertxFuture;
+
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounds the amount of holdings pages that are already loaded from HoldingsIQ, but not yet written to the database.
+ *
+ * <p>Pages are submitted together with the action that writes them. The future returned by
+ * {@link #submit(Supplier)} is completed only when there is room for one more page, so the caller that chains page
+ * fetching on it stops fetching while {@code maxPendingPages} pages are still waiting to be written and resumes
+ * when writes are acknowledged.
+ *
+ * <p>A page that failed to be written still releases its slot, so that pages already fetched are written,
+ * but {@link #drain()} fails with the first write failure and the load is reported as failed.
+ */
+@Log4j2
+public class HoldingsPagePipeline {
+
+  private final String credentialsId;
+  private final int maxPendingPages;
+  private final List<Waiter> waiters = new LinkedList<>();
+
+  private int pendingPages;
+  private int maxObservedPendingPages;
+  private int submittedPages;
+  private int failedPages;
+  private long waitTimeNanos;
+  private Throwable failure;
+
+  public HoldingsPagePipeline(String credentialsId, int maxPendingPages) {
+    this.credentialsId = credentialsId;
+    this.maxPendingPages = Math.max(1, maxPendingPages);
+  }
+
+  /**
+   * Starts writing of a page.
+   *
+   * @param pageWriter action that writes the page, returned future is completed when the page is written
+   * @return future that will be completed when the pipeline is ready to accept the next page
+   */
+  public CompletableFuture<Void> submit(Supplier<Future<Void>> pageWriter) {
+    synchronized (this) {
+      pendingPages++;
+      submittedPages++;
+      maxObservedPendingPages = Math.max(maxObservedPendingPages, pendingPages);
+    }
+    mapVertxFuture(pageWriter.get())
+      .whenComplete((o, throwable) -> onPageWritten(throwable));
+    return awaitPendingBelow(maxPendingPages);
+  }
+
+  /**
+   * Returns future that will be completed when all submitted pages are written,
+   * or failed with the first write failure when any page failed to be written.
+   */
+  public CompletableFuture<Void> drain() {
+    return awaitPendingBelow(1)
+      .thenRun(() -> log.info("Holdings pipeline for credentials {} drained: pages = {}, failed pages = {}, "
+                              + "max queue depth = {}, waited = {} ms", credentialsId, submittedPages, failedPages,
+        maxObservedPendingPages, getWaitTimeMillis()))
+      .thenCompose(o -> failureOrNothing());
+  }
+
+  /**
+   * Returns amount of pages that are loaded, but not yet written.
+   */
+  public synchronized int getPendingPages() {
+    return pendingPages;
+  }
+
+  /**
+   * Returns the highest amount of pages that were waiting to be written at the same time.
+   */
+  public synchronized int getMaxObservedPendingPages() {
+    return maxObservedPendingPages;
+  }
+
+  /**
+   * Returns total time in milliseconds that page fetching was suspended waiting for writes.
+   */
+  public synchronized long getWaitTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(waitTimeNanos);
+  }
+
+  private synchronized CompletableFuture<Void> failureOrNothing() {
+    return failure == null ? CompletableFuture.completedFuture(null) : CompletableFuture.failedFuture(failure);
+  }
+
+  private CompletableFuture<Void> awaitPendingBelow(int limit) {
+    synchronized (this) {
+      if (pendingPages < limit) {
+        return CompletableFuture.completedFuture(null);
+      }
+      Waiter waiter = new Waiter(limit, System.nanoTime(), new CompletableFuture<>());
+      waiters.add(waiter);
+      log.debug("Holdings pipeline for credentials {} is full [pending pages: {}], waiting for writes",
+        credentialsId, pendingPages);
+      return waiter.future();
+    }
+  }
+
+  private void onPageWritten(Throwable throwable) {
+    List<Waiter> released = new ArrayList<>();
+    synchronized (this) {
+      pendingPages--;
+      if (throwable != null) {
+        failedPages++;
+        if (failure == null) {
+          failure = throwable;
+        }
+        log.warn("Failed to write holdings page for credentials {}", credentialsId, throwable);
+      }
+      Iterator<Waiter> iterator = waiters.iterator();
+      while (iterator.hasNext()) {
+        Waiter waiter = iterator.next();
+        if (pendingPages < waiter.limit()) {
+          iterator.remove();
+          waitTimeNanos += System.nanoTime() - waiter.startedAt();
+          released.add(waiter);
+        }
+      }
+    }
+    released.forEach(waiter -> waiter.future().complete(null));
+  }
+
+  private record Waiter(int limit, long startedAt, CompletableFuture<Void> future) { }
+}
@@ -0,0 +1,59 @@
+package org.folio.service.holdings;
+
+import io.vertx.core.Vertx;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.log4j.Log4j2;
+import org.folio.repository.holdings.status.retry.RetryJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically executes due retries of failed holdings loads of all tenants.
+ *
+ * <p>Retries are stored in the database, so they are not lost when the instance that scheduled them is restarted.
+ * Every instance of the module polls the retries, each retry is claimed by one instance at a time.
+ * Claim of an instance that stopped before starting the retry expires, and the retry is claimed by another instance.
+ */
+@Log4j2
+@Component
+public class HoldingsRetryPoller {
+
+  private final Vertx vertx;
+  private final HoldingsService holdingsService;
+  private final RetryJobRepository retryJobRepository;
+  private final long pollInterval;
+  private final AtomicBoolean polling = new AtomicBoolean();
+
+  public HoldingsRetryPoller(Vertx vertx, HoldingsService holdingsService, RetryJobRepository retryJobRepository,
+                             @Value("${holdings.retry.poll.interval:60000}") long pollInterval) {
+    this.vertx = vertx;
+    this.holdingsService = holdingsService;
+    this.retryJobRepository = retryJobRepository;
+    this.pollInterval = pollInterval;
+  }
+
+  public void start() {
+    vertx.setPeriodic(pollInterval, timerId -> poll());
+  }
+
+  private void poll() {
+    if (!polling.compareAndSet(false, true)) {
+      return;
+    }
+    retryJobRepository.findTenants()
+      .thenCompose(tenants -> CompletableFuture.allOf(tenants.stream()
+        .map(tenant -> holdingsService.runDueRetries(tenant)
+          .exceptionally(e -> {
+            log.warn("Failed to run due holdings retries for tenant {}", tenant, e);
+            return null;
+          }))
+        .toArray(CompletableFuture[]::new)))
+      .whenComplete((o, throwable) -> {
+        if (throwable != null) {
+          log.warn("Failed to poll due holdings retries", throwable);
+        }
+        polling.set(false);
+      });
+  }
+}
@@ -5,8 +5,10 @@ import io.vertx.codegen.annotations.ProxyGen;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.folio.repository.holdings.DbHoldingInfo;
 import org.folio.rest.util.template.RmApiTemplateContext;
 import org.folio.service.holdings.message.DeltaReportCreatedMessage;
@@ -25,6 +27,11 @@ public interface HoldingsService {
     return new HoldingsServiceVertxEBProxy(vertx, address);
   }
 
+  @GenIgnore
+  static HoldingsService createProxy(Vertx vertx, String address, DeliveryOptions options) {
+    return new HoldingsServiceVertxEBProxy(vertx, address, options);
+  }
+
   /**
    * Starts the process of loading holdings.
    *
@@ -59,15 +66,36 @@ public interface HoldingsService {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Executes retries of failed loads of tenant that are due.
+   */
   @GenIgnore
-  default CompletableFuture<List<DbHoldingInfo>> getHoldingsByPackageId(String packageId, String credentialsId,
-                                                                        String tenant) {
+  default CompletableFuture<Void> runDueRetries(String tenant) {
     throw new UnsupportedOperationException();
   }
 
-  void saveHolding(HoldingsMessage holdings);
+  /**
+   * Reads holdings of package and passes them to chunkConsumer in chunks of chunkSize.
+   */
+  @GenIgnore
+  default CompletableFuture<Void> getHoldingsByPackageId(String packageId, String credentialsId, String tenant,
+                                                         int chunkSize, Consumer<List<DbHoldingInfo>> chunkConsumer) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Saves page of holdings.
+   *
+   * @return future that will be completed when the page is written and loading status is updated
+   */
+  Future<Void> saveHolding(HoldingsMessage holdings);
 
-  void processChanges(DeltaReportMessage holdings);
+  /**
+   * Applies page of delta report changes.
+   *
+   * @return future that will be completed when the changes are written and loading status is updated
+   */
+  Future<Void> processChanges(DeltaReportMessage holdings);
 
   void snapshotCreated(SnapshotCreatedMessage message);
 
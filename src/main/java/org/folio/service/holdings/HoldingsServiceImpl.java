@@ -19,7 +19,6 @@ import static org.folio.util.FutureUtils.failedFuture;
 import static org.folio.util.FutureUtils.mapVertxFuture;
 
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import java.time.OffsetDateTime;
@@ -28,16 +27,23 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.common.VertxIdProvider;
+import org.folio.holdingsiq.model.Configuration;
 import org.folio.holdingsiq.model.Holding;
 import org.folio.holdingsiq.model.HoldingChangeType;
 import org.folio.holdingsiq.model.HoldingInReport;
@@ -45,32 +51,45 @@ import org.folio.repository.holdings.DbHoldingInfo;
 import org.folio.repository.holdings.HoldingsId;
 import org.folio.repository.holdings.HoldingsRepository;
 import org.folio.repository.holdings.status.HoldingsStatusRepository;
+import org.folio.repository.holdings.status.checkpoint.LoadCheckpoint;
+import org.folio.repository.holdings.status.checkpoint.LoadCheckpointRepository;
+import org.folio.repository.holdings.status.retry.RetryJob;
+import org.folio.repository.holdings.status.retry.RetryJobRepository;
+import org.folio.repository.holdings.status.retry.RetryJobType;
 import org.folio.repository.holdings.status.retry.RetryStatus;
 import org.folio.repository.holdings.status.retry.RetryStatusRepository;
 import org.folio.repository.holdings.transaction.TransactionIdRepository;
+import org.folio.repository.kbcredentials.DbKbCredentials;
+import org.folio.repository.kbcredentials.KbCredentialsRepository;
+import org.folio.repository.uc.PackageCostPerUseRepository;
 import org.folio.rest.jaxrs.model.HoldingsLoadingStatus;
 import org.folio.rest.jaxrs.model.LoadStatusAttributes;
 import org.folio.rest.jaxrs.model.LoadStatusInformation;
 import org.folio.rest.jaxrs.model.LoadStatusNameEnum;
 import org.folio.rest.util.template.RmApiTemplateContext;
+import org.folio.service.holdings.LoadProgressTracker.PageProgress;
 import org.folio.service.holdings.exception.ProcessInProgressException;
+import org.folio.service.holdings.lock.HoldingsLock;
 import org.folio.service.holdings.message.ConfigurationMessage;
 import org.folio.service.holdings.message.DeltaReportCreatedMessage;
 import org.folio.service.holdings.message.DeltaReportMessage;
 import org.folio.service.holdings.message.HoldingsMessage;
 import org.folio.service.holdings.message.LoadFailedMessage;
+import org.folio.service.holdings.message.LoadHoldingsMessage;
 import org.folio.service.holdings.message.SnapshotCreatedMessage;
 import org.folio.service.holdings.message.SnapshotFailedMessage;
-import org.glassfish.jersey.internal.util.Producer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
 public class HoldingsServiceImpl implements HoldingsService {
 
-  private static final String START_LOADING_LOCK = "getStatus";
+  private static final String START_LOADING_LOCK_PREFIX = "getStatus";
+  private static final int MAX_DUE_RETRIES = 50;
   private static final List<HoldingChangeType> ADDED_OR_UPDATED_CHANGE_TYPES = Arrays.asList(
     HOLDING_ADDED,
     HOLDING_UPDATED,
@@ -87,7 +106,9 @@ public class HoldingsServiceImpl implements HoldingsService {
   private static final String FAILED_SAVE_HOLDINGS_MESSAGE = "Failed to save holdings";
   private static final String FAILED_UPDATE_STATUS_TO_FAILED_MESSAGE = "Failed to update status to failed";
   private static final String FAILED_SAVE_STATUS_MESSAGE = "Failed to save status";
+  private static final String LOAD_NOT_STARTED_MESSAGE = "Loading of holdings is not started for credentials ";
   private static final String LOADING_STATUS_IN_PROGRESS_MESSAGE = "Loading status is already In Progress";
+  private static final String RESUMING_LOADING_MESSAGE = "Resuming loading of holdings for credentials {} from page {}";
   private static final String SAVING_HOLDINGS_MESSAGE = "Saving holdings to database.";
   private static final String SKIPPING_LOADING_SNAPSHOT_MESSAGE = "Skipping loading snapshot, "
                                                                   + "because transaction with id {} is already loaded";
@@ -96,35 +117,65 @@ public class HoldingsServiceImpl implements HoldingsService {
   private HoldingsRepository holdingsRepository;
   private HoldingsStatusRepository holdingsStatusRepository;
   private RetryStatusRepository retryStatusRepository;
+  private RetryJobRepository retryJobRepository;
   private TransactionIdRepository transactionIdRepository;
-  private Vertx vertx;
+  private LoadCheckpointRepository loadCheckpointRepository;
+  private HoldingsLock holdingsLock;
+  private PackageCostPerUseRepository packageCostPerUseRepository;
+  private KbCredentialsRepository kbCredentialsRepository;
+  private Converter<DbKbCredentials, Configuration> configurationConverter;
+  private VertxIdProvider vertxIdProvider;
+  private final LoadCheckpointTracker checkpointTracker = new LoadCheckpointTracker();
+  private final LoadProgressTracker progressTracker;
+  private final Map<UUID, Long> loadGenerations = new ConcurrentHashMap<>();
   private long snapshotRetryDelay;
   private int snapshotRetryCount;
   private long loadHoldingsRetryDelay;
   private int loadHoldingsRetryCount;
   private int loadHoldingsTimeout;
+  private boolean snapshotSwapEnabled;
+  private long retryLeaseDuration;
 
   @Autowired
   public HoldingsServiceImpl(Vertx vertx, HoldingsRepository holdingsRepository,
                              @Value("${holdings.snapshot.retry.delay}") long snapshotRetryDelay,
                              @Value("${holdings.snapshot.retry.count}") int snapshotRetryCount,
-                             @Value("${holdings.snapshot.retry.delay}") long loadHoldingsRetryDelay,
-                             @Value("${holdings.snapshot.retry.count}") int loadHoldingsRetryCount,
+                             @Value("${holdings.load.retry.delay}") long loadHoldingsRetryDelay,
+                             @Value("${holdings.load.retry.count}") int loadHoldingsRetryCount,
                              @Value("${holdings.timeout}") int loadHoldingsTimeout,
+                             @Value("${holdings.snapshot.swap.enable:false}") boolean snapshotSwapEnabled,
+                             @Value("${holdings.status.flush.interval:5000}") long statusFlushInterval,
+                             @Value("${holdings.retry.lease.duration:600000}") long retryLeaseDuration,
                              HoldingsStatusRepository holdingsStatusRepository,
                              RetryStatusRepository retryStatusRepository,
-                             TransactionIdRepository transactionIdRepository) {
-    this.vertx = vertx;
+                             RetryJobRepository retryJobRepository,
+                             TransactionIdRepository transactionIdRepository,
+                             LoadCheckpointRepository loadCheckpointRepository,
+                             @Qualifier("holdingsLock") HoldingsLock holdingsLock,
+                             PackageCostPerUseRepository packageCostPerUseRepository,
+                             KbCredentialsRepository kbCredentialsRepository,
+                             Converter<DbKbCredentials, Configuration> configurationConverter,
+                             VertxIdProvider vertxIdProvider) {
     this.holdingsRepository = holdingsRepository;
     this.holdingsStatusRepository = holdingsStatusRepository;
     this.retryStatusRepository = retryStatusRepository;
+    this.retryJobRepository = retryJobRepository;
     this.snapshotRetryDelay = snapshotRetryDelay;
     this.snapshotRetryCount = snapshotRetryCount;
     this.loadHoldingsRetryDelay = loadHoldingsRetryDelay;
     this.loadHoldingsRetryCount = loadHoldingsRetryCount;
     this.loadHoldingsTimeout = loadHoldingsTimeout;
+    this.snapshotSwapEnabled = snapshotSwapEnabled;
+    this.progressTracker = new LoadProgressTracker(statusFlushInterval);
     this.loadServiceFacade = LoadServiceFacade.createProxy(vertx, HoldingConstants.LOAD_FACADE_ADDRESS);
     this.transactionIdRepository = transactionIdRepository;
+    this.loadCheckpointRepository = loadCheckpointRepository;
+    this.holdingsLock = holdingsLock;
+    this.packageCostPerUseRepository = packageCostPerUseRepository;
+    this.retryLeaseDuration = retryLeaseDuration;
+    this.kbCredentialsRepository = kbCredentialsRepository;
+    this.configurationConverter = configurationConverter;
+    this.vertxIdProvider = vertxIdProvider;
   }
 
   @Override
@@ -133,7 +184,8 @@ public class HoldingsServiceImpl implements HoldingsService {
     final String credentialsId = context.getCredentialsId();
     log.debug("loadSingleHoldings:: by [tenant: {}]", tenantId);
 
-    Future<Void> executeFuture = executeWithLock(START_LOADING_LOCK, () ->
+    final String lockName = getStartLoadingLock(tenantId, credentialsId);
+    Future<Void> executeFuture = holdingsLock.executeWithLock(lockName, tenantId, () ->
       tryChangingStatusToInProgress(getStatusPopulatingStagingArea(), toUUID(credentialsId), tenantId)
         .thenCompose(o -> resetRetries(snapshotRetryCount - 1, toUUID(credentialsId), tenantId))
         .thenAccept(o -> {
@@ -166,65 +218,72 @@ public class HoldingsServiceImpl implements HoldingsService {
   @Override
   public CompletableFuture<Void> setUpCredentials(String credentialsId, String tenant) {
     UUID credentialsUuid = toUUID(credentialsId);
-    return setStatusToNotStarted(credentialsUuid, tenant)
+    return holdingsRepository.createPartition(credentialsUuid, tenant)
+      .thenCompose(v -> setStatusToNotStarted(credentialsUuid, tenant))
       .thenCompose(v -> resetRetries(0, credentialsUuid, tenant));
   }
 
   @Override
-  public CompletableFuture<List<DbHoldingInfo>> getHoldingsByPackageId(String packageId, String credentialsId,
-                                                                       String tenantId) {
-    return holdingsRepository.findAllByPackageId(Integer.parseInt(packageId), toUUID(credentialsId), tenantId);
+  public CompletableFuture<Void> getHoldingsByPackageId(String packageId, String credentialsId, String tenantId,
+                                                        int chunkSize, Consumer<List<DbHoldingInfo>> chunkConsumer) {
+    return holdingsRepository.findAllByPackageId(Integer.parseInt(packageId), toUUID(credentialsId), tenantId,
+      chunkSize, chunkConsumer);
   }
 
   @Override
-  public void saveHolding(HoldingsMessage holdings) {
+  public Future<Void> saveHolding(HoldingsMessage holdings) {
     final String tenantId = holdings.getTenantId();
     final UUID credentialsId = toUUID(holdings.getCredentialsId());
     log.debug("saveHolding:: by [tenant: {}]", tenantId);
 
-    saveHoldings(holdings.getHoldingList(), OffsetDateTime.now(), credentialsId, tenantId)
-      .thenCompose(o -> holdingsStatusRepository.increaseImportedCount(holdings.getHoldingList().size(),
-        1, credentialsId, tenantId)
-      )
-      .thenCompose(status -> {
-        LoadStatusAttributes attributes = status.getData().getAttributes();
-
-        if (hasLoadedLastPage(status)) {
-          return handleLastPage(holdings, attributes, credentialsId, tenantId);
+    Promise<Void> promise = Promise.promise();
+    saveLoadedHoldings(holdings.getHoldingList(), OffsetDateTime.now(), credentialsId, tenantId)
+      .thenCompose(o -> updateCheckpoint(holdings, credentialsId, tenantId))
+      .thenCompose(o -> updateProgress(holdings.getHoldingList().size(), credentialsId, tenantId))
+      .thenCompose(progress -> {
+        if (progress.lastPage()) {
+          return handleLastPage(holdings, progress.totalCount(), credentialsId, tenantId);
         }
         return CompletableFuture.completedFuture(null);
       })
+      .thenAccept(o -> promise.handle(Future.succeededFuture(null)))
       .exceptionally(e -> {
         log.warn(FAILED_SAVE_HOLDINGS_MESSAGE, e);
+        promise.handle(Future.failedFuture(e));
         return null;
       });
+    return promise.future();
   }
 
   @Override
-  public void processChanges(DeltaReportMessage holdings) {
+  public Future<Void> processChanges(DeltaReportMessage holdings) {
     final String tenantId = holdings.getTenantId();
     final UUID credentialsId = toUUID(holdings.getCredentialsId());
     log.debug("processChanges:: by [tenant: {}]", tenantId);
 
+    Promise<Void> promise = Promise.promise();
     processHoldingsChanges(holdings.getHoldingList(), OffsetDateTime.now(), credentialsId, tenantId)
-      .thenCompose(o -> holdingsStatusRepository.increaseImportedCount(holdings.getHoldingList().size(),
-        1, credentialsId, tenantId)
-      )
-      .thenCompose(status -> {
-        LoadStatusAttributes attributes = status.getData().getAttributes();
-
-        if (hasLoadedLastPage(status)) {
+      .thenCompose(o -> updateProgress(holdings.getHoldingList().size(), credentialsId, tenantId))
+      .thenCompose(progress -> {
+        if (progress.lastPage()) {
           log.debug("processChanges:: Attempts to update holding status & save transactionId");
-          return holdingsStatusRepository
-            .update(getStatusCompleted(attributes.getTotalCount()), credentialsId, tenantId)
-            .thenCompose(o -> transactionIdRepository.save(credentialsId, holdings.getTransactionId(), tenantId));
+          // delta is applied to holdings directly, checkpoint and snapshot table prepared for the load are not used
+          return clearCheckpoint(credentialsId, tenantId)
+            .thenCompose(o -> dropSnapshotTable(credentialsId, tenantId))
+            .thenCompose(o -> holdingsStatusRepository
+              .update(getStatusCompleted(progress.totalCount()), credentialsId, tenantId))
+            .thenCompose(o -> transactionIdRepository.save(credentialsId, holdings.getTransactionId(), tenantId))
+            .thenCompose(o -> packageCostPerUseRepository.deleteByCredentialsId(credentialsId, tenantId));
         }
         return CompletableFuture.completedFuture(null);
       })
+      .thenAccept(o -> promise.handle(Future.succeededFuture(null)))
       .exceptionally(e -> {
         log.warn(FAILED_PROCESS_CHANGES_MESSAGE, e);
+        promise.handle(Future.failedFuture(e));
         return null;
       });
+    return promise.future();
   }
 
   @Override
@@ -242,7 +301,8 @@ public class HoldingsServiceImpl implements HoldingsService {
           holdingsStatusRepository.update(getStatusLoadingHoldings(
               message.getTotalCount(), 0, message.getTotalPages(), 0), credentialsId, tenantId)
             .thenCompose(o -> resetRetries(loadHoldingsRetryCount - 1, credentialsId, tenantId))
-            .thenAccept(o -> loadServiceFacade.loadHoldings(getLoadHoldingsMessage(message, previousTransactionId)))
+            .thenCompose(o -> startLoading(getLoadHoldingsMessage(message, previousTransactionId),
+              message.getTransactionId() != null, credentialsId, tenantId))
             .exceptionally(e -> {
               log.warn(FAILED_CREATE_SNAPSHOT_MESSAGE, e);
               return null;
@@ -262,16 +322,11 @@ public class HoldingsServiceImpl implements HoldingsService {
     log.debug("snapshotFailed:: by [tenant: {}]", tenantId);
 
     setStatusToFailed(toUUID(credentialsId), tenantId, message.getErrorMessage())
-      .thenAccept(o ->
-        retryAfterDelay(credentialsId, tenantId, snapshotRetryDelay, o2 ->
-          executeWithLock(START_LOADING_LOCK, () ->
-            tryChangingStatusToInProgress(getStatusPopulatingStagingArea(), toUUID(credentialsId), tenantId)
-              .thenAccept(o3 -> loadServiceFacade
-                .createSnapshot(new ConfigurationMessage(message.getConfiguration(), credentialsId, tenantId)))
-              .exceptionally(e -> {
-                log.warn(FAILED_RETRY_CREATING_SNAPSHOT_MESSAGE, e);
-                return null;
-              }))));
+      .thenCompose(o -> scheduleRetry(RetryJob.builder()
+        .credentialsId(toUUID(credentialsId))
+        .type(RetryJobType.CREATE_SNAPSHOT)
+        .dueAt(dueAfter(snapshotRetryDelay))
+        .build(), tenantId));
   }
 
   @Override
@@ -282,6 +337,7 @@ public class HoldingsServiceImpl implements HoldingsService {
     Promise<Void> promise = Promise.promise();
     holdingsStatusRepository.update(getStatusLoadingHoldings(
         message.getTotalCount(), 0, message.getTotalPages(), 0), credentialsId, tenantId)
+      .thenAccept(o -> progressTracker.start(credentialsId, message.getTotalCount(), message.getTotalPages(), 0, 0))
       .thenAccept(o -> promise.handle(Future.succeededFuture(null)))
       .exceptionally(e -> {
         log.warn(FAILED_CREATE_SNAPSHOT_MESSAGE, e);
@@ -297,23 +353,90 @@ public class HoldingsServiceImpl implements HoldingsService {
     final String tenantId = message.getTenantId();
     log.debug("loadingFailed:: by [tenant: {}]", tenantId);
 
+    progressTracker.stop(credentialsId);
     setStatusToFailed(credentialsId, tenantId, message.getErrorMessage())
-      .thenAccept(o ->
-        retryAfterDelay(message.getCredentialsId(), tenantId, loadHoldingsRetryDelay, o2 ->
-          executeWithLock(START_LOADING_LOCK, () -> {
-            final Integer totalCount = message.getTotalCount();
-            final Integer totalPages = message.getTotalPages();
-            return tryChangingStatusToInProgress(getStatusLoadingHoldings(totalCount, 0, totalPages, 0),
-              credentialsId, tenantId)
-              .thenCompose(o3 ->
-                transactionIdRepository.getLastTransactionId(credentialsId, tenantId)
-                  .thenAccept(previousTransactionId -> loadServiceFacade
-                    .loadHoldings(getLoadHoldingsMessage(message, previousTransactionId))))
-              .exceptionally(e -> {
-                log.warn(FAILED_RETRY_LOADING_HOLDINGS_MESSAGE, e);
-                return null;
-              });
-          })));
+      .thenCompose(o -> scheduleRetry(RetryJob.builder()
+        .credentialsId(credentialsId)
+        .type(RetryJobType.LOAD_HOLDINGS)
+        .transactionId(message.getTransactionId())
+        .totalCount(message.getTotalCount())
+        .totalPages(message.getTotalPages())
+        .dueAt(dueAfter(loadHoldingsRetryDelay))
+        .build(), tenantId));
+  }
+
+  @Override
+  public CompletableFuture<Void> runDueRetries(String tenant) {
+    UUID instanceId = vertxIdProvider.getVertxId();
+    return retryJobRepository.claimDue(MAX_DUE_RETRIES, instanceId, retryLeaseDuration, tenant)
+      .thenAccept(jobs -> jobs.forEach(job -> runRetry(job, instanceId, tenant)));
+  }
+
+  /**
+   * Starts the load of claimed retry job with configuration of credentials read from the database.
+   * Job is deleted when the load is started or another load of credentials is in progress,
+   * otherwise it stays claimed and is run again by any instance when the claim expires.
+   * Job that failed on the last of allowed attempts is deleted and loading status is changed to failed.
+   */
+  private void runRetry(RetryJob job, UUID instanceId, String tenantId) {
+    final UUID credentialsId = job.getCredentialsId();
+    kbCredentialsRepository.findById(credentialsId, tenantId)
+      .thenCompose(credentials -> credentials
+        .map(configurationConverter::convert)
+        .map(configuration -> switch (job.getType()) {
+          case CREATE_SNAPSHOT -> retryCreatingSnapshot(configuration, credentialsId, tenantId);
+          case LOAD_HOLDINGS -> retryLoadingHoldings(configuration, job, tenantId);
+        })
+        .orElseGet(() -> CompletableFuture.completedFuture(null)))
+      .handle((o, e) -> {
+        if (e == null || isProcessInProgress(e)) {
+          return retryJobRepository.deleteClaimed(credentialsId, instanceId, tenantId);
+        } else if (job.getAttempts() >= getRetryCount(job.getType())) {
+          log.warn("runRetry:: giving up after {} attempts [tenant: {}, credentialsId: {}]",
+            job.getAttempts(), tenantId, credentialsId);
+          return retryJobRepository.deleteClaimed(credentialsId, instanceId, tenantId)
+            .thenCompose(v -> setStatusToFailed(credentialsId, tenantId, FAILED_DURING_RETRY_MESSAGE));
+        }
+        return CompletableFuture.<Void>completedFuture(null);
+      })
+      .thenCompose(Function.identity())
+      .exceptionally(e -> {
+        log.warn(FAILED_DURING_RETRY_MESSAGE, e);
+        return null;
+      });
+  }
+
+  private int getRetryCount(RetryJobType type) {
+    return switch (type) {
+      case CREATE_SNAPSHOT -> snapshotRetryCount;
+      case LOAD_HOLDINGS -> loadHoldingsRetryCount;
+    };
+  }
+
+  private CompletableFuture<Void> retryCreatingSnapshot(Configuration configuration, UUID credentialsId,
+                                                        String tenantId) {
+    final String id = credentialsId.toString();
+    Future<Void> future = holdingsLock.executeWithLock(getStartLoadingLock(tenantId, id), tenantId, () ->
+      tryChangingStatusToInProgress(getStatusPopulatingStagingArea(), credentialsId, tenantId)
+        .thenAccept(o -> loadServiceFacade.createSnapshot(new ConfigurationMessage(configuration, id, tenantId))));
+    return mapVertxFuture(future.onFailure(e -> log.warn(FAILED_RETRY_CREATING_SNAPSHOT_MESSAGE, e)));
+  }
+
+  private CompletableFuture<Void> retryLoadingHoldings(Configuration configuration, RetryJob job, String tenantId) {
+    final UUID credentialsId = job.getCredentialsId();
+    final String lockName = getStartLoadingLock(tenantId, credentialsId.toString());
+    Future<Void> future = holdingsLock.executeWithLock(lockName, tenantId, () ->
+      tryChangingStatusToInProgress(getStatusLoadingHoldings(job.getTotalCount(), 0, job.getTotalPages(), 0),
+        credentialsId, tenantId)
+        .thenCompose(o -> transactionIdRepository.getLastTransactionId(credentialsId, tenantId))
+        .thenCompose(previousTransactionId -> startLoading(
+          getLoadHoldingsMessage(configuration, job, tenantId, previousTransactionId), true, credentialsId, tenantId)));
+    return mapVertxFuture(future.onFailure(e -> log.warn(FAILED_RETRY_LOADING_HOLDINGS_MESSAGE, e)));
+  }
+
+  private boolean isProcessInProgress(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+    return cause instanceof ProcessInProgressException;
   }
 
   public CompletableFuture<Void> processHoldingsChanges(List<HoldingInReport> holdings, OffsetDateTime updatedAt,
@@ -330,14 +453,152 @@ public class HoldingsServiceImpl implements HoldingsService {
       .thenCompose(o -> holdingsRepository.deleteAll(holdingsToDelete, credentialsId, tenantId));
   }
 
-  private CompletableFuture<Void> handleLastPage(HoldingsMessage holdings, LoadStatusAttributes attributes,
+  private CompletableFuture<Void> handleLastPage(HoldingsMessage holdings, int totalCount,
                                                  UUID credentialsId, String tenantId) {
-    log.debug("saveHolding:: Attempts to delete holdings by timestamp & update holding status");
-    return holdingsRepository
-      .deleteBeforeTimestamp(getZonedDateTime(attributes.getStarted()), credentialsId, tenantId)
+    log.debug("saveHolding:: Attempts to delete stale holdings & update holding status");
+    return removeStaleHoldings(credentialsId, tenantId)
       .thenCompose(o -> holdingsStatusRepository
-        .update(getStatusCompleted(attributes.getTotalCount()), credentialsId, tenantId))
-      .thenCompose(o -> transactionIdRepository.save(credentialsId, holdings.getTransactionId(), tenantId));
+        .update(getStatusCompleted(totalCount), credentialsId, tenantId))
+      .thenCompose(o -> transactionIdRepository.save(credentialsId, holdings.getTransactionId(), tenantId))
+      .thenCompose(o -> clearCheckpoint(credentialsId, tenantId))
+      .thenCompose(o -> packageCostPerUseRepository.deleteByCredentialsId(credentialsId, tenantId));
+  }
+
+  /**
+   * Removes holdings that are not present in loaded snapshot.
+   * If snapshot is loaded into separate table then that table replaces holdings partition of credentials,
+   * otherwise holdings that were not received by any page of the load are deleted.
+   */
+  private CompletableFuture<Void> removeStaleHoldings(UUID credentialsId, String tenantId) {
+    if (snapshotSwapEnabled) {
+      return holdingsRepository.replaceWithSnapshot(credentialsId, tenantId);
+    }
+    return getLoadGeneration(credentialsId, tenantId)
+      .thenCompose(generation -> holdingsRepository.deleteNotInGeneration(generation, credentialsId, tenantId));
+  }
+
+  /**
+   * Starts loading of holdings pages. If resume is allowed and previous attempt to load the same transaction
+   * has written some pages, then loading continues from the page after the checkpoint.
+   * Otherwise loading starts from the first page with empty snapshot table.
+   */
+  private CompletableFuture<Void> startLoading(LoadHoldingsMessage loadMessage, boolean resumeAllowed,
+                                               UUID credentialsId, String tenantId) {
+    return loadCheckpointRepository.findByCredentialsId(credentialsId, tenantId)
+      .thenCompose(checkpoint -> canResume(checkpoint, loadMessage, resumeAllowed, credentialsId, tenantId)
+        .thenCompose(resume -> Boolean.TRUE.equals(resume)
+                               ? resumeLoading(checkpoint, loadMessage, credentialsId, tenantId)
+                               : restartLoading(loadMessage, credentialsId, tenantId)));
+  }
+
+  private CompletableFuture<Boolean> canResume(LoadCheckpoint checkpoint, LoadHoldingsMessage loadMessage,
+                                               boolean resumeAllowed, UUID credentialsId, String tenantId) {
+    if (!resumeAllowed || checkpoint == null || checkpoint.getLastPage() == 0
+        || checkpoint.getLastPage() >= loadMessage.getTotalPages()
+        || !Objects.equals(checkpoint.getTransactionId(), loadMessage.getCurrentTransactionId())) {
+      return CompletableFuture.completedFuture(false);
+    }
+    // unlogged snapshot table is emptied if database crashes, pages have to be loaded again in this case
+    return snapshotSwapEnabled
+           ? holdingsRepository.hasSnapshotHoldings(credentialsId, tenantId)
+           : holdingsRepository.hasGenerationHoldings(checkpoint.getGeneration(), credentialsId, tenantId);
+  }
+
+  private CompletableFuture<Void> resumeLoading(LoadCheckpoint checkpoint, LoadHoldingsMessage loadMessage,
+                                                UUID credentialsId, String tenantId) {
+    log.info(RESUMING_LOADING_MESSAGE, credentialsId, checkpoint.getLastPage() + 1);
+    checkpointTracker.start(credentialsId, checkpoint.getLastPage(), checkpoint.getImportedCount());
+    loadGenerations.put(credentialsId, checkpoint.getGeneration());
+    progressTracker.start(credentialsId, loadMessage.getTotalCount(), loadMessage.getTotalPages(),
+      checkpoint.getImportedCount(), checkpoint.getLastPage());
+    loadMessage.setFirstPage(checkpoint.getLastPage() + 1);
+    return holdingsStatusRepository.update(getStatusLoadingHoldings(loadMessage.getTotalCount(),
+        checkpoint.getImportedCount(), loadMessage.getTotalPages(), checkpoint.getLastPage()), credentialsId, tenantId)
+      .thenAccept(o -> loadServiceFacade.loadHoldings(loadMessage));
+  }
+
+  private CompletableFuture<Void> restartLoading(LoadHoldingsMessage loadMessage, UUID credentialsId,
+                                                 String tenantId) {
+    long generation = System.currentTimeMillis();
+    checkpointTracker.start(credentialsId, 0, 0);
+    loadGenerations.put(credentialsId, generation);
+    progressTracker.start(credentialsId, loadMessage.getTotalCount(), loadMessage.getTotalPages(), 0, 0);
+    LoadCheckpoint checkpoint = new LoadCheckpoint(loadMessage.getCurrentTransactionId(), generation, 0, 0,
+      OffsetDateTime.now());
+    return holdingsRepository.createPartition(credentialsId, tenantId)
+      .thenCompose(o -> prepareSnapshotTable(credentialsId, tenantId))
+      .thenCompose(o -> loadCheckpointRepository.save(checkpoint, credentialsId, tenantId))
+      .thenAccept(o -> loadServiceFacade.loadHoldings(loadMessage));
+  }
+
+  /**
+   * Returns generation of the current load of credentials.
+   * Generation is kept in memory while the load is running and is read from the checkpoint otherwise.
+   */
+  private CompletableFuture<Long> getLoadGeneration(UUID credentialsId, String tenantId) {
+    Long generation = loadGenerations.get(credentialsId);
+    if (generation != null) {
+      return CompletableFuture.completedFuture(generation);
+    }
+    return loadCheckpointRepository.findByCredentialsId(credentialsId, tenantId)
+      .thenCompose(checkpoint -> {
+        if (checkpoint == null) {
+          return failedFuture(new IllegalStateException(LOAD_NOT_STARTED_MESSAGE + credentialsId));
+        }
+        return CompletableFuture.completedFuture(checkpoint.getGeneration());
+      });
+  }
+
+  private CompletableFuture<Void> updateCheckpoint(HoldingsMessage holdings, UUID credentialsId, String tenantId) {
+    if (holdings.getPage() == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return checkpointTracker.pageWritten(credentialsId, holdings.getPage(), holdings.getHoldingList().size())
+      .map(checkpoint -> loadCheckpointRepository.updateLastPage(checkpoint.lastPage(), checkpoint.importedCount(),
+        credentialsId, tenantId))
+      .orElseGet(() -> CompletableFuture.completedFuture(null));
+  }
+
+  /**
+   * Counts written page in the progress of the load. Progress is written to the holdings status only when it is due.
+   * If the load is not tracked by this instance, progress is counted in the holdings status directly.
+   */
+  private CompletableFuture<PageProgress> updateProgress(int holdingsCount, UUID credentialsId, String tenantId) {
+    Optional<PageProgress> tracked = progressTracker.pageWritten(credentialsId, holdingsCount);
+    if (tracked.isEmpty()) {
+      return holdingsStatusRepository.increaseImportedCount(holdingsCount, 1, credentialsId, tenantId)
+        .thenApply(status -> {
+          LoadStatusAttributes attributes = status.getData().getAttributes();
+          return new PageProgress(attributes.getTotalCount(), attributes.getImportedCount(),
+            attributes.getImportedPages(), hasLoadedLastPage(status), false);
+        });
+    }
+    PageProgress progress = tracked.get();
+    if (!progress.flushDue()) {
+      return CompletableFuture.completedFuture(progress);
+    }
+    return holdingsStatusRepository.setImportedCount(progress.importedCount(), progress.importedPages(),
+        credentialsId, tenantId)
+      .thenApply(o -> progress);
+  }
+
+  private CompletableFuture<Void> clearCheckpoint(UUID credentialsId, String tenantId) {
+    checkpointTracker.stop(credentialsId);
+    loadGenerations.remove(credentialsId);
+    progressTracker.stop(credentialsId);
+    return loadCheckpointRepository.delete(credentialsId, tenantId);
+  }
+
+  private CompletableFuture<Void> prepareSnapshotTable(UUID credentialsId, String tenantId) {
+    return snapshotSwapEnabled
+           ? holdingsRepository.createSnapshotTable(credentialsId, tenantId)
+           : holdingsRepository.clearGenerations(credentialsId, tenantId);
+  }
+
+  private CompletableFuture<Void> dropSnapshotTable(UUID credentialsId, String tenantId) {
+    return snapshotSwapEnabled
+           ? holdingsRepository.dropSnapshotTable(credentialsId, tenantId)
+           : CompletableFuture.completedFuture(null);
   }
 
   private CompletableFuture<Boolean> canStart(List<HoldingsLoadingStatus> statuses) {
@@ -375,16 +636,16 @@ public class HoldingsServiceImpl implements HoldingsService {
     return isInProgress(status) && importedPages.equals(totalPages);
   }
 
+  /**
+   * Resets retry attempts of credentials, pending retry is cancelled.
+   */
   private CompletableFuture<Void> resetRetries(int retryCount, UUID credentialsId, String tenantId) {
-    return retryStatusRepository
-      .findByCredentialsId(credentialsId, tenantId)
+    return retryJobRepository.delete(credentialsId, tenantId)
+      .thenCompose(o -> retryStatusRepository.findByCredentialsId(credentialsId, tenantId))
       .thenCompose(status -> {
         if (status == null) {
           return retryStatusRepository.save(new RetryStatus(retryCount, null), credentialsId, tenantId);
         } else {
-          if (status.getTimerId() != null) {
-            vertx.cancelTimer(status.getTimerId());
-          }
           return retryStatusRepository.update(new RetryStatus(retryCount, null), credentialsId, tenantId);
         }
       });
@@ -404,16 +665,21 @@ public class HoldingsServiceImpl implements HoldingsService {
       });
   }
 
-  private CompletableFuture<Void> retryAfterDelay(String credentialsId, String tenantId, long retryDelay,
-                                                  Handler<Long> retryHandler) {
-    UUID uuid = toUUID(credentialsId);
-    return retryStatusRepository.findByCredentialsId(uuid, tenantId)
-      .thenAccept(retryStatus -> {
+  /**
+   * Schedules retry job if there are retry attempts left. Job is stored in the database,
+   * so it is executed by any instance of the module when it is due.
+   */
+  private CompletableFuture<Void> scheduleRetry(RetryJob job, String tenantId) {
+    final UUID credentialsId = job.getCredentialsId();
+    return retryStatusRepository.findByCredentialsId(credentialsId, tenantId)
+      .thenCompose(retryStatus -> {
         int retryAttempts = retryStatus.getRetryAttemptsLeft();
-        if (retryAttempts >= 1) {
-          long timerId = vertx.setTimer(retryDelay, retryHandler);
-          retryStatusRepository.update(new RetryStatus(retryAttempts - 1, timerId), uuid, tenantId);
+        if (retryAttempts < 1) {
+          return CompletableFuture.completedFuture(null);
         }
+        return retryJobRepository.save(job, tenantId)
+          .thenCompose(o -> retryStatusRepository.update(new RetryStatus(retryAttempts - 1, null), credentialsId,
+            tenantId));
       })
       .exceptionally(e -> {
         log.warn(FAILED_DURING_RETRY_MESSAGE, e);
@@ -421,6 +687,10 @@ public class HoldingsServiceImpl implements HoldingsService {
       });
   }
 
+  private OffsetDateTime dueAfter(long delay) {
+    return OffsetDateTime.now().plus(delay, ChronoUnit.MILLIS);
+  }
+
   private CompletableFuture<Void> setStatusToFailed(UUID credentialsId, String tenantId, String message) {
     return holdingsStatusRepository.update(getLoadStatusFailed(createError(message).getErrors()),
         credentialsId, tenantId)
@@ -438,27 +708,16 @@ public class HoldingsServiceImpl implements HoldingsService {
       });
   }
 
-  private Future<Void> executeWithLock(String lockName, Producer<CompletableFuture<Void>> futureProducer) {
-    Promise<Void> responsePromise = Promise.promise();
-    vertx.sharedData().getLock(lockName)
-      .map(lock -> {
-        futureProducer.call()
-          .whenComplete((o, throwable) -> {
-              if (throwable != null) {
-                responsePromise.fail(throwable);
-              } else {
-                responsePromise.complete();
-              }
-              lock.release();
-            }
-          );
-        return null;
-      });
-    return responsePromise.future();
+  /**
+   * Returns name of the lock that guards changes of loading status of credentials,
+   * loads of different credentials don't wait for each other.
+   */
+  private String getStartLoadingLock(String tenantId, String credentialsId) {
+    return START_LOADING_LOCK_PREFIX + "." + tenantId + "." + credentialsId;
   }
 
-  private CompletableFuture<Void> saveHoldings(List<Holding> holdings, OffsetDateTime updatedAt, UUID credentialsId,
-                                               String tenantId) {
+  private CompletableFuture<Void> saveLoadedHoldings(List<Holding> holdings, OffsetDateTime updatedAt,
+                                                     UUID credentialsId, String tenantId) {
     Set<DbHoldingInfo> dbHoldings = holdings.stream()
       .filter(distinctByKey(this::getHoldingsId))
       .map(holding -> DbHoldingInfo.builder()
@@ -471,7 +730,12 @@ public class HoldingsServiceImpl implements HoldingsService {
         .build())
       .collect(Collectors.toSet());
     log.info(SAVING_HOLDINGS_MESSAGE);
-    return holdingsRepository.saveAll(dbHoldings, updatedAt, credentialsId, tenantId);
+    if (snapshotSwapEnabled) {
+      return holdingsRepository.saveAllToSnapshot(dbHoldings, updatedAt, credentialsId, tenantId);
+    }
+    return getLoadGeneration(credentialsId, tenantId)
+      .thenCompose(generation -> holdingsRepository.saveAllInGeneration(dbHoldings, updatedAt, generation,
+        credentialsId, tenantId));
   }
 
   private Stream<HoldingInReport> getDbHoldingsByType(List<HoldingInReport> holdings,
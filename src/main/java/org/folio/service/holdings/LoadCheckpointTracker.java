@@ -0,0 +1,62 @@
+package org.folio.service.holdings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tracks written pages of holdings loads to find the highest page such that all pages up to it are written.
+ *
+ * <p>Pages can be written out of order when several pages are loaded or written at the same time,
+ * so pages that are written ahead of the checkpoint are kept until the gap before them is filled.
+ */
+public class LoadCheckpointTracker {
+
+  private final Map<UUID, Progress> progressByCredentials = new HashMap<>();
+
+  /**
+   * Starts tracking of a load, pages up to lastPage are considered to be already written.
+   */
+  public synchronized void start(UUID credentialsId, int lastPage, int importedCount) {
+    progressByCredentials.put(credentialsId, new Progress(lastPage, importedCount));
+  }
+
+  /**
+   * Registers written page.
+   *
+   * @return new checkpoint if it was moved forward by this page
+   */
+  public synchronized Optional<Checkpoint> pageWritten(UUID credentialsId, int page, int holdingsCount) {
+    Progress progress = progressByCredentials.computeIfAbsent(credentialsId, id -> new Progress(0, 0));
+    if (page <= progress.lastPage) {
+      return Optional.empty();
+    }
+    progress.writtenAhead.put(page, holdingsCount);
+    int lastPage = progress.lastPage;
+    while (progress.writtenAhead.containsKey(progress.lastPage + 1)) {
+      progress.lastPage++;
+      progress.importedCount += progress.writtenAhead.remove(progress.lastPage);
+    }
+    return progress.lastPage > lastPage
+           ? Optional.of(new Checkpoint(progress.lastPage, progress.importedCount))
+           : Optional.empty();
+  }
+
+  public synchronized void stop(UUID credentialsId) {
+    progressByCredentials.remove(credentialsId);
+  }
+
+  public record Checkpoint(int lastPage, int importedCount) { }
+
+  private static final class Progress {
+    private final Map<Integer, Integer> writtenAhead = new HashMap<>();
+    private int lastPage;
+    private int importedCount;
+
+    private Progress(int lastPage, int importedCount) {
+      this.lastPage = lastPage;
+      this.importedCount = importedCount;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package org.folio.service.holdings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts imported holdings and pages of running loads in memory.
+ *
+ * <p>Progress is written to the holdings status only when flush interval elapses and when the last page is written,
+ * so that writers of concurrent pages don't have to update and re-read the status row on every page.
+ */
+public class LoadProgressTracker {
+
+  private final long flushIntervalNanos;
+  private final Map<UUID, Progress> progressByCredentials = new HashMap<>();
+
+  public LoadProgressTracker(long flushIntervalMillis) {
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+  }
+
+  /**
+   * Starts tracking of a load, importedCount and importedPages are already imported by previous attempt.
+   */
+  public synchronized void start(UUID credentialsId, int totalCount, int totalPages, int importedCount,
+                                 int importedPages) {
+    progressByCredentials.put(credentialsId,
+      new Progress(totalCount, totalPages, importedCount, importedPages, System.nanoTime()));
+  }
+
+  /**
+   * Registers written page.
+   *
+   * @return progress of the load including this page, or empty if the load is not tracked
+   */
+  public synchronized Optional<PageProgress> pageWritten(UUID credentialsId, int holdingsCount) {
+    Progress progress = progressByCredentials.get(credentialsId);
+    if (progress == null) {
+      return Optional.empty();
+    }
+    progress.importedCount += holdingsCount;
+    progress.importedPages++;
+
+    long now = System.nanoTime();
+    boolean lastPage = progress.importedPages == progress.totalPages;
+    boolean flushDue = lastPage || now - progress.flushedAt >= flushIntervalNanos;
+    if (flushDue) {
+      progress.flushedAt = now;
+    }
+    return Optional.of(new PageProgress(progress.totalCount, progress.importedCount, progress.importedPages,
+      lastPage, flushDue));
+  }
+
+  public synchronized void stop(UUID credentialsId) {
+    progressByCredentials.remove(credentialsId);
+  }
+
+  /**
+   * Progress of the load after a page is written.
+   *
+   * @param lastPage true if the page completes the load
+   * @param flushDue true if the progress has to be written to the holdings status
+   */
+  public record PageProgress(int totalCount, int importedCount, int importedPages, boolean lastPage,
+                             boolean flushDue) { }
+
+  private static final class Progress {
+    private final int totalCount;
+    private final int totalPages;
+    private int importedCount;
+    private int importedPages;
+    private long flushedAt;
+
+    private Progress(int totalCount, int totalPages, int importedCount, int importedPages, long flushedAt) {
+      this.totalCount = totalCount;
+      this.totalPages = totalPages;
+      this.importedCount = importedCount;
+      this.importedPages = importedPages;
+      this.flushedAt = flushedAt;
+    }
+  }
+}
@@ -56,9 +56,15 @@ public class TransactionLoadServiceFacade extends AbstractLoadServiceFacade {
                                       @Value("${holdings.snapshot.refresh.period}") int snapshotRefreshPeriod,
                                       @Value("${holdings.page.retry.count}") int loadPageRetryCount,
                                       @Value("${holdings.page.size.min}") int loadPageSizeMin,
+                                      @Value("${holdings.page.pending.max:4}") int maxPendingPages,
+                                      @Value("${holdings.page.concurrency:1}") int pageConcurrency,
+                                      @Value("${holdings.service.direct.call.enable:false}") boolean directCallEnabled,
+                                      @Value("${holdings.service.proxy.timeout:600000}") long proxyTimeout,
+                                      HoldingsService localHoldingsService,
                                       Vertx vertx) {
     super(statusRetryDelay, statusRetryCount, loadPageRetryDelay, loadPageRetryCount, loadPageSizeMin,
-      snapshotRefreshPeriod, vertx);
+      snapshotRefreshPeriod, maxPendingPages, pageConcurrency, directCallEnabled, proxyTimeout, localHoldingsService,
+      vertx);
     this.reportStatusRetryDelay = reportStatusRetryDelay;
     this.reportStatusRetryCount = reportStatusRetryCount;
   }
@@ -71,9 +77,12 @@ public class TransactionLoadServiceFacade extends AbstractLoadServiceFacade {
       .thenCompose(previousTransactionExists -> {
         if (Boolean.FALSE.equals(previousTransactionExists)) {
           log.debug("Previous transaction does not exist, attempts to load current transaction & save");
-          return loadWithPagination(message.getTotalPages(),
+          HoldingsPagePipeline pipeline = createPagePipeline(message.getCredentialsId());
+          return loadWithPagination(getFirstPage(message), message.getTotalPages(),
             page -> loadingService.loadHoldingsTransaction(message.getCurrentTransactionId(), getMaxPageSize(), page)
-              .thenAccept(holdings -> holdingsService.saveHolding(getHoldingsMessage(message, holdings))));
+              .thenCompose(holdings -> pipeline.submit(
+                () -> holdingsService.saveHolding(getHoldingsMessage(message, holdings, page)))))
+            .thenCompose(o -> pipeline.drain());
         } else {
           return processDeltaReport(message, loadingService);
         }
@@ -124,9 +133,12 @@ public class TransactionLoadServiceFacade extends AbstractLoadServiceFacade {
       .thenCompose(o -> {
         int totalPages =
           getRequestCount(Integer.valueOf(deltaReportStatus.get().getTotalCount()), DELTA_REPORT_MAX_SIZE);
+        HoldingsPagePipeline pipeline = createPagePipeline(message.getCredentialsId());
         return loadWithPagination(totalPages,
           page -> loadingService.loadDeltaReport(deltaReportId.get(), DELTA_REPORT_MAX_SIZE, page)
-            .thenAccept(holdings -> holdingsService.processChanges(getDeltaReportMessage(message, holdings))));
+            .thenCompose(holdings -> pipeline.submit(
+              () -> holdingsService.processChanges(getDeltaReportMessage(message, holdings)))))
+          .thenCompose(o -> pipeline.drain());
       });
   }
 
@@ -0,0 +1,21 @@
+package org.folio.service.holdings.lock;
+
+import io.vertx.core.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Lock that serializes changes of holdings loading status of the same credentials.
+ */
+public interface HoldingsLock {
+
+  /**
+   * Acquires lock with given name, executes action and releases the lock when the action is completed.
+   *
+   * @param lockName name of the lock
+   * @param tenantId tenant that executes the action
+   * @param action   action to execute while the lock is held
+   * @return future that is completed with result of the action
+   */
+  Future<Void> executeWithLock(String lockName, String tenantId, Supplier<CompletableFuture<Void>> action);
+}
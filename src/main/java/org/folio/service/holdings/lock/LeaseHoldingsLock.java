@@ -0,0 +1,77 @@
+package org.folio.service.holdings.lock;
+
+import static org.folio.util.FutureUtils.failedFuture;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.repository.holdings.lock.HoldingsLockRepository;
+import org.folio.service.holdings.exception.ProcessInProgressException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock backed by lease rows in the database, so that it is shared by all instances of the module.
+ *
+ * <p>Lease expires after the lease duration, so the lock is not held forever by an instance that died while holding
+ * it. Action is not executed if the lock is held by other owner: the owner is already changing status of the same
+ * credentials, so the caller fails with {@link ProcessInProgressException} instead of waiting for it.
+ */
+@Log4j2
+@Component("leaseHoldingsLock")
+public class LeaseHoldingsLock implements HoldingsLock {
+
+  private static final String LOCK_IS_HELD_MESSAGE = "Loading status is already being changed by other process";
+
+  private final HoldingsLockRepository holdingsLockRepository;
+  private final long leaseDuration;
+
+  public LeaseHoldingsLock(HoldingsLockRepository holdingsLockRepository,
+                           @Value("${holdings.lock.lease.duration:60000}") long leaseDuration) {
+    this.holdingsLockRepository = holdingsLockRepository;
+    this.leaseDuration = leaseDuration;
+  }
+
+  @Override
+  public Future<Void> executeWithLock(String lockName, String tenantId, Supplier<CompletableFuture<Void>> action) {
+    final String ownerId = UUID.randomUUID().toString();
+    Promise<Void> responsePromise = Promise.promise();
+    holdingsLockRepository.tryAcquire(lockName, ownerId, leaseDuration, tenantId)
+      .thenCompose(acquired -> {
+        if (!Boolean.TRUE.equals(acquired)) {
+          log.info("Lock {} is held by other process", lockName);
+          return failedFuture(new ProcessInProgressException(LOCK_IS_HELD_MESSAGE));
+        }
+        return executeAndRelease(lockName, ownerId, tenantId, action);
+      })
+      .whenComplete((o, throwable) -> {
+        if (throwable != null) {
+          responsePromise.fail(throwable);
+        } else {
+          responsePromise.complete();
+        }
+      });
+    return responsePromise.future();
+  }
+
+  private CompletableFuture<Void> executeAndRelease(String lockName, String ownerId, String tenantId,
+                                                    Supplier<CompletableFuture<Void>> action) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    action.get()
+      .whenComplete((o, throwable) -> holdingsLockRepository.release(lockName, ownerId, tenantId)
+        .whenComplete((o2, releaseError) -> {
+          if (releaseError != null) {
+            log.warn("Failed to release lock {}", lockName, releaseError);
+          }
+          if (throwable != null) {
+            result.completeExceptionally(throwable);
+          } else {
+            result.complete(null);
+          }
+        }));
+    return result;
+  }
+}
@@ -0,0 +1,40 @@
+package org.folio.service.holdings.lock;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock backed by Vert.x shared data, it is visible to other instances only when Vert.x is clustered.
+ */
+@Component("sharedDataHoldingsLock")
+public class SharedDataHoldingsLock implements HoldingsLock {
+
+  private final Vertx vertx;
+
+  public SharedDataHoldingsLock(Vertx vertx) {
+    this.vertx = vertx;
+  }
+
+  @Override
+  public Future<Void> executeWithLock(String lockName, String tenantId, Supplier<CompletableFuture<Void>> action) {
+    Promise<Void> responsePromise = Promise.promise();
+    vertx.sharedData().getLock(lockName)
+      .onFailure(responsePromise::fail)
+      .onSuccess(lock -> CompletableFuture.completedFuture(null)
+        .thenCompose(o -> action.get())
+        .whenComplete((o, throwable) -> {
+            lock.release();
+            if (throwable != null) {
+              responsePromise.fail(throwable);
+            } else {
+              responsePromise.complete();
+            }
+          }
+        ));
+    return responsePromise.future();
+  }
+}
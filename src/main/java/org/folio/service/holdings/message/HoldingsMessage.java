@@ -21,6 +21,7 @@ public class HoldingsMessage {
   private String tenantId;
   private String transactionId;
   private String credentialsId;
+  private Integer page;
 
   public HoldingsMessage() { }
 
@@ -30,6 +31,7 @@ public class HoldingsMessage {
     this.tenantId = message.getTenantId();
     this.transactionId = message.getTransactionId();
     this.credentialsId = message.getCredentialsId();
+    this.page = message.getPage();
   }
 
   public JsonObject toJson() {
@@ -23,6 +23,7 @@ public class LoadHoldingsMessage {
   private Integer totalPages;
   private String currentTransactionId;
   private String previousTransactionId;
+  private Integer firstPage;
 
   public LoadHoldingsMessage() {
   }
@@ -35,6 +36,7 @@ public class LoadHoldingsMessage {
     this.totalPages = message.getTotalPages();
     this.currentTransactionId = message.getCurrentTransactionId();
     this.previousTransactionId = message.getPreviousTransactionId();
+    this.firstPage = message.getFirstPage();
     this.configuration = message.getConfiguration();
   }
 
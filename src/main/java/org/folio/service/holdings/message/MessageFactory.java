@@ -29,11 +29,12 @@ public final class MessageFactory {
   }
 
   @NonNull
-  public static HoldingsMessage getHoldingsMessage(LoadHoldingsMessage message, Holdings holdings) {
+  public static HoldingsMessage getHoldingsMessage(LoadHoldingsMessage message, Holdings holdings, int page) {
     return new HoldingsMessage(
       holdings.getHoldingsList(),
       message.getTenantId(),
       message.getCurrentTransactionId(),
-      message.getCredentialsId());
+      message.getCredentialsId(),
+      page);
   }
 }
@@ -0,0 +1,134 @@
+package org.folio.service.holdingsiq;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Queue of outbound HoldingsIQ requests made with one KB credentials, at most maxInFlight requests are executed
+ * at the same time.
+ *
+ * <p>Requests submitted together form a batch. Batches are served in turn, one request from each batch,
+ * and requests of a batch are served in order of submission. So a bulk fetch of hundreds of ids doesn't hold
+ * back a request for a few ids that comes after it.
+ */
+@Log4j2
+public class CredentialsRequestQueue {
+
+  private final int maxInFlight;
+  private final Queue<Queue<QueuedRequest<?>>> batches = new ArrayDeque<>();
+  private boolean dispatching;
+  private int inFlight;
+  private int queued;
+  private long dispatched;
+  private long totalWaitNanos;
+  private long maxWaitNanos;
+
+  public CredentialsRequestQueue(int maxInFlight) {
+    this.maxInFlight = Math.max(maxInFlight, 1);
+  }
+
+  /**
+   * Queues requests as one batch.
+   *
+   * @param requests suppliers that start outbound requests, a supplier is called when the request leaves the queue
+   * @return futures completed with results of requests, in order of the given requests
+   */
+  public <T> List<CompletableFuture<T>> submitAll(Collection<? extends Supplier<CompletableFuture<T>>> requests) {
+    List<CompletableFuture<T>> results = new ArrayList<>(requests.size());
+    Queue<QueuedRequest<?>> batch = new ArrayDeque<>(requests.size());
+    long submittedAt = System.nanoTime();
+    for (Supplier<CompletableFuture<T>> request : requests) {
+      var queuedRequest = new QueuedRequest<>(request, new CompletableFuture<>(), submittedAt);
+      batch.add(queuedRequest);
+      results.add(queuedRequest.result());
+    }
+    if (!batch.isEmpty()) {
+      synchronized (this) {
+        batches.add(batch);
+        queued += batch.size();
+        log.debug("submitAll:: Queued {} requests, queue depth: {}, in flight: {}", batch.size(), queued, inFlight);
+      }
+      dispatch();
+    }
+    return results;
+  }
+
+  public synchronized RequestQueueMetrics getMetrics() {
+    return RequestQueueMetrics.builder()
+      .queued(queued)
+      .inFlight(inFlight)
+      .dispatched(dispatched)
+      .averageWaitMillis(dispatched == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / dispatched))
+      .maxWaitMillis(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos))
+      .build();
+  }
+
+  /**
+   * Starts queued requests while there are free slots. Only one thread dispatches at a time, requests completed
+   * synchronously (e.g. from cache) release their slot to the loop instead of recursing into it.
+   */
+  private void dispatch() {
+    synchronized (this) {
+      if (dispatching) {
+        return;
+      }
+      dispatching = true;
+    }
+    QueuedRequest<?> request;
+    while ((request = takeNext()) != null) {
+      start(request);
+    }
+  }
+
+  private synchronized QueuedRequest<?> takeNext() {
+    Queue<QueuedRequest<?>> batch = batches.peek();
+    if (inFlight >= maxInFlight || batch == null) {
+      dispatching = false;
+      return null;
+    }
+    batches.poll();
+    QueuedRequest<?> request = batch.poll();
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    queued--;
+    inFlight++;
+    dispatched++;
+    long waitNanos = System.nanoTime() - request.submittedAt();
+    totalWaitNanos += waitNanos;
+    maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    return request;
+  }
+
+  private synchronized void requestFinished() {
+    inFlight--;
+  }
+
+  private <T> void start(QueuedRequest<T> request) {
+    CompletableFuture<T> future;
+    try {
+      future = request.request().get();
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    future.whenComplete((result, throwable) -> {
+      requestFinished();
+      if (throwable == null) {
+        request.result().complete(result);
+      } else {
+        request.result().completeExceptionally(throwable);
+      }
+      dispatch();
+    });
+  }
+
+  private record QueuedRequest<T>(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result,
+                                  long submittedAt) { }
+}
@@ -0,0 +1,54 @@
+package org.folio.service.holdingsiq;
+
+import io.vertx.core.Vertx;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits outbound HoldingsIQ requests that bulk and filtered fetches make for each id, so that they are not sent
+ * all at once. Each KB credentials has its own {@link CredentialsRequestQueue}.
+ */
+@Log4j2
+@Component
+public class HoldingsIqRequestScheduler {
+
+  private final Map<String, CredentialsRequestQueue> queues = new ConcurrentHashMap<>();
+  private final int maxInFlight;
+
+  public HoldingsIqRequestScheduler(Vertx vertx,
+                                    @Value("${kb.ebsco.holdingsiq.requests.concurrency:10}") int maxInFlight,
+                                    @Value("${kb.ebsco.holdingsiq.requests.metrics.interval:60}")
+                                    long metricsInterval) {
+    this.maxInFlight = maxInFlight;
+    if (metricsInterval > 0) {
+      vertx.setPeriodic(TimeUnit.SECONDS.toMillis(metricsInterval), timerId -> logMetrics());
+    }
+  }
+
+  public CredentialsRequestQueue getQueue(String credentialsId) {
+    return queues.computeIfAbsent(credentialsId, id -> new CredentialsRequestQueue(maxInFlight));
+  }
+
+  /**
+   * Returns queue depth, requests in flight and time spent in queue by credentials id.
+   */
+  public Map<String, RequestQueueMetrics> getMetrics() {
+    return queues.entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getMetrics()));
+  }
+
+  private void logMetrics() {
+    getMetrics().forEach((credentialsId, metrics) -> {
+      if (metrics.getDispatched() > 0) {
+        log.info("logMetrics:: HoldingsIQ requests of credentials {}: queued: {}, in flight: {}, dispatched: {}, "
+                 + "average wait: {} ms, max wait: {} ms", credentialsId, metrics.getQueued(), metrics.getInFlight(),
+          metrics.getDispatched(), metrics.getAverageWaitMillis(), metrics.getMaxWaitMillis());
+      }
+    });
+  }
+}
@@ -0,0 +1,14 @@
+package org.folio.service.holdingsiq;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class RequestQueueMetrics {
+  int queued;
+  int inFlight;
+  long dispatched;
+  long averageWaitMillis;
+  long maxWaitMillis;
+}
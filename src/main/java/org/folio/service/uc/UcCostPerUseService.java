@@ -2,11 +2,13 @@ package org.folio.service.uc;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.folio.rest.jaxrs.model.Order;
 import org.folio.rest.jaxrs.model.PackageCostPerUse;
 import org.folio.rest.jaxrs.model.ResourceCostPerUse;
 import org.folio.rest.jaxrs.model.ResourceCostPerUseCollection;
 import org.folio.rest.jaxrs.model.TitleCostPerUse;
+import org.folio.rest.util.template.RmApiTemplateContext;
 
 public interface UcCostPerUseService {
 
@@ -25,7 +27,14 @@ public interface UcCostPerUseService {
                                                                                 int page, int size,
                                                                                 Map<String, String> okapiHeaders);
 
-  CompletableFuture<ResourceCostPerUseCollection> getPackageResourcesCostPerUse(String packageId, String platform,
-                                                                                String fiscalYear,
-                                                                                Map<String, String> okapiHeaders);
+  /**
+   * Reads cost per use of all package resources sorted by name in chunks of chunkSize resources,
+   * next chunk is read when the future returned by chunkConsumer for the previous chunk completes.
+   * Credentials are taken from the context, so the context can be resolved before the resources are read.
+   */
+  CompletableFuture<Void> getPackageResourcesCostPerUse(String packageId, String platform, String fiscalYear,
+                                                        int chunkSize,
+                                                        Function<ResourceCostPerUseCollection,
+                                                          CompletableFuture<Void>> chunkConsumer,
+                                                        RmApiTemplateContext context);
 }
@@ -1,24 +1,33 @@
 package org.folio.service.uc;
 
 import static java.lang.String.valueOf;
+import static org.folio.common.ListUtils.mapItems;
+import static org.folio.common.ListUtils.topK;
+import static org.folio.db.RowSetUtils.toUUID;
 import static org.folio.rest.util.IdParser.parsePackageId;
 import static org.folio.rest.util.IdParser.parseResourceId;
 import static org.folio.rest.util.IdParser.parseTitleId;
 
-import com.google.common.collect.Iterables;
 import io.vertx.core.Promise;
-import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.mutable.MutableObject;
@@ -32,20 +41,31 @@ import org.folio.client.uc.model.UcCostAnalysis;
 import org.folio.client.uc.model.UcCostAnalysisDetails;
 import org.folio.client.uc.model.UcTitleCostPerUse;
 import org.folio.client.uc.model.UcTitlePackageId;
+import org.folio.config.cache.UcPackageResourcesCacheKey;
 import org.folio.config.cache.UcTitlePackageCacheKey;
 import org.folio.holdingsiq.model.CustomerResources;
 import org.folio.holdingsiq.model.ResourceId;
 import org.folio.holdingsiq.model.Title;
 import org.folio.repository.holdings.DbHoldingInfo;
+import org.folio.repository.uc.DbPackageCostPerUse;
+import org.folio.repository.uc.DbResourceCostPerUse;
+import org.folio.repository.uc.PackageCostPerUseKey;
+import org.folio.repository.uc.PackageCostPerUseRepository;
+import org.folio.repository.uc.UcTitlePackageCostRepository;
 import org.folio.rest.exception.InputValidationException;
+import org.folio.rest.jaxrs.model.CostPerUseParameters;
+import org.folio.rest.jaxrs.model.MetaTotalResults;
 import org.folio.rest.jaxrs.model.Order;
 import org.folio.rest.jaxrs.model.PackageCostPerUse;
 import org.folio.rest.jaxrs.model.PlatformType;
+import org.folio.rest.jaxrs.model.PublicationType;
+import org.folio.rest.jaxrs.model.ResourceCostAnalysisAttributes;
 import org.folio.rest.jaxrs.model.ResourceCostPerUse;
 import org.folio.rest.jaxrs.model.ResourceCostPerUseCollection;
 import org.folio.rest.jaxrs.model.ResourceCostPerUseCollectionItem;
 import org.folio.rest.jaxrs.model.TitleCostPerUse;
 import org.folio.rest.jaxrs.model.UCSettings;
+import org.folio.rest.util.RestConstants;
 import org.folio.rest.util.template.RmApiTemplateContext;
 import org.folio.rest.util.template.RmApiTemplateFactory;
 import org.folio.rmapi.result.PackageCostPerUseResult;
@@ -57,6 +77,7 @@ import org.folio.service.uc.sorting.CostPerUseSort;
 import org.folio.service.uc.sorting.UcSortingComparatorProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Service;
 
@@ -73,7 +94,6 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
   public static final String INVALID_SORT_MESSAGE = "Invalid sort";
   public static final String INVALID_SORT_DETAILS =
     "Parameter 'sort' should by one of: 'name', 'type', 'cost', 'usage', 'costperuse'";
-  private static final int MAX_PARTITION_SIZE = 1000;
 
   private static final String PARAM_VALIDATION_ERROR_MESSAGE = "validateParams:: {}: {}";
 
@@ -87,6 +107,8 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
   @Autowired
   private UcApigeeEbscoClient client;
   @Autowired
+  private UcTitlePackageCostLoader titlePackageCostLoader;
+  @Autowired
   private RmApiTemplateFactory templateFactory;
 
   @Autowired
@@ -100,11 +122,29 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
   private Converter<TitleCostPerUseResult, TitleCostPerUse> titleCostPerUseConverter;
 
   @Autowired
-  private VertxCache<UcTitlePackageCacheKey, Map<String, UcCostAnalysis>> ucTitlePackageCache;
+  private VertxCache<UcTitlePackageCacheKey, UcCostAnalysis> ucTitlePackageCache;
+  @Autowired
+  private VertxCache<UcPackageResourcesCacheKey, ResourceCostPerUseCollection> ucPackageResourcesCache;
 
   @Autowired
   private UcSortingComparatorProvider<ResourceCostPerUseCollectionItem> sortingComparatorProvider;
 
+  @Autowired
+  private UcTitlePackageCostRepository titlePackageCostRepository;
+  @Value("${uc.title-package.cache.persistent.enable:false}")
+  private boolean persistentCacheEnabled;
+  @Value("${uc.title-package.cache.expire}")
+  private long cacheExpirationTime;
+  @Autowired
+  private PackageCostPerUseRepository packageCostPerUseRepository;
+  @Value("${uc.package-resources.store.enable:false}")
+  private boolean resourcesStoreEnabled;
+  @Value("${uc.package-resources.store.expire:86400}")
+  private long resourcesStoreExpirationTime;
+
+  @Value("${kb.ebsco.uc.holdings.chunk.size:1000}")
+  private int holdingsChunkSize;
+
   @Override
   public CompletableFuture<ResourceCostPerUse> getResourceCostPerUse(String resourceId, String platform,
                                                                      String fiscalYear,
@@ -170,42 +210,174 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
     Order order, int page, int size, Map<String, String> okapiHeaders) {
     log.info("getPackageResourcesCostPerUse:: Getting Package Resources Cost Per Use by packageId: {}, "
              + "platform: {}, fiscalYear: {}", packageId, platform, fiscalYear);
-    return fetchHoldings(packageId, platform, fiscalYear, sort, okapiHeaders)
-      .thenApply(resourceCostPerUseCollectionConverter::convert)
-      .thenApply(collection -> createResultPage(collection, page, size, sort, order));
+    validateParams(platform, fiscalYear, sort);
+    return templateFactory.createTemplate(okapiHeaders, Promise.promise()).getRmapiTemplateContext()
+      .thenCompose(context -> {
+        if (resourcesStoreEnabled) {
+          return fetchStoredPackage(packageId, platform, fiscalYear, sort, context)
+            .thenCompose(storedPackage -> fetchStoredResources(storedPackage, sort, order, (page - 1) * size, size));
+        }
+        return fetchResources(packageId, platform, fiscalYear, sort, order, page, size, context);
+      });
   }
 
   @Override
-  public CompletableFuture<ResourceCostPerUseCollection> getPackageResourcesCostPerUse(
-    String packageId, String platform, String fiscalYear, Map<String, String> okapiHeaders) {
+  public CompletableFuture<Void> getPackageResourcesCostPerUse(
+    String packageId, String platform, String fiscalYear, int chunkSize,
+    Function<ResourceCostPerUseCollection, CompletableFuture<Void>> chunkConsumer, RmApiTemplateContext context) {
     log.info("getPackageResourcesCostPerUse:: Getting Package Resources Cost Per Use by packageId: {}, "
-             + "platform: {}, fiscalYear: {}", packageId, platform, fiscalYear);
-    return fetchHoldings(packageId, platform, fiscalYear, CostPerUseSort.NAME.name(), okapiHeaders)
-      .thenApply(resourceCostPerUseCollectionConverter::convert)
-      .thenApply(collection -> {
-        var items = collection.getData().stream()
-          .sorted(sortingComparatorProvider.get(CostPerUseSort.NAME, Order.ASC))
-          .toList();
-        collection.withData(items);
-        return collection;
-      });
+             + "platform: {}, fiscalYear: {} in chunks of {}", packageId, platform, fiscalYear, chunkSize);
+    var sort = CostPerUseSort.NAME.name();
+    validateParams(platform, fiscalYear, sort);
+    if (resourcesStoreEnabled) {
+      return fetchStoredPackage(packageId, platform, fiscalYear, sort, context)
+        .thenCompose(storedPackage -> readInChunks(page -> fetchStoredResources(storedPackage, sort, Order.ASC,
+          (page - 1) * chunkSize, chunkSize), 1, chunkSize, chunkConsumer));
+    }
+    var sortedCollection = fetchResources(packageId, platform, fiscalYear, sort, Order.ASC, 1, Integer.MAX_VALUE,
+      context);
+    return readInChunks(page -> sortedCollection.thenApply(collection -> createResultPage(collection, page, chunkSize)),
+      1, chunkSize, chunkConsumer);
   }
 
-  private CompletableFuture<ResourceCostPerUseCollectionResult> fetchHoldings(String packageId, String platform,
-                                                                              String fiscalYear, String sort,
-                                                                              Map<String, String> okapiHeaders) {
-    log.info("fetchHoldings:: Fetching Holdings by packageId: {}, platform: {}, fiscalYear: {}",
+  private CompletableFuture<Void> readInChunks(
+    IntFunction<CompletableFuture<ResourceCostPerUseCollection>> chunkReader, int page, int chunkSize,
+    Function<ResourceCostPerUseCollection, CompletableFuture<Void>> chunkConsumer) {
+    return chunkReader.apply(page)
+      .thenCompose(chunk -> chunkConsumer.apply(chunk)
+        .thenCompose(unused -> (long) page * chunkSize < chunk.getMeta().getTotalResults()
+                               && !chunk.getData().isEmpty()
+                               ? readInChunks(chunkReader, page + 1, chunkSize, chunkConsumer)
+                               : CompletableFuture.completedFuture(null)));
+  }
+
+  /**
+   * Reads page of package resources from computed cost per use, cost per use of the package is cached for a short
+   * time so that following pages don't compute it again.
+   *
+   * <p>The first page is selected without sorting of all resources, sorted resources are cached
+   * for the following pages which are sliced from them.
+   */
+  private CompletableFuture<ResourceCostPerUseCollection> fetchResources(String packageId, String platform,
+                                                                         String fiscalYear, String sort,
+                                                                         Order order, int page, int size,
+                                                                         RmApiTemplateContext context) {
+    log.info("fetchResources:: Fetching Resources by packageId: {}, platform: {}, fiscalYear: {}",
       packageId, platform, fiscalYear);
-    validateParams(platform, fiscalYear, sort);
-    var id = parsePackageId(packageId);
-    var packageIdPart = valueOf(id.packageIdPart());
+    var packageIdPart = valueOf(parsePackageId(packageId).packageIdPart());
     MutableObject<PlatformType> platformTypeHolder = new MutableObject<>();
 
-    return templateFactory.createTemplate(okapiHeaders, Promise.promise()).getRmapiTemplateContext()
-      .thenCompose(context -> fetchCommonConfiguration(platform, fiscalYear, platformTypeHolder, context)
-        .thenCompose(ucConfiguration ->
-          composeResourceCostPerUseCollectionResult(packageIdPart, context, ucConfiguration,
-            platformTypeHolder.get())));
+    return fetchCommonConfiguration(platform, fiscalYear, platformTypeHolder, context)
+      .thenCompose(ucConfiguration -> {
+        var key = UcPackageResourcesCacheKey.builder()
+          .tenant(context.getRequestContext().getTenant())
+          .credentialsId(context.getCredentialsId())
+          .packageId(packageIdPart)
+          .fiscalYear(ucConfiguration.getFiscalYear())
+          .fiscalMonth(ucConfiguration.getFiscalMonth())
+          .analysisCurrency(ucConfiguration.getAnalysisCurrency())
+          .platformType(platformTypeHolder.get().value())
+          .build();
+        var sortedKey = key.toBuilder().sort(CostPerUseSort.from(sort)).order(order).build();
+        var sortedCollection = ucPackageResourcesCache.getValue(sortedKey);
+        if (sortedCollection != null) {
+          return CompletableFuture.completedFuture(createResultPage(sortedCollection, page, size));
+        }
+        return ucPackageResourcesCache.getValueOrLoad(key, () ->
+            composeResourceCostPerUseCollectionResult(packageIdPart, context, ucConfiguration,
+              platformTypeHolder.get())
+              .thenApply(resourceCostPerUseCollectionConverter::convert))
+          .thenApply(collection -> createResultPage(collection, sortedKey, page, size));
+      });
+  }
+
+  /**
+   * Finds stored cost per use of the package, cost per use of the whole package is computed
+   * and stored first if it is not stored yet or is outdated.
+   */
+  private CompletableFuture<StoredPackage> fetchStoredPackage(String packageId, String platform, String fiscalYear,
+                                                              String sort, RmApiTemplateContext context) {
+    var packageIdPart = Math.toIntExact(parsePackageId(packageId).packageIdPart());
+    MutableObject<PlatformType> platformTypeHolder = new MutableObject<>();
+
+    return fetchCommonConfiguration(platform, fiscalYear, platformTypeHolder, context)
+      .thenCompose(ucConfiguration -> {
+        var tenant = context.getRequestContext().getTenant();
+        var key = new PackageCostPerUseKey(toUUID(context.getCredentialsId()), packageIdPart, fiscalYear,
+          platformTypeHolder.get().value());
+        return packageCostPerUseRepository.findPackage(key, tenant)
+          .thenCompose(stored -> stored.filter(packageCostPerUse -> isUpToDate(packageCostPerUse, ucConfiguration))
+            .map(CompletableFuture::completedFuture)
+            .orElseGet(() -> storeResources(key, context, ucConfiguration, platformTypeHolder.get())))
+          .thenApply(packageCostPerUse -> new StoredPackage(key, tenant, packageCostPerUse));
+      });
+  }
+
+  /**
+   * Reads page of package resources from stored cost per use.
+   */
+  private CompletableFuture<ResourceCostPerUseCollection> fetchStoredResources(StoredPackage storedPackage,
+                                                                               String sort, Order order,
+                                                                               int offset, int limit) {
+    return packageCostPerUseRepository
+      .findResources(storedPackage.key(), CostPerUseSort.from(sort), order, offset, limit, storedPackage.tenant())
+      .thenApply(resources -> toResourceCostPerUseCollection(storedPackage.packageCostPerUse(), resources));
+  }
+
+  private CompletableFuture<DbPackageCostPerUse> storeResources(PackageCostPerUseKey key,
+                                                                RmApiTemplateContext context,
+                                                                CommonUcConfiguration ucConfiguration,
+                                                                PlatformType platformType) {
+    log.info("storeResources:: Computing cost per use of package resources for {}", key);
+    return composeResourceCostPerUseCollectionResult(valueOf(key.packageId()), context, ucConfiguration, platformType)
+      .thenApply(resourceCostPerUseCollectionConverter::convert)
+      .thenCompose(collection -> {
+        var packageCostPerUse = new DbPackageCostPerUse(JsonObject.mapFrom(collection.getParameters()),
+          collection.getMeta().getTotalResults(), OffsetDateTime.now());
+        var resources = mapItems(collection.getData(), this::toDbResourceCostPerUse);
+        return packageCostPerUseRepository
+          .save(key, packageCostPerUse, resources, context.getRequestContext().getTenant())
+          .thenApply(unused -> packageCostPerUse);
+      });
+  }
+
+  private boolean isUpToDate(DbPackageCostPerUse packageCostPerUse, CommonUcConfiguration ucConfiguration) {
+    var parameters = packageCostPerUse.parameters().mapTo(CostPerUseParameters.class);
+    var startMonth = parameters.getStartMonth() == null ? null : parameters.getStartMonth().value();
+    return packageCostPerUse.computedAt().plusSeconds(resourcesStoreExpirationTime).isAfter(OffsetDateTime.now())
+           && Objects.equals(parameters.getCurrency(), ucConfiguration.getAnalysisCurrency())
+           && Objects.equals(startMonth, ucConfiguration.getFiscalMonth());
+  }
+
+  private ResourceCostPerUseCollection toResourceCostPerUseCollection(DbPackageCostPerUse packageCostPerUse,
+                                                                      List<DbResourceCostPerUse> resources) {
+    return new ResourceCostPerUseCollection()
+      .withData(mapItems(resources, this::toResourceCostPerUseCollectionItem))
+      .withParameters(packageCostPerUse.parameters().mapTo(CostPerUseParameters.class))
+      .withMeta(new MetaTotalResults().withTotalResults(packageCostPerUse.totalResults()))
+      .withJsonapi(RestConstants.JSONAPI);
+  }
+
+  private ResourceCostPerUseCollectionItem toResourceCostPerUseCollectionItem(DbResourceCostPerUse resource) {
+    return new ResourceCostPerUseCollectionItem()
+      .withResourceId(resource.resourceId())
+      .withType(ResourceCostPerUseCollectionItem.Type.RESOURCE_COST_PER_USE_ITEM)
+      .withAttributes(new ResourceCostAnalysisAttributes()
+        .withName(resource.name())
+        .withPublicationType(resource.publicationType() == null
+                             ? null
+                             : PublicationType.fromValue(resource.publicationType()))
+        .withCost(resource.cost())
+        .withUsage(resource.usage())
+        .withCostPerUse(resource.costPerUse())
+        .withPercent(resource.percent()));
+  }
+
+  private DbResourceCostPerUse toDbResourceCostPerUse(ResourceCostPerUseCollectionItem item) {
+    var attributes = item.getAttributes();
+    return new DbResourceCostPerUse(item.getResourceId(), attributes.getName(),
+      attributes.getPublicationType() == null ? null : attributes.getPublicationType().value(),
+      attributes.getCost(), attributes.getUsage(), attributes.getCostPerUse(), attributes.getPercent());
   }
 
   private CompletableFuture<PackageCostPerUseResult> composePackageCostPerUseResult(
@@ -225,10 +397,12 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
 
         var cost = ucPackageCostPerUse.analysis().current().cost();
         if (cost == null || cost.equals(NumberUtils.DOUBLE_ZERO)) {
-          return fetchHoldingsData(packageIdPart, context)
-            .thenCompose(dbHoldingInfos -> {
+          Set<UcTitlePackageId> titlePackageIds = new LinkedHashSet<>();
+          return fetchHoldingsData(packageIdPart, context, chunk -> addTitlePackageIds(titlePackageIds, chunk))
+            .thenCompose(unused -> {
               var configuration = createGetTitlePackageConfiguration(ucConfiguration, true);
-              return loadFromCache(extractTitlePackageIds(dbHoldingInfos), configuration);
+              return loadFromCache(List.copyOf(titlePackageIds), configuration,
+                context.getRequestContext().getTenant());
             })
             .thenApply(titlePackageCost -> resultBuilder.titlePackageCostMap(titlePackageCost).build());
         } else {
@@ -243,54 +417,120 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
     var resultBuilder = ResourceCostPerUseCollectionResult.builder()
       .configuration(ucConfiguration)
       .platformType(platformType);
+    List<DbHoldingInfo> holdingInfos = new ArrayList<>();
+    Set<UcTitlePackageId> titlePackageIds = new LinkedHashSet<>();
     return client.getPackageCostPerUse(packageIdPart, createGetPackageConfiguration(ucConfiguration))
       .thenAccept(resultBuilder::packageCostPerUse)
-      .thenCompose(unused -> fetchHoldingsData(packageIdPart, context))
-      .thenApply(dbHoldingInfos -> {
-        resultBuilder.holdingInfos(dbHoldingInfos);
-        return extractTitlePackageIds(dbHoldingInfos);
+      .thenCompose(unused -> fetchHoldingsData(packageIdPart, context, chunk -> {
+        holdingInfos.addAll(chunk);
+        addTitlePackageIds(titlePackageIds, chunk);
+      }))
+      .thenCompose(unused -> {
+        resultBuilder.holdingInfos(holdingInfos);
+        return fetchTitlePackageCost(List.copyOf(titlePackageIds), platformType, ucConfiguration,
+          context.getRequestContext().getTenant());
       })
-      .thenCompose(ids -> fetchTitlePackageCost(ids, platformType, ucConfiguration))
       .thenApply(titlePackageCostMap -> resultBuilder.titlePackageCostMap(titlePackageCostMap).build());
   }
 
   private ResourceCostPerUseCollection createResultPage(ResourceCostPerUseCollection resourceCostPerUseCollection,
-                                                        int page,
-                                                        int size, String sort, Order order) {
-    var items = resourceCostPerUseCollection.getData().stream()
-      .sorted(sortingComparatorProvider.get(CostPerUseSort.from(sort), order))
-      .skip((long) (page - 1) * size)
-      .limit(size)
-      .toList();
-    return resourceCostPerUseCollection.withData(items);
+                                                        UcPackageResourcesCacheKey sortedKey, int page, int size) {
+    var comparator = sortingComparatorProvider.get(sortedKey.getSort(), sortedKey.getOrder());
+    if (page == 1) {
+      return copyWithData(resourceCostPerUseCollection,
+        topK(resourceCostPerUseCollection.getData(), comparator, size));
+    }
+    var sortedCollection = copyWithData(resourceCostPerUseCollection,
+      resourceCostPerUseCollection.getData().stream().sorted(comparator).toList());
+    ucPackageResourcesCache.putValue(sortedKey, sortedCollection);
+    return createResultPage(sortedCollection, page, size);
+  }
+
+  private ResourceCostPerUseCollection createResultPage(ResourceCostPerUseCollection sortedCollection,
+                                                        int page, int size) {
+    var items = sortedCollection.getData();
+    var fromIndex = (int) Math.min((long) (page - 1) * size, items.size());
+    var toIndex = (int) Math.min((long) fromIndex + size, items.size());
+    return copyWithData(sortedCollection, items.subList(fromIndex, toIndex));
+  }
+
+  private ResourceCostPerUseCollection copyWithData(ResourceCostPerUseCollection collection,
+                                                    List<ResourceCostPerUseCollectionItem> items) {
+    return new ResourceCostPerUseCollection()
+      .withData(items)
+      .withParameters(collection.getParameters())
+      .withMeta(collection.getMeta())
+      .withJsonapi(collection.getJsonapi());
   }
 
   private CompletableFuture<Map<String, UcCostAnalysis>> loadFromCache(List<UcTitlePackageId> titlePackageIds,
-                                                                       GetTitlePackageUcConfiguration configuration) {
-    @SuppressWarnings("java:S4790")
-    var cacheKey = new UcTitlePackageCacheKey(configuration, DigestUtils.md5(Json.encode(titlePackageIds)));
+                                                                       GetTitlePackageUcConfiguration configuration,
+                                                                       String tenant) {
+    Map<String, UcCostAnalysis> titlePackageCost = new HashMap<>();
+    List<UcTitlePackageId> missingIds = new ArrayList<>();
+    for (UcTitlePackageId id : titlePackageIds) {
+      var costAnalysis = ucTitlePackageCache.getValue(new UcTitlePackageCacheKey(configuration, id));
+      if (costAnalysis == null) {
+        missingIds.add(id);
+      } else {
+        titlePackageCost.put(id.toString(), costAnalysis);
+      }
+    }
 
-    return ucTitlePackageCache.getValueOrLoad(cacheKey, () -> loadInPartitions(titlePackageIds, configuration));
+    return findPersistedCost(missingIds, configuration, tenant)
+      .thenCompose(persistedCost -> {
+        cacheInMemory(persistedCost, configuration);
+        persistedCost.forEach((id, costAnalysis) -> titlePackageCost.put(id.toString(), costAnalysis));
+        var idsToLoad = missingIds.stream().filter(id -> !persistedCost.containsKey(id)).toList();
+        log.debug("loadFromCache:: Found cost of {} title packages in cache, loading {}",
+          titlePackageCost.size(), idsToLoad.size());
+
+        return titlePackageCostLoader.load(idsToLoad, configuration)
+          .thenCompose(loadedCost -> {
+            Map<UcTitlePackageId, UcCostAnalysis> newCost = new HashMap<>();
+            for (UcTitlePackageId id : idsToLoad) {
+              var costAnalysis = loadedCost.get(id.toString());
+              if (costAnalysis != null) {
+                newCost.put(id, costAnalysis);
+              }
+            }
+            cacheInMemory(newCost, configuration);
+            titlePackageCost.putAll(loadedCost);
+            return persistCost(newCost, configuration, tenant);
+          });
+      })
+      .thenApply(unused -> titlePackageCost);
+  }
+
+  private void cacheInMemory(Map<UcTitlePackageId, UcCostAnalysis> titlePackageCost,
+                             GetTitlePackageUcConfiguration configuration) {
+    titlePackageCost.forEach((id, costAnalysis) ->
+      ucTitlePackageCache.putValue(new UcTitlePackageCacheKey(configuration, id), costAnalysis));
   }
 
-  private CompletableFuture<Map<String, UcCostAnalysis>> loadInPartitions(
-    List<UcTitlePackageId> titlePackageIds,
-    GetTitlePackageUcConfiguration configuration) {
-    if (titlePackageIds.isEmpty()) {
+  private CompletableFuture<Map<UcTitlePackageId, UcCostAnalysis>> findPersistedCost(
+    List<UcTitlePackageId> titlePackageIds, GetTitlePackageUcConfiguration configuration, String tenant) {
+    if (!persistentCacheEnabled) {
       return CompletableFuture.completedFuture(Collections.emptyMap());
-    } else if (titlePackageIds.size() > MAX_PARTITION_SIZE) {
-      var futures = StreamSupport.stream(Iterables.partition(titlePackageIds, MAX_PARTITION_SIZE).spliterator(), false)
-        .map(ids -> client.getTitlePackageCostPerUse(ids, configuration))
-        .toList();
-
-      return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
-        .thenApply(unused -> futures.stream()
-          .map(CompletableFuture::join)
-          .flatMap(map -> map.entrySet().stream())
-          .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-    } else {
-      return client.getTitlePackageCostPerUse(titlePackageIds, configuration);
     }
+    return titlePackageCostRepository.findAll(configuration, titlePackageIds, tenant)
+      .exceptionally(throwable -> {
+        log.warn("findPersistedCost:: Failed to read cost of title packages, msg: {}", throwable.getMessage());
+        return Collections.emptyMap();
+      });
+  }
+
+  private CompletableFuture<Void> persistCost(Map<UcTitlePackageId, UcCostAnalysis> titlePackageCost,
+                                              GetTitlePackageUcConfiguration configuration, String tenant) {
+    if (!persistentCacheEnabled) {
+      return CompletableFuture.completedFuture(null);
+    }
+    var expiresAt = OffsetDateTime.now().plusSeconds(cacheExpirationTime);
+    return titlePackageCostRepository.saveAll(configuration, titlePackageCost, expiresAt, tenant)
+      .exceptionally(throwable -> {
+        log.warn("persistCost:: Failed to save cost of title packages, msg: {}", throwable.getMessage());
+        return null;
+      });
   }
 
   private CompletableFuture<List<CustomerResources>> fetchTitleSelectedResources(
@@ -312,7 +552,8 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
         var packageId = valueOf(customerResources.getFirst().getPackageId());
 
         return client.getTitleCostPerUse(titleId, packageId, createGetTitleConfiguration(ucConfiguration))
-          .thenCombine(fetchTitlePackagesCost(customerResources, ucConfiguration), (titleUsage, titlePackageCost) ->
+          .thenCombine(fetchTitlePackagesCost(customerResources, ucConfiguration,
+            context.getRequestContext().getTenant()), (titleUsage, titlePackageCost) ->
             TitleCostPerUseResult.builder()
               .titleId(titleId)
               .ucTitleCostPerUse(titleUsage)
@@ -335,7 +576,7 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
 
   private CompletableFuture<Map<String, UcCostAnalysis>> fetchTitlePackagesCost(
     List<CustomerResources> customerResources,
-    CommonUcConfiguration ucConfiguration) {
+    CommonUcConfiguration ucConfiguration, String tenant) {
     var titlePackageIds = customerResources.stream()
       .map(cr -> new UcTitlePackageId(cr.getTitleId(), cr.getPackageId()))
       .distinct()
@@ -343,19 +584,22 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
     log.debug("fetchTitlePackagesCost:: Fetching Title package cost with ids: {}",
       titlePackageIds.stream().map(UcTitlePackageId::toString).collect(Collectors.joining(",")));
     var configuration = createGetTitlePackageConfiguration(ucConfiguration, true);
-    return loadFromCache(titlePackageIds, configuration);
+    return loadFromCache(titlePackageIds, configuration, tenant);
   }
 
   private CompletableFuture<Map<String, UcCostAnalysis>> fetchTitlePackageCost(List<UcTitlePackageId> titlePackageIds,
                                                                                PlatformType platformType,
-                                                                               CommonUcConfiguration ucConfiguration) {
+                                                                               CommonUcConfiguration ucConfiguration,
+                                                                               String tenant) {
     log.info("fetchTitlePackageCost:: Fetching Title Package Cost for platformType: {} with ids: {}",
       platformType, titlePackageIds.stream().map(UcTitlePackageId::toString).collect(Collectors.joining(",")));
+    var publisherConfiguration = createGetTitlePackageConfiguration(ucConfiguration, true);
+    var nonPublisherConfiguration = createGetTitlePackageConfiguration(ucConfiguration, false);
     return switch (platformType) {
-      case PUBLISHER -> loadFromCache(titlePackageIds, createGetTitlePackageConfiguration(ucConfiguration, true));
-      case NON_PUBLISHER -> loadFromCache(titlePackageIds, createGetTitlePackageConfiguration(ucConfiguration, false));
-      default -> loadFromCache(titlePackageIds, createGetTitlePackageConfiguration(ucConfiguration, true))
-        .thenCombine(loadFromCache(titlePackageIds, createGetTitlePackageConfiguration(ucConfiguration, false)),
+      case PUBLISHER -> loadFromCache(titlePackageIds, publisherConfiguration, tenant);
+      case NON_PUBLISHER -> loadFromCache(titlePackageIds, nonPublisherConfiguration, tenant);
+      default -> loadFromCache(titlePackageIds, publisherConfiguration, tenant)
+        .thenCombine(loadFromCache(titlePackageIds, nonPublisherConfiguration, tenant),
           (costMap1, costMap2) -> Stream.concat(costMap1.entrySet().stream(), costMap2.entrySet().stream())
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, this::toAllPublisherUcCostAnalysis)));
     };
@@ -381,10 +625,11 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
     ), null);
   }
 
-  private CompletableFuture<List<DbHoldingInfo>> fetchHoldingsData(String packageIdPart, RmApiTemplateContext context) {
+  private CompletableFuture<Void> fetchHoldingsData(String packageIdPart, RmApiTemplateContext context,
+                                                    Consumer<List<DbHoldingInfo>> chunkConsumer) {
     log.info("fetchHoldingsData:: Get Holdings data by packageId: {} ", packageIdPart);
-    return holdingsService
-      .getHoldingsByPackageId(packageIdPart, context.getCredentialsId(), context.getRequestContext().getTenant());
+    return holdingsService.getHoldingsByPackageId(packageIdPart, context.getCredentialsId(),
+      context.getRequestContext().getTenant(), holdingsChunkSize, chunkConsumer);
   }
 
   private CompletableFuture<CommonUcConfiguration> fetchCommonConfiguration(
@@ -456,11 +701,8 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
     }
   }
 
-  private List<UcTitlePackageId> extractTitlePackageIds(List<DbHoldingInfo> dbHoldingInfos) {
-    return dbHoldingInfos.stream()
-      .map(h -> new UcTitlePackageId(h.getTitleId(), h.getPackageId()))
-      .distinct()
-      .toList();
+  private void addTitlePackageIds(Set<UcTitlePackageId> titlePackageIds, List<DbHoldingInfo> dbHoldingInfos) {
+    dbHoldingInfos.forEach(h -> titlePackageIds.add(new UcTitlePackageId(h.getTitleId(), h.getPackageId())));
   }
 
   private CompletableFuture<UcTitleCostPerUse> getTitleCost(ResourceId id, GetTitleUcConfiguration configuration) {
@@ -513,4 +755,6 @@ public class UcCostPerUseServiceImpl implements UcCostPerUseService {
       .previousYear(false)
       .build();
   }
+
+  private record StoredPackage(PackageCostPerUseKey key, String tenant, DbPackageCostPerUse packageCostPerUse) { }
 }
@@ -0,0 +1,63 @@
+package org.folio.service.uc;
+
+import io.vertx.core.Vertx;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.log4j.Log4j2;
+import org.folio.repository.uc.UcTitlePackageCostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes expired cost of title packages stored in the database for all tenants.
+ *
+ * <p>Expired cost is never returned from the database, so it is removed in the background instead of on each save.
+ */
+@Log4j2
+@Component
+public class UcTitlePackageCostCleaner {
+
+  private final Vertx vertx;
+  private final UcTitlePackageCostRepository titlePackageCostRepository;
+  private final boolean persistentCacheEnabled;
+  private final long cleanupInterval;
+  private final AtomicBoolean cleaning = new AtomicBoolean();
+
+  public UcTitlePackageCostCleaner(Vertx vertx, UcTitlePackageCostRepository titlePackageCostRepository,
+                                   @Value("${uc.title-package.cache.persistent.enable:false}")
+                                   boolean persistentCacheEnabled,
+                                   @Value("${uc.title-package.cache.persistent.cleanup.interval:3600000}")
+                                   long cleanupInterval) {
+    this.vertx = vertx;
+    this.titlePackageCostRepository = titlePackageCostRepository;
+    this.persistentCacheEnabled = persistentCacheEnabled;
+    this.cleanupInterval = cleanupInterval;
+  }
+
+  public void start() {
+    if (!persistentCacheEnabled) {
+      return;
+    }
+    vertx.setPeriodic(cleanupInterval, timerId -> cleanup());
+  }
+
+  private void cleanup() {
+    if (!cleaning.compareAndSet(false, true)) {
+      return;
+    }
+    titlePackageCostRepository.findTenants()
+      .thenCompose(tenants -> CompletableFuture.allOf(tenants.stream()
+        .map(tenant -> titlePackageCostRepository.deleteExpired(tenant)
+          .exceptionally(e -> {
+            log.warn("Failed to remove expired cost of title packages for tenant {}", tenant, e);
+            return null;
+          }))
+        .toArray(CompletableFuture[]::new)))
+      .whenComplete((o, throwable) -> {
+        if (throwable != null) {
+          log.warn("Failed to remove expired cost of title packages", throwable);
+        }
+        cleaning.set(false);
+      });
+  }
+}
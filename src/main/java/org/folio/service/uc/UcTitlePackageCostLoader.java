@@ -0,0 +1,133 @@
+package org.folio.service.uc;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
+
+import com.google.common.collect.Lists;
+import io.vertx.core.Vertx;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.client.uc.UcApigeeEbscoClient;
+import org.folio.client.uc.UcFailedRequestException;
+import org.folio.client.uc.configuration.GetTitlePackageUcConfiguration;
+import org.folio.client.uc.model.UcCostAnalysis;
+import org.folio.client.uc.model.UcTitlePackageId;
+import org.folio.service.holdingsiq.CredentialsRequestQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads cost of title packages from Usage Consolidation in partitions of {@link #MAX_PARTITION_SIZE} ids.
+ *
+ * <p>Up to concurrency partitions of all loads of the module instance are requested at the same time,
+ * partitions of concurrent loads are requested in turn. Failed partition is retried on its own
+ * with doubling delay, so that one throttled request doesn't fail the whole package.
+ */
+@Log4j2
+@Component
+public class UcTitlePackageCostLoader {
+
+  static final int MAX_PARTITION_SIZE = 1000;
+
+  private final UcApigeeEbscoClient client;
+  private final Vertx vertx;
+  private final CredentialsRequestQueue requestQueue;
+  private final int retryCount;
+  private final long retryDelay;
+
+  public UcTitlePackageCostLoader(UcApigeeEbscoClient client, Vertx vertx,
+                                  @Value("${kb.ebsco.uc.title-package.concurrency:4}") int concurrency,
+                                  @Value("${kb.ebsco.uc.title-package.retry.count:3}") int retryCount,
+                                  @Value("${kb.ebsco.uc.title-package.retry.delay:500}") long retryDelay) {
+    this.client = client;
+    this.vertx = vertx;
+    this.requestQueue = new CredentialsRequestQueue(concurrency);
+    this.retryCount = retryCount;
+    this.retryDelay = retryDelay;
+  }
+
+  /**
+   * Loads cost of title packages.
+   *
+   * @return cost by title package id, or failed future when any partition fails after retries
+   */
+  public CompletableFuture<Map<String, UcCostAnalysis>> load(List<UcTitlePackageId> titlePackageIds,
+                                                             GetTitlePackageUcConfiguration configuration) {
+    if (titlePackageIds.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyMap());
+    }
+    Map<String, UcCostAnalysis> titlePackageCost = new ConcurrentHashMap<>(titlePackageIds.size());
+    AtomicBoolean failed = new AtomicBoolean(false);
+    List<Supplier<CompletableFuture<Void>>> requests = Lists.partition(titlePackageIds, MAX_PARTITION_SIZE).stream()
+      .<Supplier<CompletableFuture<Void>>>map(partition -> () -> requestPartition(partition, failed, titlePackageCost,
+        configuration))
+      .toList();
+    return CompletableFuture.allOf(requestQueue.submitAll(requests).toArray(CompletableFuture[]::new))
+      .thenApply(unused -> titlePackageCost);
+  }
+
+  /**
+   * Partitions that leave the queue after another partition of the load failed are not requested.
+   */
+  private CompletableFuture<Void> requestPartition(List<UcTitlePackageId> partition, AtomicBoolean failed,
+                                                   Map<String, UcCostAnalysis> titlePackageCost,
+                                                   GetTitlePackageUcConfiguration configuration) {
+    if (failed.get()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return loadPartition(partition, configuration, retryCount, retryDelay)
+      .thenAccept(titlePackageCost::putAll)
+      .whenComplete((o, throwable) -> {
+        if (throwable != null) {
+          failed.set(true);
+        }
+      });
+  }
+
+  private CompletableFuture<Map<String, UcCostAnalysis>> loadPartition(List<UcTitlePackageId> titlePackageIds,
+                                                                      GetTitlePackageUcConfiguration configuration,
+                                                                      int retries, long delay) {
+    CompletableFuture<Map<String, UcCostAnalysis>> future = new CompletableFuture<>();
+    client.getTitlePackageCostPerUse(titlePackageIds, configuration)
+      .whenComplete((cost, throwable) -> {
+        if (throwable == null) {
+          future.complete(cost);
+        } else if (retries > 0 && isRetryable(throwable)) {
+          log.warn("loadPartition:: Failed to load cost of {} title packages, retrying in {} ms, msg: {}",
+            titlePackageIds.size(), delay, throwable.getMessage());
+          vertx.setTimer(delay, timerId -> loadPartition(titlePackageIds, configuration, retries - 1, delay * 2)
+            .whenComplete((retriedCost, retryThrowable) -> {
+              if (retryThrowable == null) {
+                future.complete(retriedCost);
+              } else {
+                future.completeExceptionally(retryThrowable);
+              }
+            }));
+        } else {
+          future.completeExceptionally(throwable);
+        }
+      });
+    return future;
+  }
+
+  /**
+   * Requests rejected by UC because of invalid input or authorization are not retried.
+   */
+  private boolean isRetryable(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                      ? throwable.getCause()
+                      : throwable;
+    if (cause instanceof UcFailedRequestException exception) {
+      int statusCode = exception.getStatusCode();
+      return statusCode == TOO_MANY_REQUESTS.code() || statusCode >= INTERNAL_SERVER_ERROR.code();
+    }
+    return true;
+  }
+}
@@ -0,0 +1,49 @@
+package org.folio.service.uc.export;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * Collects written buffers into one buffer, used where the whole export has to be passed on at once.
+ */
+public class BufferWriteStream implements WriteStream<Buffer> {
+
+  private final Buffer buffer = Buffer.buffer();
+
+  public Buffer getBuffer() {
+    return buffer;
+  }
+
+  @Override
+  public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+
+  @Override
+  public Future<Void> write(Buffer data) {
+    buffer.appendBuffer(data);
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end() {
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+}
@@ -0,0 +1,92 @@
+package org.folio.service.uc.export;
+
+import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
+import static com.opencsv.ICSVWriter.NO_ESCAPE_CHARACTER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.opencsv.bean.StatefulBeanToCsv;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import io.vertx.core.buffer.Buffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Maps chunks of exported titles to CSV, header is written before the first title.
+ *
+ * <p>Each chunk is returned as a separate buffer, so that only one chunk of the file is kept in memory.
+ * When the writer is compressed, buffers are parts of one gzip stream that is completed by {@link #finish()}.
+ */
+class CsvExportWriter {
+
+  private final StringWriter csvWriter = new StringWriter();
+  private final ByteArrayOutputStream compressedBytes = new ByteArrayOutputStream();
+  private final StatefulBeanToCsv<TitleExportModel> beanToCsv;
+  private final GZIPOutputStream gzipStream;
+
+  CsvExportWriter(boolean compressed) {
+    // mapping of columns by position
+    CustomBeanToCsvMappingStrategy<TitleExportModel> mappingStrategy = new CustomBeanToCsvMappingStrategy<>();
+    mappingStrategy.setType(TitleExportModel.class);
+
+    this.beanToCsv = new StatefulBeanToCsvBuilder<TitleExportModel>(csvWriter)
+      .withMappingStrategy(mappingStrategy)
+      .withEscapechar(NO_ESCAPE_CHARACTER)
+      .withLineEnd(DEFAULT_LINE_END)
+      .withSeparator('|')
+      .withApplyQuotesToAll(true)
+      .build();
+    this.gzipStream = compressed ? createGzipStream() : null;
+  }
+
+  Buffer write(List<TitleExportModel> entities) {
+    try {
+      beanToCsv.write(entities);
+    } catch (CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
+      throw new ExportException(e.getMessage());
+    }
+    var csv = csvWriter.getBuffer();
+    var bytes = csv.toString().getBytes(UTF_8);
+    csv.setLength(0);
+    if (gzipStream == null) {
+      return Buffer.buffer(bytes);
+    }
+    try {
+      gzipStream.write(bytes);
+      gzipStream.flush();
+    } catch (IOException e) {
+      throw new ExportException(e.getMessage());
+    }
+    return takeCompressedBytes();
+  }
+
+  Buffer finish() {
+    if (gzipStream == null) {
+      return Buffer.buffer();
+    }
+    try {
+      gzipStream.finish();
+    } catch (IOException e) {
+      throw new ExportException(e.getMessage());
+    }
+    return takeCompressedBytes();
+  }
+
+  private Buffer takeCompressedBytes() {
+    var buffer = Buffer.buffer(compressedBytes.toByteArray());
+    compressedBytes.reset();
+    return buffer;
+  }
+
+  private GZIPOutputStream createGzipStream() {
+    try {
+      return new GZIPOutputStream(compressedBytes, true);
+    } catch (IOException e) {
+      throw new ExportException(e.getMessage());
+    }
+  }
+}
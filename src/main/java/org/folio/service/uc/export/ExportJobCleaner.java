@@ -0,0 +1,77 @@
+package org.folio.service.uc.export;
+
+import io.vertx.core.Vertx;
+import java.time.OffsetDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.log4j.Log4j2;
+import org.folio.common.VertxIdProvider;
+import org.folio.repository.export.ExportJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically renews lease of export jobs queued by this instance, fails jobs that are not leased by any instance
+ * and removes expired jobs for all tenants.
+ *
+ * <p>Queued jobs are kept in memory of the instance that accepted them, so jobs of a stopped instance are never
+ * finished. Lease of such jobs is not renewed, and they are marked failed once the lease expires.
+ */
+@Log4j2
+@Component
+public class ExportJobCleaner {
+
+  private static final String JOB_ABANDONED_MESSAGE = "Export job was interrupted, create a new job";
+
+  private final Vertx vertx;
+  private final ExportJobRepository exportJobRepository;
+  private final VertxIdProvider vertxIdProvider;
+  private final long cleanupInterval;
+  private final long leaseDuration;
+  private final long expirationTime;
+  private final AtomicBoolean cleaning = new AtomicBoolean();
+
+  public ExportJobCleaner(Vertx vertx, ExportJobRepository exportJobRepository, VertxIdProvider vertxIdProvider,
+                          @Value("${kb.ebsco.export.jobs.cleanup.interval:60000}") long cleanupInterval,
+                          @Value("${kb.ebsco.export.jobs.lease.duration:300000}") long leaseDuration,
+                          @Value("${kb.ebsco.export.jobs.expire:86400}") long expirationTime) {
+    this.vertx = vertx;
+    this.exportJobRepository = exportJobRepository;
+    this.vertxIdProvider = vertxIdProvider;
+    this.cleanupInterval = cleanupInterval;
+    this.leaseDuration = leaseDuration;
+    this.expirationTime = expirationTime;
+  }
+
+  public void start() {
+    cleanup();
+    vertx.setPeriodic(cleanupInterval, timerId -> cleanup());
+  }
+
+  private void cleanup() {
+    if (!cleaning.compareAndSet(false, true)) {
+      return;
+    }
+    exportJobRepository.findTenants()
+      .thenCompose(tenants -> CompletableFuture.allOf(tenants.stream()
+        .map(tenant -> cleanup(tenant)
+          .exceptionally(e -> {
+            log.warn("Failed to clean up export jobs for tenant {}", tenant, e);
+            return null;
+          }))
+        .toArray(CompletableFuture[]::new)))
+      .whenComplete((o, throwable) -> {
+        if (throwable != null) {
+          log.warn("Failed to clean up export jobs", throwable);
+        }
+        cleaning.set(false);
+      });
+  }
+
+  private CompletableFuture<Void> cleanup(String tenant) {
+    return exportJobRepository.renewLeases(vertxIdProvider.getVertxId(), leaseDuration, tenant)
+      .thenCompose(unused -> exportJobRepository.failAbandoned(JOB_ABANDONED_MESSAGE, tenant))
+      .thenCompose(unused -> exportJobRepository.deleteCreatedBefore(
+        OffsetDateTime.now().minusSeconds(expirationTime), tenant));
+  }
+}
@@ -0,0 +1,21 @@
+package org.folio.service.uc.export;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.folio.repository.export.DbExportJob;
+
+public interface ExportJobService {
+
+  /**
+   * Creates job that exports cost per use of package titles and queues it for execution.
+   */
+  CompletableFuture<DbExportJob> createJob(String packageId, String platform, String fiscalYear,
+                                           Map<String, String> okapiHeaders);
+
+  CompletableFuture<DbExportJob> findJob(String jobId, Map<String, String> okapiHeaders);
+
+  /**
+   * Returns csv file exported by completed job, the file is compressed with gzip if compressed is true.
+   */
+  CompletableFuture<byte[]> findFile(String jobId, boolean compressed, Map<String, String> okapiHeaders);
+}
@@ -0,0 +1,155 @@
+package org.folio.service.uc.export;
+
+import static org.folio.db.RowSetUtils.toUUID;
+import static org.folio.service.uc.UcCostPerUseServiceImpl.INVALID_PLATFORM_DETAILS;
+import static org.folio.service.uc.UcCostPerUseServiceImpl.INVALID_PLATFORM_MESSAGE;
+import static org.folio.util.FutureUtils.failedFuture;
+
+import io.vertx.core.Promise;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import javax.ws.rs.NotFoundException;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.common.VertxIdProvider;
+import org.folio.repository.export.DbExportJob;
+import org.folio.repository.export.ExportJobRepository;
+import org.folio.repository.export.ExportJobStatus;
+import org.folio.rest.exception.InputValidationException;
+import org.folio.rest.jaxrs.model.PlatformType;
+import org.folio.rest.util.template.RmApiTemplateContext;
+import org.folio.rest.util.template.RmApiTemplateFactory;
+import org.folio.service.holdings.exception.ProcessInProgressException;
+import org.folio.service.locale.LocaleSettings;
+import org.folio.service.locale.LocaleSettingsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+
+  private static final String EXPORT_JOB_NOT_FOUND_MESSAGE = "Export job not found";
+  private static final String EXPORT_JOB_NOT_COMPLETED_MESSAGE = "Export job is not completed";
+  private static final String EXPORT_JOBS_QUEUE_FULL_MESSAGE = "Too many export jobs are queued, try again later";
+
+  private final RmApiTemplateFactory templateFactory;
+  private final ExportJobRepository exportJobRepository;
+  private final ExportJobWorker exportJobWorker;
+  private final VertxIdProvider vertxIdProvider;
+  private final LocaleSettingsService localeSettingsService;
+  private final long leaseDuration;
+
+  public ExportJobServiceImpl(RmApiTemplateFactory templateFactory, ExportJobRepository exportJobRepository,
+                              ExportJobWorker exportJobWorker, VertxIdProvider vertxIdProvider,
+                              LocaleSettingsService localeSettingsService,
+                              @Value("${kb.ebsco.export.jobs.lease.duration:300000}") long leaseDuration) {
+    this.templateFactory = templateFactory;
+    this.localeSettingsService = localeSettingsService;
+    this.exportJobRepository = exportJobRepository;
+    this.exportJobWorker = exportJobWorker;
+    this.vertxIdProvider = vertxIdProvider;
+    this.leaseDuration = leaseDuration;
+  }
+
+  @Override
+  public CompletableFuture<DbExportJob> createJob(String packageId, String platform, String fiscalYear,
+                                                  Map<String, String> okapiHeaders) {
+    log.info("createJob:: Creating export job for package: {}, platform: {}, fiscalYear: {}",
+      packageId, platform, fiscalYear);
+    validatePlatform(platform);
+    return getContext(okapiHeaders)
+      .thenCompose(context -> localeSettingsService.retrieveSettings(context.getRequestContext())
+        .thenCompose(localeSettings -> queueJob(packageId, platform, fiscalYear, context, localeSettings)));
+  }
+
+  /**
+   * Saves the job and queues it for execution with resolved credentials and locale settings.
+   */
+  private CompletableFuture<DbExportJob> queueJob(String packageId, String platform, String fiscalYear,
+                                                  RmApiTemplateContext context, LocaleSettings localeSettings) {
+    var tenant = context.getRequestContext().getTenant();
+    var job = DbExportJob.builder()
+      .id(UUID.randomUUID())
+      .credentialsId(toUUID(context.getCredentialsId()))
+      .packageId(packageId)
+      .platform(platform)
+      .fiscalYear(fiscalYear)
+      .status(ExportJobStatus.QUEUED)
+      .createdAt(OffsetDateTime.now())
+      .build();
+    return exportJobRepository.save(job, vertxIdProvider.getVertxId(), leaseDuration, tenant)
+      .thenCompose(unused -> exportJobWorker.submit(job, context, localeSettings)
+                             ? CompletableFuture.completedFuture(job)
+                             : rejectJob(job, tenant));
+  }
+
+  @Override
+  public CompletableFuture<DbExportJob> findJob(String jobId, Map<String, String> okapiHeaders) {
+    return getContext(okapiHeaders)
+      .thenCompose(context -> exportJobRepository.findById(UUID.fromString(jobId),
+        toUUID(context.getCredentialsId()), context.getRequestContext().getTenant()))
+      .thenApply(job -> job.orElseThrow(() -> new NotFoundException(EXPORT_JOB_NOT_FOUND_MESSAGE)));
+  }
+
+  @Override
+  public CompletableFuture<byte[]> findFile(String jobId, boolean compressed, Map<String, String> okapiHeaders) {
+    return getContext(okapiHeaders)
+      .thenCompose(context -> {
+        var id = UUID.fromString(jobId);
+        var credentialsId = toUUID(context.getCredentialsId());
+        var tenant = context.getRequestContext().getTenant();
+        return exportJobRepository.findById(id, credentialsId, tenant)
+          .thenCompose(job -> {
+            if (job.isEmpty()) {
+              return failedFuture(new NotFoundException(EXPORT_JOB_NOT_FOUND_MESSAGE));
+            }
+            if (job.get().getStatus() != ExportJobStatus.COMPLETED) {
+              return failedFuture(new ProcessInProgressException(EXPORT_JOB_NOT_COMPLETED_MESSAGE));
+            }
+            return exportJobRepository.findFile(id, credentialsId, tenant)
+              .thenApply(file -> file.orElseThrow(() -> new NotFoundException(EXPORT_JOB_NOT_FOUND_MESSAGE)))
+              .thenApply(file -> compressed ? file : decompress(file));
+          });
+      });
+  }
+
+  private byte[] decompress(byte[] file) {
+    try (var input = new GZIPInputStream(new ByteArrayInputStream(file))) {
+      return input.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private CompletableFuture<DbExportJob> rejectJob(DbExportJob job, String tenant) {
+    log.warn("rejectJob:: Export jobs queue is full, job {} is rejected", job.getId());
+    var rejectedJob = job.toBuilder()
+      .status(ExportJobStatus.FAILED)
+      .errorMessage(EXPORT_JOBS_QUEUE_FULL_MESSAGE)
+      .finishedAt(OffsetDateTime.now())
+      .build();
+    return exportJobRepository.updateStatus(rejectedJob, tenant)
+      .thenCompose(unused -> failedFuture(new ExportJobsQueueFullException(EXPORT_JOBS_QUEUE_FULL_MESSAGE)));
+  }
+
+  private CompletableFuture<RmApiTemplateContext> getContext(Map<String, String> okapiHeaders) {
+    return templateFactory.createTemplate(okapiHeaders, Promise.promise()).getRmapiTemplateContext();
+  }
+
+  private void validatePlatform(String platform) {
+    if (StringUtils.isNotBlank(platform)) {
+      try {
+        PlatformType.fromValue(platform);
+      } catch (IllegalArgumentException e) {
+        throw new InputValidationException(INVALID_PLATFORM_MESSAGE, INVALID_PLATFORM_DETAILS);
+      }
+    }
+  }
+}
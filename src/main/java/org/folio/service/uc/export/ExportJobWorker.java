@@ -0,0 +1,120 @@
+package org.folio.service.uc.export;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.extern.log4j.Log4j2;
+import org.folio.repository.export.DbExportJob;
+import org.folio.repository.export.ExportJobRepository;
+import org.folio.repository.export.ExportJobStatus;
+import org.folio.rest.util.template.RmApiTemplateContext;
+import org.folio.service.locale.LocaleSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes queued export jobs, at most concurrency jobs are executed at the same time.
+ *
+ * <p>Jobs wait in memory of the instance that accepted them together with credentials and locale settings
+ * that were resolved when the job was accepted, so a job doesn't depend on okapi token of the request that created it,
+ * which may expire while the job waits. Status and exported file of the job are stored in the database,
+ * so they can be read from any instance. Jobs left by a stopped instance are marked failed by {@link ExportJobCleaner}.
+ */
+@Log4j2
+@Component
+public class ExportJobWorker {
+
+  private final ExportService exportService;
+  private final ExportJobRepository exportJobRepository;
+  private final int concurrency;
+  private final int queueSize;
+  private final Queue<QueuedJob> queue = new ArrayDeque<>();
+  private int running;
+
+  public ExportJobWorker(ExportService exportService, ExportJobRepository exportJobRepository,
+                         @Value("${kb.ebsco.export.jobs.concurrency:2}") int concurrency,
+                         @Value("${kb.ebsco.export.jobs.queue.size:100}") int queueSize) {
+    this.exportService = exportService;
+    this.exportJobRepository = exportJobRepository;
+    this.concurrency = concurrency;
+    this.queueSize = queueSize;
+  }
+
+  /**
+   * Queues the job for execution.
+   *
+   * @return false if the queue is full and the job is not accepted
+   */
+  public boolean submit(DbExportJob job, RmApiTemplateContext context, LocaleSettings localeSettings) {
+    synchronized (this) {
+      if (queue.size() >= queueSize) {
+        return false;
+      }
+      queue.add(new QueuedJob(job, context, localeSettings));
+    }
+    runQueuedJobs();
+    return true;
+  }
+
+  private void runQueuedJobs() {
+    QueuedJob queuedJob;
+    while ((queuedJob = takeNextJob()) != null) {
+      run(queuedJob);
+    }
+  }
+
+  private synchronized QueuedJob takeNextJob() {
+    if (running >= concurrency || queue.isEmpty()) {
+      return null;
+    }
+    running++;
+    return queue.poll();
+  }
+
+  private synchronized void jobFinished() {
+    running--;
+  }
+
+  private void run(QueuedJob queuedJob) {
+    var job = queuedJob.job().toBuilder()
+      .status(ExportJobStatus.IN_PROGRESS)
+      .startedAt(OffsetDateTime.now())
+      .build();
+    var tenant = queuedJob.context().getRequestContext().getTenant();
+    var output = new BufferWriteStream();
+    log.info("run:: Starting export job {} for package {}", job.getId(), job.getPackageId());
+    exportJobRepository.updateStatus(job, tenant)
+      .thenCompose(unused -> exportService.exportCsv(job.getPackageId(), job.getPlatform(), job.getFiscalYear(),
+        true, output, queuedJob.context(), queuedJob.localeSettings()))
+      .thenCompose(unused -> exportJobRepository.saveFile(job.getId(), output.getBuffer().getBytes(),
+        OffsetDateTime.now(), tenant))
+      .handle((unused, throwable) -> throwable == null
+                                     ? CompletableFuture.<Void>completedFuture(null)
+                                     : markFailed(job, tenant, throwable))
+      .thenCompose(future -> future)
+      .whenComplete((unused, throwable) -> {
+        log.info("run:: Finished export job {}", job.getId());
+        jobFinished();
+        runQueuedJobs();
+      });
+  }
+
+  private CompletableFuture<Void> markFailed(DbExportJob job, String tenant, Throwable throwable) {
+    var cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+    log.warn("markFailed:: Export job {} failed", job.getId(), cause);
+    var failedJob = job.toBuilder()
+      .status(ExportJobStatus.FAILED)
+      .errorMessage(cause.getMessage())
+      .finishedAt(OffsetDateTime.now())
+      .build();
+    return exportJobRepository.updateStatus(failedJob, tenant)
+      .exceptionally(e -> {
+        log.warn("markFailed:: Failed to save status of export job {}", job.getId(), e);
+        return null;
+      });
+  }
+
+  private record QueuedJob(DbExportJob job, RmApiTemplateContext context, LocaleSettings localeSettings) { }
+}
@@ -0,0 +1,8 @@
+package org.folio.service.uc.export;
+
+public class ExportJobsQueueFullException extends RuntimeException {
+
+  public ExportJobsQueueFullException(String message) {
+    super(message);
+  }
+}
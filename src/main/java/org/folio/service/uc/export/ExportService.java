@@ -1,10 +1,32 @@
 package org.folio.service.uc.export;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import org.folio.rest.util.template.RmApiTemplateContext;
+import org.folio.service.locale.LocaleSettings;
 
 public interface ExportService {
 
-  CompletableFuture<String> exportCsv(String packageId, String platform, String year,
-                                      Map<String, String> okapiHeaders);
+  /**
+   * Writes cost per use of package titles in csv format to the output in chunks,
+   * next chunk is written when the output is able to accept it.
+   * Chunks are mapped to csv on a worker thread, memory used by the export is bounded only when the output
+   * does not keep written chunks and package resources are read from the store.
+   *
+   * @param compressed true if the csv has to be compressed with gzip
+   */
+  CompletableFuture<Void> exportCsv(String packageId, String platform, String year, boolean compressed,
+                                    WriteStream<Buffer> output, Map<String, String> okapiHeaders);
+
+  /**
+   * Writes cost per use of package titles in csv format to the output with credentials of the context
+   * and locale settings that were resolved before, no requests are sent with okapi headers of the context.
+   *
+   * @param compressed true if the csv has to be compressed with gzip
+   */
+  CompletableFuture<Void> exportCsv(String packageId, String platform, String year, boolean compressed,
+                                    WriteStream<Buffer> output, RmApiTemplateContext context,
+                                    LocaleSettings localeSettings);
 }
@@ -1,71 +1,87 @@
 package org.folio.service.uc.export;
 
-import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
-import static com.opencsv.ICSVWriter.NO_ESCAPE_CHARACTER;
-
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
-import java.io.StringWriter;
-import java.util.List;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import lombok.extern.log4j.Log4j2;
 import org.folio.holdingsiq.model.RequestContext;
 import org.folio.rest.converter.costperuse.export.PackageTitlesCostPerUseCollectionToExportConverter;
+import org.folio.rest.jaxrs.model.ResourceCostPerUseCollection;
+import org.folio.rest.util.template.RmApiTemplateContext;
+import org.folio.rest.util.template.RmApiTemplateFactory;
+import org.folio.service.locale.LocaleSettings;
 import org.folio.service.locale.LocaleSettingsService;
 import org.folio.service.uc.UcCostPerUseService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
 public class ExportServiceImpl implements ExportService {
 
+  private final Vertx vertx;
+  private final RmApiTemplateFactory templateFactory;
   private final UcCostPerUseService costPerUseService;
   private final LocaleSettingsService localeSettingsService;
   private final PackageTitlesCostPerUseCollectionToExportConverter converter;
+  private final int chunkSize;
 
-  public ExportServiceImpl(UcCostPerUseService costPerUseService, LocaleSettingsService localeSettingsService,
-                           PackageTitlesCostPerUseCollectionToExportConverter converter) {
+  public ExportServiceImpl(Vertx vertx, RmApiTemplateFactory templateFactory, UcCostPerUseService costPerUseService,
+                           LocaleSettingsService localeSettingsService,
+                           PackageTitlesCostPerUseCollectionToExportConverter converter,
+                           @Value("${kb.ebsco.export.chunk.size:500}") int chunkSize) {
+    this.vertx = vertx;
+    this.templateFactory = templateFactory;
     this.costPerUseService = costPerUseService;
     this.localeSettingsService = localeSettingsService;
     this.converter = converter;
+    this.chunkSize = chunkSize;
   }
 
-  public CompletableFuture<String> exportCsv(String packageId, String platform, String year,
-                                             Map<String, String> headers) {
-    log.info("Perform export for package - {}", packageId);
-    return costPerUseService.getPackageResourcesCostPerUse(packageId, platform, year, headers)
-      .thenCombine(localeSettingsService.retrieveSettings(new RequestContext(headers)),
-        (collection, localeSettings) -> converter.convert(collection, platform, year, localeSettings))
-      .thenCompose(this::mapToCsv);
+  @Override
+  public CompletableFuture<Void> exportCsv(String packageId, String platform, String year, boolean compressed,
+                                           WriteStream<Buffer> output, Map<String, String> headers) {
+    var localeSettings = localeSettingsService.retrieveSettings(new RequestContext(headers));
+    return templateFactory.createTemplate(headers, Promise.promise()).getRmapiTemplateContext()
+      .thenCompose(context -> localeSettings.thenCompose(settings ->
+        exportCsv(packageId, platform, year, compressed, output, context, settings)));
   }
 
-  private CompletableFuture<String> mapToCsv(List<TitleExportModel> entities) {
-    CompletableFuture<String> result = new CompletableFuture<>();
-    log.info("Mapping {} entities to CSV", entities.size());
-    StringWriter writer = new StringWriter();
-
-    // mapping of columns by position
-    CustomBeanToCsvMappingStrategy<TitleExportModel> mappingStrategy = new CustomBeanToCsvMappingStrategy<>();
-    mappingStrategy.setType(TitleExportModel.class);
+  @Override
+  public CompletableFuture<Void> exportCsv(String packageId, String platform, String year, boolean compressed,
+                                           WriteStream<Buffer> output, RmApiTemplateContext context,
+                                           LocaleSettings localeSettings) {
+    log.info("Perform export for package - {}", packageId);
+    var csvWriter = new CsvExportWriter(compressed);
+    return costPerUseService.getPackageResourcesCostPerUse(packageId, platform, year, chunkSize,
+        chunk -> mapToCsv(chunk, platform, year, localeSettings, csvWriter)
+          .thenCompose(buffer -> write(output, buffer)),
+        context)
+      .thenCompose(unused -> write(output, csvWriter.finish()));
+  }
 
-    StatefulBeanToCsv<TitleExportModel> csvToBean = new StatefulBeanToCsvBuilder<TitleExportModel>(writer)
-      .withMappingStrategy(mappingStrategy)
-      .withEscapechar(NO_ESCAPE_CHARACTER)
-      .withLineEnd(DEFAULT_LINE_END)
-      .withSeparator('|')
-      .withApplyQuotesToAll(true)
-      .build();
+  private CompletableFuture<Buffer> mapToCsv(ResourceCostPerUseCollection chunk, String platform, String year,
+                                             LocaleSettings localeSettings, CsvExportWriter csvWriter) {
+    log.debug("Mapping {} entities to CSV", chunk.getData().size());
+    return vertx.executeBlocking(() -> csvWriter.write(converter.convert(chunk, platform, year, localeSettings)))
+      .toCompletionStage()
+      .toCompletableFuture();
+  }
 
-    try {
-      csvToBean.write(entities);
-    } catch (CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
-      log.warn("Error occurred during mapping", e);
-      result.completeExceptionally(new ExportException(e.getMessage()));
+  private CompletableFuture<Void> write(WriteStream<Buffer> output, Buffer buffer) {
+    if (buffer.length() == 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Promise<Void> promise = Promise.promise();
+    output.write(buffer);
+    if (output.writeQueueFull()) {
+      output.drainHandler(unused -> promise.tryComplete());
+    } else {
+      promise.complete();
     }
-    result.complete(writer.toString());
-    return result;
+    return promise.future().toCompletionStage().toCompletableFuture();
   }
 }
@@ -11,21 +11,24 @@ import static org.folio.rest.util.ExceptionMappers.error401UcAuthenticationMappe
 import static org.folio.rest.util.ExceptionMappers.error404NotFoundMapper;
 import static org.folio.rest.util.ExceptionMappers.error409ProcessInProgressMapper;
 import static org.folio.rest.util.ExceptionMappers.error422ConfigurationInvalidMapper;
+import static org.folio.rest.util.ExceptionMappers.error429ExportJobsQueueFullMapper;
 import static org.folio.rest.util.ExceptionMappers.error422InputValidationMapper;
 import static org.folio.rest.util.ExceptionMappers.errorServiceResponseMapper;
 
 import io.vertx.core.Vertx;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotAuthorizedException;
 import javax.ws.rs.NotFoundException;
+import org.apache.commons.collections4.CollectionUtils;
 import org.folio.cache.VertxCache;
 import org.folio.client.uc.UcFailedRequestException;
 import org.folio.client.uc.model.UcCostAnalysis;
+import org.folio.common.cache.BoundedVertxCache;
+import org.folio.config.cache.UcPackageResourcesCacheKey;
 import org.folio.config.cache.UcTitlePackageCacheKey;
 import org.folio.config.cache.VendorIdCacheKey;
 import org.folio.db.exc.AuthorizationException;
@@ -53,6 +56,7 @@ import org.folio.rest.jaxrs.model.KbCredentials;
 import org.folio.rest.jaxrs.model.KbCredentialsCollection;
 import org.folio.rest.jaxrs.model.KbCredentialsKey;
 import org.folio.rest.jaxrs.model.KbCredentialsPatchRequest;
+import org.folio.rest.jaxrs.model.ResourceCostPerUseCollection;
 import org.folio.rest.util.ErrorHandler;
 import org.folio.rmapi.LocalConfigurationServiceImpl;
 import org.folio.rmapi.cache.PackageCacheKey;
@@ -61,12 +65,14 @@ import org.folio.rmapi.cache.TitleCacheKey;
 import org.folio.rmapi.cache.VendorCacheKey;
 import org.folio.service.holdings.LoadServiceFacade;
 import org.folio.service.holdings.exception.ProcessInProgressException;
+import org.folio.service.holdings.lock.HoldingsLock;
 import org.folio.service.kbcredentials.KbCredentialsService;
 import org.folio.service.kbcredentials.KbCredentialsServiceImpl;
 import org.folio.service.kbcredentials.UserKbCredentialsService;
 import org.folio.service.kbcredentials.UserKbCredentialsServiceImpl;
 import org.folio.service.uc.UcAuthenticationException;
 import org.folio.service.uc.export.ExportException;
+import org.folio.service.uc.export.ExportJobsQueueFullException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
@@ -121,27 +127,56 @@ public class ApplicationConfig {
   }
 
   @Bean
-  public VertxCache<PackageCacheKey, PackageData> packageCache(Vertx vertx,
-                                                                   @Value("${package.cache.expire}")
-                                                                   long expirationTime) {
-    return new VertxCache<>(vertx, expirationTime, "packageCache");
+  public BoundedVertxCache<PackageCacheKey, PackageData> packageCache(Vertx vertx,
+                                                                      @Value("${package.cache.expire}")
+                                                                      long expirationTime,
+                                                                      @Value("${package.cache.refresh-after:0}")
+                                                                      long refreshTime,
+                                                                      @Value("${cache.refresh.concurrency:4}")
+                                                                      int maximumRefreshes,
+                                                                      @Value("${package.cache.max-weight:10000}")
+                                                                      long maximumWeight) {
+    return new BoundedVertxCache<>(vertx, expirationTime, refreshTime, maximumRefreshes, maximumWeight,
+      packageData -> 1, "packageCache");
   }
 
   @Bean
   public VertxCache<VendorCacheKey, VendorById> vendorCache(Vertx vertx,
-                                                            @Value("${vendor.cache.expire}") long expirationTime) {
-    return new VertxCache<>(vertx, expirationTime, "vendorCache");
+                                                            @Value("${vendor.cache.expire}") long expirationTime,
+                                                            @Value("${vendor.cache.refresh-after:0}")
+                                                            long refreshTime,
+                                                            @Value("${cache.refresh.concurrency:4}")
+                                                            int maximumRefreshes,
+                                                            @Value("${vendor.cache.max-weight:5000}")
+                                                            long maximumWeight) {
+    return new BoundedVertxCache<>(vertx, expirationTime, refreshTime, maximumRefreshes, maximumWeight,
+      vendor -> 1, "vendorCache");
   }
 
   @Bean
-  public VertxCache<TitleCacheKey, Title> titleCache(Vertx vertx, @Value("${title.cache.expire}") long expirationTime) {
-    return new VertxCache<>(vertx, expirationTime, "titleCache");
+  public BoundedVertxCache<TitleCacheKey, Title> titleCache(Vertx vertx,
+                                                            @Value("${title.cache.expire}") long expirationTime,
+                                                            @Value("${title.cache.refresh-after:0}") long refreshTime,
+                                                            @Value("${cache.refresh.concurrency:4}")
+                                                            int maximumRefreshes,
+                                                            @Value("${title.cache.max-weight:200000}")
+                                                            long maximumWeight) {
+    return new BoundedVertxCache<>(vertx, expirationTime, refreshTime, maximumRefreshes, maximumWeight,
+      ApplicationConfig::titleWeight, "titleCache");
   }
 
   @Bean
-  public VertxCache<ResourceCacheKey, Title> resourceCache(Vertx vertx,
-                                                           @Value("${resource.cache.expire}") long expirationTime) {
-    return new VertxCache<>(vertx, expirationTime, "resourceCache");
+  public BoundedVertxCache<ResourceCacheKey, Title> resourceCache(Vertx vertx,
+                                                                  @Value("${resource.cache.expire}")
+                                                                  long expirationTime,
+                                                                  @Value("${resource.cache.refresh-after:0}")
+                                                                  long refreshTime,
+                                                                  @Value("${cache.refresh.concurrency:4}")
+                                                                  int maximumRefreshes,
+                                                                  @Value("${resource.cache.max-weight:200000}")
+                                                                  long maximumWeight) {
+    return new BoundedVertxCache<>(vertx, expirationTime, refreshTime, maximumRefreshes, maximumWeight,
+      ApplicationConfig::titleWeight, "resourceCache");
   }
 
   @Bean
@@ -158,17 +193,43 @@ public class ApplicationConfig {
   }
 
   @Bean
-  public VertxCache<UcTitlePackageCacheKey, Map<String, UcCostAnalysis>> ucTitlePackageCache(
+  public VertxCache<UcTitlePackageCacheKey, UcCostAnalysis> ucTitlePackageCache(
     Vertx vertx,
     @Value("${uc.title-package.cache.expire}") long expirationTime,
+    @Value("${uc.title-package.cache.max-weight:100000}") long maximumWeight,
     @Value("${uc.title-package.cache.enable:false}") boolean isEnabled) {
     if (isEnabled) {
-      return new VertxCache<>(vertx, expirationTime, "ucTitlePackageCache");
+      return new BoundedVertxCache<>(vertx, expirationTime, maximumWeight, costAnalysis -> 1, "ucTitlePackageCache");
     } else {
       return emptyCache(vertx);
     }
   }
 
+  /**
+   * Pages of package resources are read from the store when it is enabled, so the cache is used only without it.
+   */
+  @Bean
+  public VertxCache<UcPackageResourcesCacheKey, ResourceCostPerUseCollection> ucPackageResourcesCache(
+    Vertx vertx,
+    @Value("${uc.package-resources.cache.expire:300}") long expirationTime,
+    @Value("${uc.package-resources.cache.max-weight:500000}") long maximumWeight,
+    @Value("${uc.package-resources.cache.enable:false}") boolean isEnabled,
+    @Value("${uc.package-resources.store.enable:false}") boolean isStoreEnabled) {
+    if (isEnabled && !isStoreEnabled) {
+      return new BoundedVertxCache<>(vertx, expirationTime, maximumWeight,
+        resources -> 1 + CollectionUtils.size(resources.getData()), "ucPackageResourcesCache");
+    } else {
+      return emptyCache(vertx);
+    }
+  }
+
+  /**
+   * Weight of title is the number of its customer resources, they take the most memory of cached titles.
+   */
+  private static int titleWeight(Title title) {
+    return 1 + CollectionUtils.size(title.getCustomerResourcesList());
+  }
+
   /**
    * {@link VertxCache} implementation is using when it is needed to disable cache.
    */
@@ -227,6 +288,12 @@ public class ApplicationConfig {
     return (LoadServiceFacade) context.getBean(qualifier);
   }
 
+  @Bean
+  public HoldingsLock holdingsLock(@Value("${holdings.lock.implementation.qualifier:leaseHoldingsLock}")
+                                   String qualifier, ApplicationContext context) {
+    return (HoldingsLock) context.getBean(qualifier);
+  }
+
   @Bean
   public DBExceptionTranslator excTranslator(@Value("${db.exception.translator.name}") String translatorName) {
     DBExceptionTranslatorFactory factory = DBExceptionTranslatorFactory.instance();
@@ -270,7 +337,9 @@ public class ApplicationConfig {
   @Bean
   public ErrorHandler exportErrorHandler() {
     return costPerUseErrorHandler()
-      .add(ExportException.class, error400ExportMapper());
+      .add(ExportException.class, error400ExportMapper())
+      .add(ProcessInProgressException.class, error409ProcessInProgressMapper())
+      .add(ExportJobsQueueFullException.class, error429ExportJobsQueueFullMapper());
   }
 
   @Bean
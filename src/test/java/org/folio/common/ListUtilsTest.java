@@ -0,0 +1,37 @@
+package org.folio.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.common.ListUtils.topK;
+
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ListUtilsTest {
+
+  private static final List<Integer> ITEMS = List.of(5, 3, 9, 1, 7, 3, 8);
+
+  @Test
+  void topKReturnsFirstItemsInOrder() {
+    var actual = topK(ITEMS, Comparator.naturalOrder(), 3);
+    assertThat(actual).containsExactly(1, 3, 3);
+  }
+
+  @Test
+  void topKReturnsFirstItemsInReversedOrder() {
+    var actual = topK(ITEMS, Comparator.<Integer>naturalOrder().reversed(), 2);
+    assertThat(actual).containsExactly(9, 8);
+  }
+
+  @Test
+  void topKReturnsAllItemsSortedWhenKExceedsSize() {
+    var actual = topK(ITEMS, Comparator.naturalOrder(), Integer.MAX_VALUE);
+    assertThat(actual).containsExactly(1, 3, 3, 5, 7, 8, 9);
+  }
+
+  @Test
+  void topKReturnsEmptyListWhenKIsZero() {
+    var actual = topK(ITEMS, Comparator.naturalOrder(), 0);
+    assertThat(actual).isEmpty();
+  }
+}
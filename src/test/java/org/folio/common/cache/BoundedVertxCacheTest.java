@@ -0,0 +1,180 @@
+package org.folio.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.Vertx;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+class BoundedVertxCacheTest {
+
+  private static final Vertx VERTX = Vertx.vertx();
+
+  @AfterAll
+  static void tearDown() {
+    VERTX.close();
+  }
+
+  @Test
+  void shouldKeepWeightUnderMaximumWeight() {
+    var cache = new BoundedVertxCache<Integer, String>(VERTX, 60, 100, String::length, "testCache");
+
+    IntStream.range(0, 1000).forEach(i -> cache.putValue(i, "value" + i));
+
+    assertTrue(cache.getWeight() <= 100);
+  }
+
+  @Test
+  void shouldNotCacheValueHeavierThanMaximumWeight() {
+    var cache = new BoundedVertxCache<Integer, String>(VERTX, 60, 5, String::length, "testCache");
+
+    cache.putValue(1, "heavy value");
+
+    assertNull(cache.getValue(1));
+    assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  void shouldKeepFrequentlyUsedEntries() {
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 60, 100, value -> 1, "testCache");
+    IntStream.range(0, 10).forEach(key -> {
+      cache.putValue(key, key);
+      IntStream.range(0, 20).forEach(i -> cache.getValue(key));
+    });
+
+    IntStream.range(100, 600).forEach(key -> cache.putValue(key, key));
+
+    IntStream.range(0, 10).forEach(key -> assertNotNull(cache.getValue(key)));
+  }
+
+  @Test
+  void shouldLoadValueOnceForConcurrentRequests() {
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 60, 100, value -> 1, "testCache");
+    var loads = new AtomicInteger();
+    var load = new CompletableFuture<Integer>();
+
+    var first = cache.getValueOrLoad(1, () -> {
+      loads.incrementAndGet();
+      return load;
+    });
+    var second = cache.getValueOrLoad(1, () -> {
+      loads.incrementAndGet();
+      return load;
+    });
+    load.complete(10);
+
+    assertEquals(1, loads.get());
+    assertEquals(10, first.join());
+    assertEquals(10, second.join());
+    assertEquals(10, cache.getValue(1));
+  }
+
+  @Test
+  void shouldInvalidateEntries() {
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 60, 100, value -> 1, "testCache");
+    cache.putValue(1, 1);
+    cache.putValue(2, 2);
+
+    cache.invalidate(1);
+    assertNull(cache.getValue(1));
+    assertEquals(1, cache.getWeight());
+
+    cache.invalidateAll();
+    assertNull(cache.getValue(2));
+    assertEquals(0, cache.getWeight());
+  }
+
+  @Test
+  void shouldInvalidateMatchingEntries() {
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 60, 100, value -> 1, "testCache");
+    IntStream.range(0, 10).forEach(key -> cache.putValue(key, key));
+
+    cache.invalidateIf(key -> key % 2 == 0);
+
+    IntStream.range(0, 10).forEach(key -> assertEquals(key % 2 == 0, cache.getValue(key) == null));
+    assertEquals(5, cache.getWeight());
+  }
+
+  @Test
+  void shouldNotCacheValueLoadedBeforeInvalidation() {
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 60, 100, value -> 1, "testCache");
+    var load = new CompletableFuture<Integer>();
+
+    var value = cache.getValueOrLoad(1, () -> load);
+    cache.invalidateIf(key -> key == 1);
+    load.complete(1);
+
+    assertEquals(1, value.join());
+    assertNull(cache.getValue(1));
+  }
+
+  @Test
+  void shouldReturnStaleValueAndRefreshItInBackground() {
+    var time = new AtomicLong();
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 100, 10, 1, 100, value -> 1, "testCache", time::get);
+    cache.putValue(1, 1);
+    time.set(TimeUnit.SECONDS.toNanos(20));
+    var loads = new AtomicInteger();
+    var reload = new CompletableFuture<Integer>();
+
+    var first = cache.getValueOrLoad(1, () -> {
+      loads.incrementAndGet();
+      return reload;
+    });
+    var second = cache.getValueOrLoad(1, () -> {
+      loads.incrementAndGet();
+      return reload;
+    });
+
+    assertEquals(1, first.join());
+    assertEquals(1, second.join());
+    assertEquals(1, loads.get());
+    reload.complete(2);
+    assertEquals(2, cache.getValue(1));
+  }
+
+  @Test
+  void shouldLimitConcurrentRefreshes() {
+    var time = new AtomicLong();
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 100, 10, 1, 100, value -> 1, "testCache", time::get);
+    cache.putValue(1, 1);
+    cache.putValue(2, 2);
+    time.set(TimeUnit.SECONDS.toNanos(20));
+    var loads = new AtomicInteger();
+
+    cache.getValueOrLoad(1, () -> {
+      loads.incrementAndGet();
+      return new CompletableFuture<>();
+    });
+    cache.getValueOrLoad(2, () -> {
+      loads.incrementAndGet();
+      return new CompletableFuture<>();
+    });
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldWaitForLoaderWhenValueIsExpired() {
+    var time = new AtomicLong();
+    var cache = new BoundedVertxCache<Integer, Integer>(VERTX, 100, 10, 1, 100, value -> 1, "testCache", time::get);
+    cache.putValue(1, 1);
+    time.set(TimeUnit.SECONDS.toNanos(200));
+    var reload = new CompletableFuture<Integer>();
+
+    var value = cache.getValueOrLoad(1, () -> reload);
+
+    assertFalse(value.isDone());
+    reload.complete(2);
+    assertEquals(2, value.join());
+  }
+}
@@ -0,0 +1,133 @@
+package org.folio.repository.export;
+
+import static org.folio.repository.export.ExportJobTableConstants.EXPORT_JOB_TABLE;
+import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.KB_CREDENTIALS_TABLE_NAME;
+import static org.folio.util.KbCredentialsTestUtil.API_URL;
+import static org.folio.util.KbCredentialsTestUtil.saveKbCredentials;
+import static org.folio.util.TestUtil.STUB_TENANT;
+import static org.folio.util.TestUtil.clearDataFromTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.folio.util.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ExportJobRepositoryImplIntegrationTest extends IntegrationTestBase {
+
+  private static final UUID INSTANCE_ID = UUID.randomUUID();
+  private static final long LEASE_DURATION = 60000;
+  private static final String ABANDONED_MESSAGE = "Abandoned";
+
+  @Autowired
+  private ExportJobRepository repository;
+  private UUID credentialsId;
+
+  @BeforeEach
+  void setUp() {
+    credentialsId = UUID.randomUUID();
+    saveKbCredentials(credentialsId.toString(), API_URL, vertx);
+  }
+
+  @AfterEach
+  void tearDown() {
+    clearDataFromTable(vertx, EXPORT_JOB_TABLE);
+    clearDataFromTable(vertx, KB_CREDENTIALS_TABLE_NAME);
+  }
+
+  @Test
+  void shouldNotFailJobWithActiveLease() {
+    var job = job(ExportJobStatus.QUEUED);
+    repository.save(job, INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+
+    repository.failAbandoned(ABANDONED_MESSAGE, STUB_TENANT).join();
+
+    assertEquals(ExportJobStatus.QUEUED, findJob(job).getStatus());
+  }
+
+  @Test
+  void shouldFailQueuedAndRunningJobsWithExpiredLease() {
+    var queued = job(ExportJobStatus.QUEUED);
+    var running = job(ExportJobStatus.IN_PROGRESS);
+    repository.save(queued, INSTANCE_ID, 0, STUB_TENANT).join();
+    repository.save(running, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    repository.failAbandoned(ABANDONED_MESSAGE, STUB_TENANT).join();
+
+    for (var job : new DbExportJob[] {queued, running}) {
+      var found = findJob(job);
+      assertEquals(ExportJobStatus.FAILED, found.getStatus());
+      assertEquals(ABANDONED_MESSAGE, found.getErrorMessage());
+      assertNotNull(found.getFinishedAt());
+    }
+  }
+
+  @Test
+  void shouldNotFailCompletedJobWithExpiredLease() {
+    var job = job(ExportJobStatus.COMPLETED);
+    repository.save(job, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    repository.failAbandoned(ABANDONED_MESSAGE, STUB_TENANT).join();
+
+    assertEquals(ExportJobStatus.COMPLETED, findJob(job).getStatus());
+  }
+
+  @Test
+  void shouldNotFailJobWithRenewedLease() {
+    var job = job(ExportJobStatus.QUEUED);
+    repository.save(job, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    repository.renewLeases(INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+    repository.failAbandoned(ABANDONED_MESSAGE, STUB_TENANT).join();
+
+    assertEquals(ExportJobStatus.QUEUED, findJob(job).getStatus());
+  }
+
+  @Test
+  void shouldNotRenewLeaseOfOtherInstance() {
+    var job = job(ExportJobStatus.QUEUED);
+    repository.save(job, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    repository.renewLeases(UUID.randomUUID(), LEASE_DURATION, STUB_TENANT).join();
+    repository.failAbandoned(ABANDONED_MESSAGE, STUB_TENANT).join();
+
+    assertEquals(ExportJobStatus.FAILED, findJob(job).getStatus());
+  }
+
+  @Test
+  void shouldDeleteJobsCreatedBeforeTime() {
+    var job = job(ExportJobStatus.COMPLETED);
+    repository.save(job, INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+
+    repository.deleteCreatedBefore(OffsetDateTime.now().plusMinutes(1), STUB_TENANT).join();
+
+    assertTrue(repository.findById(job.getId(), credentialsId, STUB_TENANT).join().isEmpty());
+  }
+
+  @Test
+  void shouldFindTenantWithExportJobTable() {
+    assertThat(repository.findTenants().join(), hasItem(STUB_TENANT));
+  }
+
+  private DbExportJob findJob(DbExportJob job) {
+    return repository.findById(job.getId(), credentialsId, STUB_TENANT).join().orElseThrow();
+  }
+
+  private DbExportJob job(ExportJobStatus status) {
+    return DbExportJob.builder()
+      .id(UUID.randomUUID())
+      .credentialsId(credentialsId)
+      .packageId("19-3964")
+      .fiscalYear("2023")
+      .status(status)
+      .createdAt(OffsetDateTime.now())
+      .build();
+  }
+}
@@ -0,0 +1,38 @@
+package org.folio.repository.holdings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class HoldingsContentHashTest {
+
+  private final DbHoldingInfo holding = DbHoldingInfo.builder()
+    .vendorId(1)
+    .packageId(2)
+    .titleId(3)
+    .resourceType("Book")
+    .publisherName("Publisher")
+    .publicationTitle("Title")
+    .build();
+
+  @Test
+  void shouldReturnSameHashForSameContent() {
+    assertEquals(HoldingsContentHash.of(holding), HoldingsContentHash.of(holding.toBuilder().build()));
+  }
+
+  @Test
+  void shouldReturnDifferentHashWhenContentChanged() {
+    DbHoldingInfo changed = holding.toBuilder().publicationTitle("Other title").build();
+
+    assertNotEquals(HoldingsContentHash.of(holding), HoldingsContentHash.of(changed));
+  }
+
+  @Test
+  void shouldDistinguishMissingAndEmptyValues() {
+    DbHoldingInfo withoutPublisher = holding.toBuilder().publisherName(null).build();
+    DbHoldingInfo withEmptyPublisher = holding.toBuilder().publisherName("").build();
+
+    assertNotEquals(HoldingsContentHash.of(withoutPublisher), HoldingsContentHash.of(withEmptyPublisher));
+  }
+}
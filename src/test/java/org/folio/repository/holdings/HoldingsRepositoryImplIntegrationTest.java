@@ -0,0 +1,129 @@
+package org.folio.repository.holdings;
+
+import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.KB_CREDENTIALS_TABLE_NAME;
+import static org.folio.util.HoldingsTestUtil.getHoldings;
+import static org.folio.util.HoldingsTestUtil.getHoldingsUpdatedAt;
+import static org.folio.util.HoldingsTestUtil.isPartitionAttached;
+import static org.folio.util.KbCredentialsTestUtil.API_URL;
+import static org.folio.util.KbCredentialsTestUtil.saveKbCredentials;
+import static org.folio.util.TestUtil.STUB_TENANT;
+import static org.folio.util.TestUtil.clearDataFromTable;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.folio.util.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HoldingsRepositoryImplIntegrationTest extends IntegrationTestBase {
+
+  private static final OffsetDateTime FIRST_LOAD = OffsetDateTime.parse("2024-01-01T10:00:00Z");
+  private static final OffsetDateTime SECOND_LOAD = OffsetDateTime.parse("2024-01-02T10:00:00Z");
+
+  private HoldingsRepository bulkRepository;
+  private UUID credentialsId;
+
+  @BeforeEach
+  void setUp() {
+    bulkRepository = new HoldingsRepositoryImpl(vertx, true);
+    credentialsId = UUID.randomUUID();
+    saveKbCredentials(credentialsId.toString(), API_URL, vertx);
+  }
+
+  @AfterEach
+  void tearDown() {
+    clearDataFromTable(vertx, HoldingsTableConstants.HOLDINGS_TABLE);
+    clearDataFromTable(vertx, KB_CREDENTIALS_TABLE_NAME);
+  }
+
+  @Test
+  void shouldInsertHoldingsInBulk() {
+    var first = holding(1, "Title 1");
+    var second = holding(2, "Title 2");
+
+    bulkRepository.saveAll(Set.of(first, second), FIRST_LOAD, credentialsId, STUB_TENANT).join();
+
+    assertThat(getHoldings(vertx), containsInAnyOrder(first, second));
+  }
+
+  @Test
+  void shouldUpdateChangedHoldingsInBulk() {
+    bulkRepository.saveAll(Set.of(holding(1, "Title 1")), FIRST_LOAD, credentialsId, STUB_TENANT).join();
+
+    var changed = holding(1, "Changed title");
+    bulkRepository.saveAll(Set.of(changed), SECOND_LOAD, credentialsId, STUB_TENANT).join();
+
+    assertThat(getHoldings(vertx), containsInAnyOrder(changed));
+    assertTrue(SECOND_LOAD.isEqual(getHoldingsUpdatedAt(vertx).get(holdingsId(changed))));
+  }
+
+  @Test
+  void shouldNotUpdateUnchangedHoldingsInBulk() {
+    var unchanged = holding(1, "Title 1");
+    var changed = holding(2, "Title 2");
+    bulkRepository.saveAll(Set.of(unchanged, changed), FIRST_LOAD, credentialsId, STUB_TENANT).join();
+
+    var updated = holding(2, "Changed title");
+    bulkRepository.saveAll(Set.of(unchanged, updated), SECOND_LOAD, credentialsId, STUB_TENANT).join();
+
+    var updatedAt = getHoldingsUpdatedAt(vertx);
+    assertEquals(2, updatedAt.size());
+    assertTrue(FIRST_LOAD.isEqual(updatedAt.get(holdingsId(unchanged))));
+    assertTrue(SECOND_LOAD.isEqual(updatedAt.get(holdingsId(updated))));
+  }
+
+  @Test
+  void shouldFindAllHoldingsOfPackageInChunks() {
+    var first = holding(1, "Title 1");
+    var second = holding(2, "Title 2");
+    var third = holding(3, "Title 3");
+    var otherPackage = holding(4, "Title 4").toBuilder().packageId(1).build();
+    bulkRepository.saveAll(Set.of(first, second, third, otherPackage), FIRST_LOAD, credentialsId, STUB_TENANT).join();
+
+    var chunks = new ArrayList<List<DbHoldingInfo>>();
+    bulkRepository.findAllByPackageId(3964, credentialsId, STUB_TENANT, 2, chunks::add).join();
+
+    assertEquals(2, chunks.size());
+    assertEquals(2, chunks.get(0).size());
+    assertEquals(1, chunks.get(1).size());
+    assertThat(chunks.stream().flatMap(List::stream).toList(), containsInAnyOrder(first, second, third));
+  }
+
+  @Test
+  void shouldReplacePartitionWithSnapshot() {
+    bulkRepository.saveAll(Set.of(holding(1, "Title 1")), FIRST_LOAD, credentialsId, STUB_TENANT).join();
+    var snapshotHolding = holding(2, "Title 2");
+    bulkRepository.createSnapshotTable(credentialsId, STUB_TENANT).join();
+    bulkRepository.saveAllToSnapshot(Set.of(snapshotHolding), SECOND_LOAD, credentialsId, STUB_TENANT).join();
+
+    bulkRepository.replaceWithSnapshot(credentialsId, STUB_TENANT).join();
+
+    assertThat(getHoldings(vertx), containsInAnyOrder(snapshotHolding));
+    assertTrue(isPartitionAttached(credentialsId.toString(), vertx));
+    assertFalse(bulkRepository.hasSnapshotHoldings(credentialsId, STUB_TENANT).join());
+  }
+
+  private DbHoldingInfo holding(int titleId, String publicationTitle) {
+    return DbHoldingInfo.builder()
+      .vendorId(19)
+      .packageId(3964)
+      .titleId(titleId)
+      .publicationTitle(publicationTitle)
+      .publisherName("Publisher")
+      .resourceType("Book")
+      .build();
+  }
+
+  private String holdingsId(DbHoldingInfo holding) {
+    return holding.getVendorId() + "-" + holding.getPackageId() + "-" + holding.getTitleId();
+  }
+}
@@ -0,0 +1,122 @@
+package org.folio.repository.holdings.status.retry;
+
+import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.KB_CREDENTIALS_TABLE_NAME;
+import static org.folio.util.KbCredentialsTestUtil.API_URL;
+import static org.folio.util.KbCredentialsTestUtil.saveKbCredentials;
+import static org.folio.util.TestUtil.STUB_TENANT;
+import static org.folio.util.TestUtil.clearDataFromTable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.folio.util.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RetryJobRepositoryImplIntegrationTest extends IntegrationTestBase {
+
+  private static final UUID INSTANCE_ID = UUID.randomUUID();
+  private static final UUID OTHER_INSTANCE_ID = UUID.randomUUID();
+  private static final long LEASE_DURATION = 60000;
+
+  @Autowired
+  private RetryJobRepository repository;
+  private UUID credentialsId;
+
+  @BeforeEach
+  void setUp() {
+    credentialsId = UUID.randomUUID();
+    saveKbCredentials(credentialsId.toString(), API_URL, vertx);
+  }
+
+  @AfterEach
+  void tearDown() {
+    clearDataFromTable(vertx, KB_CREDENTIALS_TABLE_NAME);
+  }
+
+  @Test
+  void shouldClaimDueJobOnce() {
+    var job = loadHoldingsJob(OffsetDateTime.now().minusMinutes(1));
+    repository.save(job, STUB_TENANT).join();
+
+    var claimed = repository.claimDue(10, INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+    var claimedByOther = repository.claimDue(10, OTHER_INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+
+    assertEquals(1, claimed.size());
+    assertEquals(credentialsId, claimed.getFirst().getCredentialsId());
+    assertEquals(RetryJobType.LOAD_HOLDINGS, claimed.getFirst().getType());
+    assertEquals("transaction", claimed.getFirst().getTransactionId());
+    assertEquals(100, claimed.getFirst().getTotalCount());
+    assertEquals(2, claimed.getFirst().getTotalPages());
+    assertTrue(claimedByOther.isEmpty());
+  }
+
+  @Test
+  void shouldNotClaimJobThatIsNotDue() {
+    repository.save(loadHoldingsJob(OffsetDateTime.now().plusMinutes(1)), STUB_TENANT).join();
+
+    assertTrue(repository.claimDue(10, INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join().isEmpty());
+  }
+
+  @Test
+  void shouldClaimJobAgainWhenClaimExpired() {
+    repository.save(loadHoldingsJob(OffsetDateTime.now().minusMinutes(1)), STUB_TENANT).join();
+    repository.claimDue(10, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    var claimedByOther = repository.claimDue(10, OTHER_INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+
+    assertEquals(1, claimedByOther.size());
+  }
+
+  @Test
+  void shouldDeleteJobOnlyWhenClaimedByInstance() {
+    repository.save(loadHoldingsJob(OffsetDateTime.now().minusMinutes(1)), STUB_TENANT).join();
+    repository.claimDue(10, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    repository.deleteClaimed(credentialsId, OTHER_INSTANCE_ID, STUB_TENANT).join();
+    List<RetryJob> claimed = repository.claimDue(10, OTHER_INSTANCE_ID, 0, STUB_TENANT).join();
+    assertEquals(1, claimed.size());
+
+    repository.deleteClaimed(credentialsId, OTHER_INSTANCE_ID, STUB_TENANT).join();
+    assertTrue(repository.claimDue(10, INSTANCE_ID, 0, STUB_TENANT).join().isEmpty());
+  }
+
+  @Test
+  void shouldReleaseClaimWhenJobIsReplaced() {
+    repository.save(loadHoldingsJob(OffsetDateTime.now().minusMinutes(1)), STUB_TENANT).join();
+    repository.claimDue(10, INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join();
+
+    repository.save(loadHoldingsJob(OffsetDateTime.now().minusMinutes(1)), STUB_TENANT).join();
+    repository.deleteClaimed(credentialsId, INSTANCE_ID, STUB_TENANT).join();
+
+    assertEquals(1, repository.claimDue(10, OTHER_INSTANCE_ID, LEASE_DURATION, STUB_TENANT).join().size());
+  }
+
+  @Test
+  void shouldCountAttemptsUntilJobIsReplaced() {
+    repository.save(loadHoldingsJob(OffsetDateTime.now().minusMinutes(1)), STUB_TENANT).join();
+    repository.claimDue(10, INSTANCE_ID, 0, STUB_TENANT).join();
+
+    var claimedAgain = repository.claimDue(10, OTHER_INSTANCE_ID, 0, STUB_TENANT).join();
+    assertEquals(2, claimedAgain.getFirst().getAttempts());
+
+    repository.save(loadHoldingsJob(OffsetDateTime.now().minusMinutes(1)), STUB_TENANT).join();
+    var claimedReplaced = repository.claimDue(10, INSTANCE_ID, 0, STUB_TENANT).join();
+    assertEquals(1, claimedReplaced.getFirst().getAttempts());
+  }
+
+  private RetryJob loadHoldingsJob(OffsetDateTime dueAt) {
+    return RetryJob.builder()
+      .credentialsId(credentialsId)
+      .type(RetryJobType.LOAD_HOLDINGS)
+      .transactionId("transaction")
+      .totalCount(100)
+      .totalPages(2)
+      .dueAt(dueAt)
+      .build();
+  }
+}
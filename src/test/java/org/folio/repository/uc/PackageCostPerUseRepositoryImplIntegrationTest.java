@@ -0,0 +1,178 @@
+package org.folio.repository.uc;
+
+import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.KB_CREDENTIALS_TABLE_NAME;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.PACKAGE_COST_PER_USE_TABLE;
+import static org.folio.repository.uc.PackageCostPerUseTableConstants.RESOURCE_COST_PER_USE_TABLE;
+import static org.folio.util.KbCredentialsTestUtil.API_URL;
+import static org.folio.util.KbCredentialsTestUtil.saveKbCredentials;
+import static org.folio.util.TestUtil.STUB_TENANT;
+import static org.folio.util.TestUtil.clearDataFromTable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.json.JsonObject;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.folio.rest.jaxrs.model.Order;
+import org.folio.rest.jaxrs.model.PublicationType;
+import org.folio.rest.jaxrs.model.ResourceCostAnalysisAttributes;
+import org.folio.rest.jaxrs.model.ResourceCostPerUseCollectionItem;
+import org.folio.service.uc.sorting.CostPerUseSort;
+import org.folio.service.uc.sorting.UcSortingComparatorProviders;
+import org.folio.util.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class PackageCostPerUseRepositoryImplIntegrationTest extends IntegrationTestBase {
+
+  private static final int PACKAGE_ID = 3964;
+  private static final String FISCAL_YEAR = "2023";
+  private static final String PLATFORM_TYPE = "all";
+
+  /**
+   * Resources with nulls, equal values, mixed case and non-ASCII names, so that ordering of the database
+   * is checked against cost per use comparators in all cases they treat specially.
+   */
+  private static final List<DbResourceCostPerUse> RESOURCES = List.of(
+    new DbResourceCostPerUse("1-1-1", "apple", "Book", 10.0, 5, 2.0, 10.0),
+    new DbResourceCostPerUse("1-1-2", "Banana", "Book Series", null, null, null, null),
+    new DbResourceCostPerUse("1-1-3", "Zebra", "Audio book", 10.0, 5, 2.0, 10.0),
+    new DbResourceCostPerUse("1-1-4", "éclair", "Audiobook", 30.0, 1, 30.0, 30.0),
+    new DbResourceCostPerUse("1-1-5", "_underscore", "Journal", null, 0, null, 0.0),
+    new DbResourceCostPerUse("1-1-6", "Apple pie", "Book", 0.0, 10, 0.0, 0.0),
+    new DbResourceCostPerUse("1-1-7", "10 things", "Journal", 50.0, 10, 5.0, 50.0),
+    new DbResourceCostPerUse("1-1-8", "2 things", "Newsletter", 10.0, null, null, 10.0)
+  );
+
+  @Autowired
+  private PackageCostPerUseRepository repository;
+  private PackageCostPerUseKey key;
+
+  @BeforeEach
+  void setUp() {
+    var credentialsId = UUID.randomUUID();
+    saveKbCredentials(credentialsId.toString(), API_URL, vertx);
+    key = new PackageCostPerUseKey(credentialsId, PACKAGE_ID, FISCAL_YEAR, PLATFORM_TYPE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    clearDataFromTable(vertx, RESOURCE_COST_PER_USE_TABLE);
+    clearDataFromTable(vertx, PACKAGE_COST_PER_USE_TABLE);
+    clearDataFromTable(vertx, KB_CREDENTIALS_TABLE_NAME);
+  }
+
+  @Test
+  void shouldFindSavedPackage() {
+    var packageCostPerUse = packageCostPerUse(RESOURCES.size());
+    repository.save(key, packageCostPerUse, RESOURCES, STUB_TENANT).join();
+
+    var found = repository.findPackage(key, STUB_TENANT).join();
+
+    assertTrue(found.isPresent());
+    assertEquals(packageCostPerUse.parameters(), found.get().parameters());
+    assertEquals(packageCostPerUse.totalResults(), found.get().totalResults());
+    assertTrue(packageCostPerUse.computedAt().isEqual(found.get().computedAt()));
+  }
+
+  @Test
+  void shouldNotFindPackageOfOtherPlatform() {
+    repository.save(key, packageCostPerUse(RESOURCES.size()), RESOURCES, STUB_TENANT).join();
+
+    var otherKey = new PackageCostPerUseKey(key.credentialsId(), PACKAGE_ID, FISCAL_YEAR, "publisher");
+
+    assertTrue(repository.findPackage(otherKey, STUB_TENANT).join().isEmpty());
+    assertTrue(repository.findResources(otherKey, CostPerUseSort.NAME, Order.ASC, 0, 10, STUB_TENANT).join()
+      .isEmpty());
+  }
+
+  @Test
+  void shouldReplaceSavedResources() {
+    repository.save(key, packageCostPerUse(RESOURCES.size()), RESOURCES, STUB_TENANT).join();
+
+    var replaced = List.of(RESOURCES.getFirst());
+    repository.save(key, packageCostPerUse(replaced.size()), replaced, STUB_TENANT).join();
+
+    assertEquals(1, repository.findPackage(key, STUB_TENANT).join().orElseThrow().totalResults());
+    assertEquals(replaced, repository.findResources(key, CostPerUseSort.NAME, Order.ASC, 0, 10, STUB_TENANT).join());
+  }
+
+  @Test
+  void shouldDeletePackagesOfCredentials() {
+    repository.save(key, packageCostPerUse(RESOURCES.size()), RESOURCES, STUB_TENANT).join();
+
+    repository.deleteByCredentialsId(key.credentialsId(), STUB_TENANT).join();
+
+    assertTrue(repository.findPackage(key, STUB_TENANT).join().isEmpty());
+    assertTrue(repository.findResources(key, CostPerUseSort.NAME, Order.ASC, 0, 10, STUB_TENANT).join().isEmpty());
+  }
+
+  @ParameterizedTest
+  @MethodSource("sortsAndOrders")
+  void shouldOrderResourcesAsCostPerUseComparator(CostPerUseSort sort, Order order) {
+    repository.save(key, packageCostPerUse(RESOURCES.size()), RESOURCES, STUB_TENANT).join();
+
+    var found = repository.findResources(key, sort, order, 0, RESOURCES.size(), STUB_TENANT).join();
+
+    assertEquals(sortedResourceIds(sort, order), resourceIds(found));
+  }
+
+  @ParameterizedTest
+  @MethodSource("sortsAndOrders")
+  void shouldReadPagesOfOrderedResources(CostPerUseSort sort, Order order) {
+    repository.save(key, packageCostPerUse(RESOURCES.size()), RESOURCES, STUB_TENANT).join();
+
+    var firstPage = repository.findResources(key, sort, order, 0, 3, STUB_TENANT).join();
+    var secondPage = repository.findResources(key, sort, order, 3, 3, STUB_TENANT).join();
+    var lastPage = repository.findResources(key, sort, order, 6, 3, STUB_TENANT).join();
+
+    var expected = sortedResourceIds(sort, order);
+    assertEquals(expected.subList(0, 3), resourceIds(firstPage));
+    assertEquals(expected.subList(3, 6), resourceIds(secondPage));
+    assertEquals(expected.subList(6, expected.size()), resourceIds(lastPage));
+  }
+
+  private static Stream<Arguments> sortsAndOrders() {
+    return Arrays.stream(CostPerUseSort.values())
+      .flatMap(sort -> Arrays.stream(Order.values()).map(order -> Arguments.of(sort, order)));
+  }
+
+  private List<String> sortedResourceIds(CostPerUseSort sort, Order order) {
+    var comparator = UcSortingComparatorProviders.forResources().get(sort, order);
+    return RESOURCES.stream()
+      .map(this::toCollectionItem)
+      .sorted(comparator)
+      .map(ResourceCostPerUseCollectionItem::getResourceId)
+      .toList();
+  }
+
+  private List<String> resourceIds(List<DbResourceCostPerUse> resources) {
+    return resources.stream().map(DbResourceCostPerUse::resourceId).toList();
+  }
+
+  private ResourceCostPerUseCollectionItem toCollectionItem(DbResourceCostPerUse resource) {
+    return new ResourceCostPerUseCollectionItem()
+      .withResourceId(resource.resourceId())
+      .withAttributes(new ResourceCostAnalysisAttributes()
+        .withName(resource.name())
+        .withPublicationType(PublicationType.fromValue(resource.publicationType()))
+        .withCost(resource.cost())
+        .withUsage(resource.usage())
+        .withCostPerUse(resource.costPerUse())
+        .withPercent(resource.percent()));
+  }
+
+  private DbPackageCostPerUse packageCostPerUse(int totalResults) {
+    return new DbPackageCostPerUse(new JsonObject().put("currency", "USD").put("startMonth", "jan"), totalResults,
+      OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+  }
+}
@@ -0,0 +1,125 @@
+package org.folio.repository.uc;
+
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.UC_TITLE_PACKAGE_COST_TABLE;
+import static org.folio.util.TestUtil.STUB_TENANT;
+import static org.folio.util.TestUtil.clearDataFromTable;
+import static org.folio.util.UcTitlePackageCostTestUtil.getStoredTitlePackageIds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import org.folio.client.uc.configuration.GetTitlePackageUcConfiguration;
+import org.folio.client.uc.model.UcCostAnalysis;
+import org.folio.client.uc.model.UcCostAnalysisDetails;
+import org.folio.client.uc.model.UcTitlePackageId;
+import org.folio.util.IntegrationTestBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UcTitlePackageCostRepositoryImplIntegrationTest extends IntegrationTestBase {
+
+  private static final UcTitlePackageId FIRST_ID = new UcTitlePackageId(1, 10);
+  private static final UcTitlePackageId SECOND_ID = new UcTitlePackageId(2, 10);
+  private static final UcTitlePackageId THIRD_ID = new UcTitlePackageId(3, 20);
+  private static final GetTitlePackageUcConfiguration CONFIGURATION = configuration("2023");
+  private static final GetTitlePackageUcConfiguration OTHER_CONFIGURATION = configuration("2022");
+
+  @Autowired
+  private UcTitlePackageCostRepository repository;
+
+  @AfterEach
+  void tearDown() {
+    clearDataFromTable(vertx, UC_TITLE_PACKAGE_COST_TABLE);
+  }
+
+  @Test
+  void shouldFindSavedCostOfRequestedTitlePackages() {
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(10.0), SECOND_ID, cost(20.0), THIRD_ID, cost(30.0)),
+      notExpired(), STUB_TENANT).join();
+
+    var found = repository.findAll(CONFIGURATION, List.of(FIRST_ID, THIRD_ID, new UcTitlePackageId(1, 20)),
+      STUB_TENANT).join();
+
+    assertEquals(Map.of(FIRST_ID, cost(10.0), THIRD_ID, cost(30.0)), found);
+  }
+
+  @Test
+  void shouldNotFindCostOfOtherConfiguration() {
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(10.0)), notExpired(), STUB_TENANT).join();
+
+    assertTrue(repository.findAll(OTHER_CONFIGURATION, List.of(FIRST_ID), STUB_TENANT).join().isEmpty());
+  }
+
+  @Test
+  void shouldNotFindExpiredCost() {
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(10.0)), expired(), STUB_TENANT).join();
+
+    assertTrue(repository.findAll(CONFIGURATION, List.of(FIRST_ID), STUB_TENANT).join().isEmpty());
+  }
+
+  @Test
+  void shouldReplaceSavedCost() {
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(10.0)), expired(), STUB_TENANT).join();
+
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(15.0)), notExpired(), STUB_TENANT).join();
+
+    var found = repository.findAll(CONFIGURATION, List.of(FIRST_ID), STUB_TENANT).join();
+    assertEquals(Map.of(FIRST_ID, cost(15.0)), found);
+    assertThat(getStoredTitlePackageIds(vertx), contains(FIRST_ID));
+  }
+
+  @Test
+  void shouldKeepExpiredCostOnSave() {
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(10.0)), expired(), STUB_TENANT).join();
+
+    repository.saveAll(CONFIGURATION, Map.of(SECOND_ID, cost(20.0)), notExpired(), STUB_TENANT).join();
+
+    assertThat(getStoredTitlePackageIds(vertx), containsInAnyOrder(FIRST_ID, SECOND_ID));
+  }
+
+  @Test
+  void shouldDeleteOnlyExpiredCost() {
+    repository.saveAll(CONFIGURATION, Map.of(FIRST_ID, cost(10.0)), expired(), STUB_TENANT).join();
+    repository.saveAll(OTHER_CONFIGURATION, Map.of(SECOND_ID, cost(20.0)), expired(), STUB_TENANT).join();
+    repository.saveAll(CONFIGURATION, Map.of(THIRD_ID, cost(30.0)), notExpired(), STUB_TENANT).join();
+
+    repository.deleteExpired(STUB_TENANT).join();
+
+    assertThat(getStoredTitlePackageIds(vertx), contains(THIRD_ID));
+  }
+
+  @Test
+  void shouldFindTenantWithTitlePackageCostTable() {
+    assertThat(repository.findTenants().join(), hasItem(STUB_TENANT));
+  }
+
+  private static GetTitlePackageUcConfiguration configuration(String fiscalYear) {
+    return GetTitlePackageUcConfiguration.builder()
+      .customerKey("customer-key")
+      .fiscalYear(fiscalYear)
+      .fiscalMonth("dec")
+      .analysisCurrency("USD")
+      .publisherPlatform(false)
+      .previousYear(true)
+      .build();
+  }
+
+  private static UcCostAnalysis cost(double cost) {
+    return new UcCostAnalysis(new UcCostAnalysisDetails(cost, 10, cost / 10), null);
+  }
+
+  private static OffsetDateTime notExpired() {
+    return OffsetDateTime.now().plusHours(1);
+  }
+
+  private static OffsetDateTime expired() {
+    return OffsetDateTime.now().minusHours(1);
+  }
+}
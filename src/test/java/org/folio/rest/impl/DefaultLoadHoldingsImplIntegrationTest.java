@@ -20,6 +20,9 @@ import static org.folio.util.HoldingsStatusAuditTestUtil.saveStatusAudit;
 import static org.folio.util.HoldingsStatusUtil.PROCESS_ID;
 import static org.folio.util.HoldingsStatusUtil.saveStatus;
 import static org.folio.util.HoldingsStatusUtil.saveStatusNotStarted;
+import static org.folio.util.HoldingsTestUtil.isPartitionAttached;
+import static org.folio.util.HoldingsTestUtil.saveHoldingsFromFiles;
+import static org.folio.util.HoldingsTestUtil.snapshotTableExists;
 import static org.folio.util.KbCredentialsTestUtil.saveKbCredentials;
 import static org.folio.util.TestUtil.STUB_TENANT;
 import static org.folio.util.TestUtil.clearDataFromTable;
@@ -31,7 +34,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -56,6 +61,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import lombok.SneakyThrows;
 import org.folio.holdingsiq.model.Configuration;
+import org.folio.repository.holdings.HoldingsRepository;
 import org.folio.repository.holdings.status.HoldingsStatusRepositoryImpl;
 import org.folio.repository.holdings.status.retry.RetryStatusRepository;
 import org.folio.rest.jaxrs.model.LoadStatusAttributes;
@@ -100,6 +106,8 @@ class DefaultLoadHoldingsImplIntegrationTest extends IntegrationTestBase {
   HoldingsStatusRepositoryImpl holdingsStatusRepository;
   @Autowired
   RetryStatusRepository retryStatusRepository;
+  @Autowired
+  HoldingsRepository holdingsRepository;
   private Configuration stubConfiguration;
   private Handler<DeliveryContext<LoadHoldingsMessage>> interceptor;
 
@@ -131,6 +139,25 @@ class DefaultLoadHoldingsImplIntegrationTest extends IntegrationTestBase {
     assertFalse(holdingsList.isEmpty());
   }
 
+  @Test
+  void shouldReplaceHoldingsPartitionWithSnapshot() {
+    setupDefaultLoadKbConfiguration();
+    saveHoldingsFromFiles(STUB_CREDENTIALS_ID, vertx, "responses/kb-ebsco/holdings/custom-holding.json");
+    ReflectionTestUtils.setField(holdingsService, "snapshotSwapEnabled", true);
+    try {
+      runPostHoldingsWithMocks();
+
+      var holdingsList = HoldingsTestUtil.getHoldings(vertx);
+      assertThat(holdingsList, hasItem(hasProperty("publicationTitle", equalTo(STUB_HOLDINGS_TITLE))));
+      assertThat(holdingsList, not(hasItem(hasProperty("publicationTitle", equalTo("Test Title")))));
+      assertTrue(isPartitionAttached(STUB_CREDENTIALS_ID, vertx));
+      assertFalse(snapshotTableExists(STUB_CREDENTIALS_ID, vertx));
+    } finally {
+      ReflectionTestUtils.setField(holdingsService, "snapshotSwapEnabled", false);
+      holdingsRepository.dropPartition(UUID.fromString(STUB_CREDENTIALS_ID), STUB_TENANT).join();
+    }
+  }
+
   @Test
   void shouldSaveMultiHoldings() {
     setupDefaultLoadKbConfiguration();
@@ -357,7 +384,7 @@ class DefaultLoadHoldingsImplIntegrationTest extends IntegrationTestBase {
 
     var proxy = LoadServiceFacade.createProxy(vertx, LOAD_FACADE_ADDRESS);
     proxy.loadHoldings(
-      new LoadHoldingsMessage(stubConfiguration, STUB_CREDENTIALS_ID, STUB_TENANT, 5001, 2, null, null));
+      new LoadHoldingsMessage(stubConfiguration, STUB_CREDENTIALS_ID, STUB_TENANT, 5001, 2, null, null, 1));
 
     assertLatch(latch);
     assertEquals(2, messages.size());
@@ -12,6 +12,7 @@ import static org.folio.util.AssertTestUtil.assertErrorContainsDetail;
 import static org.folio.util.AssertTestUtil.assertErrorContainsTitle;
 import static org.folio.util.HoldingsTestUtil.saveHolding;
 import static org.folio.util.KbCredentialsTestUtil.setupDefaultKbConfiguration;
+import static org.folio.util.TestUtil.STUB_TENANT;
 import static org.folio.util.TestUtil.clearDataFromTable;
 import static org.folio.util.TestUtil.readFile;
 import static org.folio.util.TestUtil.readJsonFile;
@@ -26,19 +27,42 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.folio.cache.VertxCache;
+import org.folio.common.cache.BoundedVertxCache;
+import org.folio.config.cache.UcPackageResourcesCacheKey;
 import org.folio.repository.holdings.DbHoldingInfo;
+import org.folio.repository.uc.PackageCostPerUseKey;
+import org.folio.repository.uc.PackageCostPerUseRepository;
 import org.folio.rest.jaxrs.model.JsonapiError;
+import org.folio.rest.jaxrs.model.Order;
 import org.folio.rest.jaxrs.model.PackageCostPerUse;
 import org.folio.rest.jaxrs.model.ResourceCostPerUse;
 import org.folio.rest.jaxrs.model.ResourceCostPerUseCollection;
 import org.folio.rest.jaxrs.model.TitleCostPerUse;
+import org.folio.service.uc.UcCostPerUseService;
+import org.folio.service.uc.sorting.CostPerUseSort;
 import org.folio.util.IntegrationTestBase;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class EholdingsCostperuseImplIntegrationTest extends IntegrationTestBase {
 
@@ -88,8 +112,20 @@ class EholdingsCostperuseImplIntegrationTest extends IntegrationTestBase {
   private static final String EXPECTED_PACKAGE_COST_PER_USE_WHEN_COST_IS_EMPTY =
     "responses/kb-ebsco/costperuse/packages/expected-package-cost-per-use-when-cost-is-empty.json";
 
+  /**
+   * Names of resources that are ordered differently by case-insensitive or locale-aware collations.
+   */
+  private static final String[] RESOURCE_NAMES = {"apple", "Banana", "_underscore", "\u00e9clair"};
+
   private final EasyRandom random = new EasyRandom();
 
+  @Autowired
+  private UcCostPerUseService costPerUseService;
+  @Autowired
+  private PackageCostPerUseRepository packageCostPerUseRepository;
+  @Autowired
+  private VertxCache<UcPackageResourcesCacheKey, ResourceCostPerUseCollection> packageResourcesCache;
+
   private String credentialsId;
 
   @BeforeEach
@@ -102,6 +138,8 @@ class EholdingsCostperuseImplIntegrationTest extends IntegrationTestBase {
 
   @AfterEach
   void after() {
+    ReflectionTestUtils.setField(costPerUseService, "resourcesStoreEnabled", false);
+    ReflectionTestUtils.setField(costPerUseService, "ucPackageResourcesCache", packageResourcesCache);
     clearDataFromTable(vertx, UC_CREDENTIALS_TABLE_NAME);
     clearDataFromTable(vertx, UC_SETTINGS_TABLE_NAME);
     clearDataFromTable(vertx, HOLDINGS_TABLE);
@@ -545,6 +583,94 @@ class EholdingsCostperuseImplIntegrationTest extends IntegrationTestBase {
     assertThat(actual.getData().get(2).getAttributes(), hasProperty("name", equalTo("3")));
   }
 
+  @Test
+  void shouldSelectFirstPageOfCachedResourcesWithoutCachingSortedOrder() {
+    int packageId = 222222;
+    final String year = "2019";
+    final String platform = "publisher";
+    saveHoldingsWithDifferentCost(packageId);
+    var expected = getWithOk(packageResourcesEndpoint(packageId, year, platform, null, null, "usage", "desc"))
+      .as(ResourceCostPerUseCollection.class);
+    var cache = enablePackageResourcesCache();
+
+    var firstPage = getWithOk(packageResourcesEndpoint(packageId, year, platform, "1", "2", "usage", "desc"))
+      .as(ResourceCostPerUseCollection.class);
+
+    assertEquals(RESOURCE_NAMES.length, firstPage.getMeta().getTotalResults());
+    assertEquals(expected.getData().subList(0, 2), firstPage.getData());
+    verify(cache, times(1)).getValueOrLoad(argThat(key -> key.getSort() == null), any());
+    verify(cache, never()).putValue(argThat(key -> key.getSort() != null), any());
+  }
+
+  @Test
+  void shouldSliceFollowingPagesFromCachedSortedResources() {
+    int packageId = 222222;
+    final String year = "2019";
+    final String platform = "publisher";
+    saveHoldingsWithDifferentCost(packageId);
+    var expected = getWithOk(packageResourcesEndpoint(packageId, year, platform, null, null, "usage", "desc"))
+      .as(ResourceCostPerUseCollection.class);
+    var cache = enablePackageResourcesCache();
+
+    var secondPage = getWithOk(packageResourcesEndpoint(packageId, year, platform, "2", "2", "usage", "desc"))
+      .as(ResourceCostPerUseCollection.class);
+    var firstPage = getWithOk(packageResourcesEndpoint(packageId, year, platform, "1", "2", "usage", "desc"))
+      .as(ResourceCostPerUseCollection.class);
+
+    assertEquals(expected.getData().subList(2, 4), secondPage.getData());
+    assertEquals(expected.getData().subList(0, 2), firstPage.getData());
+    verify(cache, times(1)).putValue(argThat(key -> key.getSort() == CostPerUseSort.USAGE
+      && key.getOrder() == Order.DESC), argThat(sorted -> expected.getData().equals(sorted.getData())));
+    verify(cache, times(1)).getValueOrLoad(any(), any());
+  }
+
+  @ParameterizedTest
+  @MethodSource("sortsAndOrders")
+  void shouldReturnResourcesCostPerUseCollectionFromStoreInSameOrder(String sort, String order) {
+    int packageId = 222222;
+    final String year = "2019";
+    final String platform = "publisher";
+
+    saveHoldingsWithDifferentCost(packageId);
+
+    var expected = getWithOk(packageResourcesEndpoint(packageId, year, platform, null, null, sort, order))
+      .as(ResourceCostPerUseCollection.class);
+    ReflectionTestUtils.setField(costPerUseService, "resourcesStoreEnabled", true);
+    var actual = getWithOk(packageResourcesEndpoint(packageId, year, platform, null, null, sort, order))
+      .as(ResourceCostPerUseCollection.class);
+
+    assertEquals(RESOURCE_NAMES.length, actual.getMeta().getTotalResults());
+    assertEquals(expected.getData(), actual.getData());
+  }
+
+  @Test
+  void shouldReturnResourcesCostPerUseCollectionFromStoreWithPagination() {
+    ReflectionTestUtils.setField(costPerUseService, "resourcesStoreEnabled", true);
+    int packageId = 222222;
+    final String year = "2019";
+    final String platform = "publisher";
+
+    for (int i = 1; i <= 20; i++) {
+      saveHolding(credentialsId, generateHolding(packageId, i), OffsetDateTime.now(), vertx);
+    }
+
+    mockSuccessfulPackageCostPerUse(packageId, UC_PACKAGE_COST_PER_USE_EMPTY_COST);
+    mockSuccessfulTitlePackageCostPerUse(UC_MULTIPLY_TITLE_PACKAGES_COST_PER_USE_FOR_PACKAGE);
+
+    var firstPage = getWithOk(packageResourcesEndpoint(packageId, year, platform, "1", "15"))
+      .as(ResourceCostPerUseCollection.class);
+    var secondPage = getWithOk(packageResourcesEndpoint(packageId, year, platform, "2", "15"))
+      .as(ResourceCostPerUseCollection.class);
+
+    assertEquals(20, firstPage.getMeta().getTotalResults());
+    assertEquals(15, firstPage.getData().size());
+    assertEquals(20, secondPage.getMeta().getTotalResults());
+    assertEquals(5, secondPage.getData().size());
+    assertThat(secondPage.getData(), everyItem(hasProperty("resourceId", startsWith("1-" + packageId))));
+    var key = new PackageCostPerUseKey(UUID.fromString(credentialsId), packageId, year, platform);
+    assertTrue(packageCostPerUseRepository.findPackage(key, STUB_TENANT).join().isPresent());
+  }
+
   @Test
   void shouldReturn422OnGetPackageResourcesCpuWhenYearIsNull() {
     int packageId = 222222;
@@ -598,6 +724,31 @@ class EholdingsCostperuseImplIntegrationTest extends IntegrationTestBase {
     assertErrorContainsDetail(error, "Random error message");
   }
 
+  private static Stream<Arguments> sortsAndOrders() {
+    return Arrays.stream(CostPerUseSort.values())
+      .flatMap(sort -> Arrays.stream(Order.values())
+        .map(order -> Arguments.of(sort.name().toLowerCase(), order.value())));
+  }
+
+  private void saveHoldingsWithDifferentCost(int packageId) {
+    for (int i = 1; i <= RESOURCE_NAMES.length; i++) {
+      saveHolding(credentialsId, generateHolding(packageId, i, RESOURCE_NAMES[i - 1]), OffsetDateTime.now(), vertx);
+    }
+
+    mockSuccessfulPackageCostPerUse(packageId, UC_PACKAGE_COST_PER_USE_EMPTY_COST);
+    mockSuccessfulTitlePackageCostPerUse(UC_DIFFERENT_TITLE_PACKAGES_COST_PER_USE_FOR_PACKAGE);
+  }
+
+  /**
+   * Replaces disabled cache of package resources with enabled one, so that service reads pages from it.
+   */
+  private BoundedVertxCache<UcPackageResourcesCacheKey, ResourceCostPerUseCollection> enablePackageResourcesCache() {
+    var cache = spy(new BoundedVertxCache<UcPackageResourcesCacheKey, ResourceCostPerUseCollection>(vertx, 300,
+      500000, resources -> 1 + resources.getData().size(), "ucPackageResourcesCache"));
+    ReflectionTestUtils.setField(costPerUseService, "ucPackageResourcesCache", cache);
+    return cache;
+  }
+
   private void mockRmApiGetTitle(int titleId, String stubRmapiResponseFile) {
     mockGet(matching(titlesRmApi(titleId)), readFile(stubRmapiResponseFile));
   }
@@ -5,13 +5,23 @@ import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static io.restassured.RestAssured.given;
+import static javax.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_ENCODING;
+import static org.folio.HttpStatus.SC_ACCEPTED;
 import static org.folio.HttpStatus.SC_BAD_REQUEST;
+import static org.folio.HttpStatus.SC_CONFLICT;
+import static org.folio.HttpStatus.SC_NOT_FOUND;
 import static org.folio.HttpStatus.SC_OK;
 import static org.folio.HttpStatus.SC_UNAUTHORIZED;
+import static org.folio.repository.export.ExportJobTableConstants.EXPORT_JOB_TABLE;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.KB_CREDENTIALS_TABLE_NAME;
 import static org.folio.repository.uc.UcSettingsTableConstants.UC_SETTINGS_TABLE_NAME;
 import static org.folio.util.HoldingsTestUtil.saveHoldingsFromFiles;
+import static org.folio.util.KbCredentialsTestUtil.API_URL;
+import static org.folio.util.KbCredentialsTestUtil.saveKbCredentials;
 import static org.folio.util.KbCredentialsTestUtil.setupDefaultKbConfiguration;
+import static org.folio.util.TestUtil.STUB_TENANT;
 import static org.folio.util.TestUtil.clearDataFromTable;
 import static org.folio.util.TestUtil.readFile;
 import static org.folio.util.UcCredentialsTestUtil.setUpUcCredentials;
@@ -20,14 +30,32 @@ import static org.folio.util.UcSettingsTestUtil.stubSettings;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.Header;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 import org.folio.HttpHeaders;
+import org.folio.repository.export.DbExportJob;
+import org.folio.repository.export.ExportJobRepository;
+import org.folio.repository.export.ExportJobStatus;
+import org.folio.rest.jaxrs.model.ExportJob;
+import org.folio.rest.jaxrs.model.ExportJobStatusEnum;
 import org.folio.util.IntegrationTestBase;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 class EholdingsExportImplIntegrationTest extends IntegrationTestBase {
 
@@ -35,6 +63,8 @@ class EholdingsExportImplIntegrationTest extends IntegrationTestBase {
   private static final String UC_COSTPERUSE_PACKAGE_REQ = "/uc/costperuse/package/%s";
   private static final String UC_COSTPERUSE_TITLES_REQ = "/uc/costperuse/titles";
   private static final String EXPORT_PACKAGE_TITLES = "/eholdings/packages/%d-%d/resources/costperuse/export%s";
+  private static final String EXPORT_JOB = "/eholdings/export-jobs/%s";
+  private static final String EXPORT_JOB_FILE = EXPORT_JOB + "/file";
 
   private static final int STUB_PROVIDER_ID = 123;
   private static final int STUB_PACKAGE_ID = 456;
@@ -64,7 +94,10 @@ class EholdingsExportImplIntegrationTest extends IntegrationTestBase {
   private static final String HOLDING_FOR_EXPORT_3 = "responses/kb-ebsco/export/holding-for-export-3.json";
 
   private static final Header CONTENT_TYPE_CSV_HEADER = new Header(HttpHeaders.CONTENT_TYPE, "text/csv");
+  private static final int JOB_STATUS_POLL_ATTEMPTS = 100;
 
+  @Autowired
+  private ExportJobRepository exportJobRepository;
   private String credentialsId;
 
   @BeforeEach
@@ -74,6 +107,7 @@ class EholdingsExportImplIntegrationTest extends IntegrationTestBase {
 
   @AfterEach
   void tearDown() {
+    clearDataFromTable(vertx, EXPORT_JOB_TABLE);
     clearDataFromTable(vertx, UC_SETTINGS_TABLE_NAME);
     clearDataFromTable(vertx, KB_CREDENTIALS_TABLE_NAME);
   }
@@ -195,4 +229,129 @@ class EholdingsExportImplIntegrationTest extends IntegrationTestBase {
 
     assertEquals(actual, readFile(EXPECTED_EXPORT_THREE_ITEMS_ZERO_VALUES));
   }
+
+  @Test
+  void shouldCreateExportJob() {
+    setUpExportMocks();
+
+    var job = createJob();
+
+    assertNotNull(job.getId());
+    assertEquals(STUB_PROVIDER_ID + "-" + STUB_PACKAGE_ID, job.getAttributes().getPackageId());
+    assertEquals("2019", job.getAttributes().getFiscalYear());
+    assertEquals(ExportJobStatusEnum.COMPLETED, waitForJobFinished(job.getId()).getAttributes().getStatus());
+  }
+
+  @Test
+  void shouldReturn409WhenFileOfNotCompletedJobIsRequested() {
+    var job = saveJob(credentialsId, ExportJobStatus.QUEUED);
+
+    getWithStatus(String.format(EXPORT_JOB_FILE, job.getId()), SC_CONFLICT);
+  }
+
+  @Test
+  void shouldReturnCompressedFileWhenGzipIsAccepted() throws IOException {
+    setUpExportMocks();
+    var job = createJob();
+    waitForJobFinished(job.getId());
+
+    var response = getFile(job.getId(), "deflate, gzip;q=0.8");
+
+    assertEquals("gzip", response.header(CONTENT_ENCODING));
+    assertEquals(readFile(EXPECTED_EXPORT_THREE_ITEMS_USD), decompress(response.body().asByteArray()));
+  }
+
+  @Test
+  void shouldReturnUncompressedFileWhenGzipIsNotAccepted() {
+    setUpExportMocks();
+    var job = createJob();
+    waitForJobFinished(job.getId());
+
+    var response = getFile(job.getId(), "identity, gzip;q=0");
+
+    assertNull(response.header(CONTENT_ENCODING));
+    assertEquals(readFile(EXPECTED_EXPORT_THREE_ITEMS_USD), response.body().asString());
+  }
+
+  @Test
+  void shouldReturn404WhenJobOfOtherCredentialsIsRequested() {
+    var otherCredentialsId = saveKbCredentials(UUID.randomUUID().toString(), API_URL, vertx);
+    var job = saveJob(otherCredentialsId, ExportJobStatus.COMPLETED);
+
+    getWithStatus(String.format(EXPORT_JOB, job.getId()), SC_NOT_FOUND);
+    getWithStatus(String.format(EXPORT_JOB_FILE, job.getId()), SC_NOT_FOUND);
+  }
+
+  private void setUpExportMocks() {
+    setUpUcCredentials(vertx);
+    saveUcSettings(stubSettings(credentialsId), vertx);
+    mockAuthToken();
+
+    saveHoldingsFromFiles(credentialsId, vertx, HOLDING_FOR_EXPORT_1, HOLDING_FOR_EXPORT_2, HOLDING_FOR_EXPORT_3);
+    mockFailedLocaleResponse();
+
+    mockGet(matching(String.format(UC_COSTPERUSE_PACKAGE_REQ, STUB_PACKAGE_ID)),
+      readFile(UC_PACKAGE_COST_EMPTY_RESPONSE));
+    mockPost(matching(UC_COSTPERUSE_TITLES_REQ), readFile(UC_TITLES_DIFFERENT_PACKAGES_RESPONSE), SC_OK);
+  }
+
+  private ExportJob createJob() {
+    var url = String.format(EXPORT_PACKAGE_TITLES, STUB_PROVIDER_ID, STUB_PACKAGE_ID, "/jobs" + STUB_QUERY_PARAMS);
+    return postWithStatus(url, "", SC_ACCEPTED).as(ExportJob.class);
+  }
+
+  private ExportJob waitForJobFinished(String jobId) {
+    for (int i = 0; i < JOB_STATUS_POLL_ATTEMPTS; i++) {
+      var job = getWithOk(String.format(EXPORT_JOB, jobId)).as(ExportJob.class);
+      var status = job.getAttributes().getStatus();
+      if (status == ExportJobStatusEnum.COMPLETED || status == ExportJobStatusEnum.FAILED) {
+        return job;
+      }
+      sleep();
+    }
+    throw new AssertionError("Export job " + jobId + " is not finished");
+  }
+
+  private DbExportJob saveJob(String jobCredentialsId, ExportJobStatus status) {
+    var job = DbExportJob.builder()
+      .id(UUID.randomUUID())
+      .credentialsId(UUID.fromString(jobCredentialsId))
+      .packageId(STUB_PROVIDER_ID + "-" + STUB_PACKAGE_ID)
+      .platform("publisher")
+      .fiscalYear("2019")
+      .status(status)
+      .createdAt(OffsetDateTime.now())
+      .build();
+    exportJobRepository.save(job, UUID.randomUUID(), 60000, STUB_TENANT).join();
+    return job;
+  }
+
+  private ExtractableResponse<Response> getFile(String jobId, String acceptEncoding) {
+    return given()
+      .spec(getRequestSpecification())
+      .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+      .header(ACCEPT_ENCODING, acceptEncoding)
+      .when()
+      .get(String.format(EXPORT_JOB_FILE, jobId))
+      .then()
+      .log()
+      .ifValidationFails()
+      .statusCode(SC_OK)
+      .extract();
+  }
+
+  private String decompress(byte[] file) throws IOException {
+    try (var input = new GZIPInputStream(new ByteArrayInputStream(file))) {
+      return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private void sleep() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(100);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(e);
+    }
+  }
 }
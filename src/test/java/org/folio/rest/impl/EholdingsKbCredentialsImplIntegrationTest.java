@@ -12,6 +12,9 @@ import static org.folio.util.AssertTestUtil.assertErrorContainsTitle;
 import static org.folio.util.AssignedUsersTestUtil.saveAssignedUser;
 import static org.folio.util.HoldingsRetryStatusTestUtil.getRetryStatus;
 import static org.folio.util.HoldingsStatusUtil.getStatus;
+import static org.folio.util.HoldingsTestUtil.getHoldings;
+import static org.folio.util.HoldingsTestUtil.partitionExists;
+import static org.folio.util.HoldingsTestUtil.saveHoldingsFromFiles;
 import static org.folio.util.KbCredentialsTestUtil.API_URL;
 import static org.folio.util.KbCredentialsTestUtil.CREDENTIALS_NAME;
 import static org.folio.util.KbCredentialsTestUtil.KB_CREDENTIALS_ENDPOINT;
@@ -36,6 +39,7 @@ import static org.folio.util.TestUtil.clearDataFromTable;
 import static org.folio.util.TitlesTestUtil.buildTitle;
 import static org.folio.util.TitlesTestUtil.saveTitle;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,6 +55,7 @@ import org.folio.rest.jaxrs.model.KbCredentialsKey;
 import org.folio.rest.jaxrs.model.KbCredentialsPostRequest;
 import org.folio.rest.jaxrs.model.KbCredentialsPutRequest;
 import org.folio.rest.jaxrs.model.LoadStatusNameEnum;
+import org.folio.service.holdings.HoldingsService;
 import org.folio.service.kbcredentials.KbCredentialsService;
 import org.folio.util.IntegrationTestBase;
 import org.junit.jupiter.api.AfterEach;
@@ -69,6 +74,8 @@ class EholdingsKbCredentialsImplIntegrationTest extends IntegrationTestBase {
 
   @Autowired
   private KbCredentialsService securedCredentialsService;
+  @Autowired
+  private HoldingsService holdingsService;
 
   @AfterEach
   void tearDown() {
@@ -551,6 +558,20 @@ class EholdingsKbCredentialsImplIntegrationTest extends IntegrationTestBase {
     assertTrue(kbCredentialsInDb.isEmpty());
   }
 
+  @Test
+  void shouldRemoveHoldingsOnDelete() {
+    var credentialsId = saveKbCredentials(API_URL, CREDENTIALS_NAME, STUB_API_KEY, STUB_CUSTOMER_ID, vertx);
+    holdingsService.setUpCredentials(credentialsId, STUB_TENANT).join();
+    saveHoldingsFromFiles(credentialsId, vertx, "responses/kb-ebsco/holdings/custom-holding.json");
+    assertTrue(partitionExists(credentialsId, vertx));
+
+    var resourcePath = KB_CREDENTIALS_ENDPOINT + "/" + credentialsId;
+    deleteWithNoContent(resourcePath);
+
+    assertTrue(getHoldings(vertx).isEmpty());
+    assertFalse(partitionExists(credentialsId, vertx));
+  }
+
   @Test
   void shouldReturn204OnDeleteWhenCredentialsAreMissing() {
     var resourcePath = KB_CREDENTIALS_ENDPOINT + "/11111111-1111-1111-a111-111111111111";
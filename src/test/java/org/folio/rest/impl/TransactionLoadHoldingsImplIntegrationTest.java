@@ -27,6 +27,8 @@ import static org.folio.util.TestUtil.readFile;
 import static org.folio.util.TestUtil.result;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
 
 import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
@@ -37,6 +39,7 @@ import io.vertx.core.json.JsonObject;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
@@ -48,6 +51,7 @@ import org.folio.holdingsiq.model.HoldingsTransactionIdsList;
 import org.folio.holdingsiq.model.TransactionId;
 import org.folio.repository.holdings.DbHoldingInfo;
 import org.folio.repository.holdings.status.HoldingsStatusRepositoryImpl;
+import org.folio.repository.holdings.status.checkpoint.LoadCheckpointRepository;
 import org.folio.repository.holdings.status.retry.RetryStatusRepository;
 import org.folio.service.holdings.HoldingsService;
 import org.folio.service.holdings.LoadServiceFacade;
@@ -104,6 +108,8 @@ class TransactionLoadHoldingsImplIntegrationTest extends IntegrationTestBase {
   private HoldingsStatusRepositoryImpl holdingsStatusRepository;
   @Autowired
   private RetryStatusRepository retryStatusRepository;
+  @Autowired
+  private LoadCheckpointRepository loadCheckpointRepository;
   private Configuration configuration;
   private Handler<DeliveryContext<LoadHoldingsMessage>> interceptor;
 
@@ -191,6 +197,10 @@ class TransactionLoadHoldingsImplIntegrationTest extends IntegrationTestBase {
     assertEquals("Added test title", addedHolding.getPublicationTitle());
     assertEquals("Added test publisher", addedHolding.getPublisherName());
     assertEquals("Book", addedHolding.getResourceType());
+
+    assertNull(loadCheckpointRepository.findByCredentialsId(UUID.fromString(STUB_CREDENTIALS_ID), STUB_TENANT).join());
+    var loadGenerations = (Map<?, ?>) ReflectionTestUtils.getField(holdingsService, "loadGenerations");
+    assertTrue(loadGenerations.isEmpty());
   }
 
   @Test
@@ -276,7 +286,7 @@ class TransactionLoadHoldingsImplIntegrationTest extends IntegrationTestBase {
 
     var proxy = LoadServiceFacade.createProxy(vertx, LOAD_FACADE_ADDRESS);
     var message = new LoadHoldingsMessage(this.configuration, STUB_CREDENTIALS_ID,
-      STUB_TENANT, 5001, 2, TRANSACTION_ID, null);
+      STUB_TENANT, 5001, 2, TRANSACTION_ID, null, 1);
     proxy.loadHoldings(message);
 
     assertLatch(latch);
@@ -10,6 +10,7 @@ import io.vertx.core.Vertx;
 import java.util.Collections;
 import org.folio.cache.VertxCache;
 import org.folio.holdingsiq.model.PackageId;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.util.WireMockTestBase;
 import org.junit.jupiter.api.Test;
 
@@ -26,7 +27,8 @@ class PackageServiceImplTest extends WireMockTestBase {
 
     var configuration = getStubConfiguration();
     var service = new PackageServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, null, null,
-      new VertxCache<>(Vertx.vertx(), 60, "packageCache"), null);
+      new VertxCache<>(Vertx.vertx(), 60, "packageCache"), null, null,
+      new RequestLookupCache());
 
     mockGet(getPackagePattern, readFile(CUSTOM_PACKAGE_STUB_FILE));
 
@@ -8,6 +8,7 @@ import static org.folio.util.TestUtil.readFile;
 import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import io.vertx.core.Vertx;
 import org.folio.cache.VertxCache;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.util.WireMockTestBase;
 import org.junit.jupiter.api.Test;
 
@@ -22,7 +23,7 @@ class ProviderServiceImplTest extends WireMockTestBase {
 
     var configuration = getStubConfiguration();
     var service = new ProvidersServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, null,
-      new VertxCache<>(Vertx.vertx(), 60, "vendorCache"));
+      new VertxCache<>(Vertx.vertx(), 60, "vendorCache"), null, new RequestLookupCache());
 
     mockGet(getVendorPattern, readFile(VENDOR_STUB_FILE));
     service.retrieveProvider(VENDOR_ID, null, true).join();
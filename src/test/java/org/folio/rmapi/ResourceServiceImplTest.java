@@ -8,8 +8,10 @@ import static org.folio.util.TestUtil.readFile;
 import com.github.tomakehurst.wiremock.matching.UrlPattern;
 import io.vertx.core.Vertx;
 import java.util.Collections;
+import java.util.List;
 import org.folio.cache.VertxCache;
 import org.folio.holdingsiq.model.ResourceId;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.util.WireMockTestBase;
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +23,7 @@ class ResourceServiceImplTest extends WireMockTestBase {
 
   private static final String CUSTOM_RESOURCE_STUB_FILE =
     "responses/rmapi/resources/get-resource-by-id-success-response.json";
+  private static final String PACKAGE_STUB_FILE = "responses/rmapi/packages/get-package-by-id-for-resource.json";
 
   @Test
   void shouldReturnCachedResource() {
@@ -28,7 +31,7 @@ class ResourceServiceImplTest extends WireMockTestBase {
 
     var configuration = getStubConfiguration();
     var service = new ResourcesServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, null, null,
-      new VertxCache<>(Vertx.vertx(), 60, "resourceCache"));
+      new VertxCache<>(Vertx.vertx(), 60, "resourceCache"), null, new RequestLookupCache());
 
     mockGet(getResourcePattern, readFile(CUSTOM_RESOURCE_STUB_FILE));
 
@@ -38,4 +41,27 @@ class ResourceServiceImplTest extends WireMockTestBase {
 
     wm.verify(1, getRequestedFor(new UrlPattern(getResourcePattern, true)));
   }
+
+  @Test
+  void shouldRequestResourceAndIncludedPackageOncePerRequest() {
+    var getResourcePattern = equalTo(resourcesRmApi(VENDOR_ID, PACKAGE_ID, TITLE_ID));
+    var getPackagePattern = equalTo(packageRmApi(PACKAGE_ID));
+
+    var configuration = getStubConfiguration();
+    var lookupCache = new RequestLookupCache();
+    var packagesService = new PackageServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, null, null,
+      new VertxCache<>(Vertx.vertx(), 60, "packageCache"), null, null, lookupCache);
+    var service = new ResourcesServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, null, packagesService,
+      new VertxCache<>(Vertx.vertx(), 60, "resourceCache"), null, lookupCache);
+
+    mockGet(getResourcePattern, readFile(CUSTOM_RESOURCE_STUB_FILE));
+    mockGet(getPackagePattern, readFile(PACKAGE_STUB_FILE));
+
+    var resourceId = new ResourceId(VENDOR_ID, PACKAGE_ID, TITLE_ID);
+    service.retrieveResource(resourceId, List.of("package")).join();
+    service.retrieveResource(resourceId, List.of("package")).join();
+
+    wm.verify(1, getRequestedFor(new UrlPattern(getResourcePattern, true)));
+    wm.verify(1, getRequestedFor(new UrlPattern(getPackagePattern, false)));
+  }
 }
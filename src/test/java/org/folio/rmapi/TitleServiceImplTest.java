@@ -17,6 +17,7 @@ import org.folio.cache.VertxCache;
 import org.folio.holdingsiq.model.Configuration;
 import org.folio.holdingsiq.model.CustomerResources;
 import org.folio.holdingsiq.model.Title;
+import org.folio.rmapi.cache.RequestLookupCache;
 import org.folio.rmapi.cache.TitleCacheKey;
 import org.folio.util.WireMockTestBase;
 import org.junit.jupiter.api.Test;
@@ -35,7 +36,7 @@ class TitleServiceImplTest extends WireMockTestBase {
     var getTitlePattern = equalTo(titlesRmApi(TITLE_ID));
 
     var service = new TitlesServiceImpl(configuration, Vertx.vertx(), STUB_TENANT,
-      new VertxCache<>(Vertx.vertx(), 60, "titleCache"));
+      new VertxCache<>(Vertx.vertx(), 60, "titleCache"), null, new RequestLookupCache());
 
     mockGet(getTitlePattern, readFile(TITLE_STUB_FILE));
     service.retrieveTitle(TITLE_ID, true).join();
@@ -49,7 +50,7 @@ class TitleServiceImplTest extends WireMockTestBase {
     var getTitlePattern = equalTo(titlesRmApi(TITLE_ID));
 
     var service = new TitlesServiceImpl(configuration, Vertx.vertx(), STUB_TENANT,
-      new VertxCache<>(Vertx.vertx(), 60, "titleCache"));
+      new VertxCache<>(Vertx.vertx(), 60, "titleCache"), null, new RequestLookupCache());
 
     mockGet(getTitlePattern, readFile(TITLE_STUB_FILE));
     service.retrieveTitle(TITLE_ID, false).join();
@@ -60,7 +61,8 @@ class TitleServiceImplTest extends WireMockTestBase {
   @Test
   void shouldUpdateCachedTitle() {
     VertxCache<TitleCacheKey, Title> titleCache = mock();
-    var service = new TitlesServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, titleCache);
+    var service = new TitlesServiceImpl(configuration, Vertx.vertx(), STUB_TENANT, titleCache, null,
+      new RequestLookupCache());
 
     when(titleCache.getValue(any(TitleCacheKey.class))).thenReturn(buildTitleWithCustomerResource(1));
 
@@ -0,0 +1,156 @@
+package org.folio.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.PemTrustOptions;
+import io.vertx.pgclient.SslMode;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.folio.cache.VertxCache;
+import org.folio.common.VertxIdProvider;
+import org.folio.common.cache.BoundedVertxCache;
+import org.folio.holdingsiq.model.Configuration;
+import org.folio.holdingsiq.model.PackageData;
+import org.folio.holdingsiq.model.Title;
+import org.folio.repository.cache.CacheInvalidationRepository;
+import org.folio.rmapi.cache.PackageCacheKey;
+import org.folio.rmapi.cache.ResourceCacheKey;
+import org.folio.rmapi.cache.TitleCacheKey;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class CacheInvalidationServiceTest {
+
+  private static final Vertx VERTX = Vertx.vertx();
+  private static final String TENANT = "tenant";
+  private static final String OTHER_TENANT = "other_tenant";
+  private static final String PACKAGE_ID = "1-2";
+  private static final UUID VERTX_ID = UUID.randomUUID();
+  private static final Configuration CONFIGURATION = Configuration.builder().customerId("customer").build();
+  private static final Configuration OTHER_CONFIGURATION = Configuration.builder().customerId("other").build();
+
+  private final CacheInvalidationRepository repository = mock();
+  private final VertxIdProvider vertxIdProvider = mock();
+  private VertxCache<String, Configuration> configurationCache;
+  private BoundedVertxCache<PackageCacheKey, PackageData> packageCache;
+  private CacheInvalidationService service;
+
+  @AfterAll
+  static void tearDown() {
+    VERTX.close();
+  }
+
+  @BeforeEach
+  void setUp() {
+    when(vertxIdProvider.getVertxId()).thenReturn(VERTX_ID);
+    when(repository.notify(any())).thenReturn(CompletableFuture.completedFuture(null));
+    configurationCache = new VertxCache<>(VERTX, 60, "rmApiConfigurationCache");
+    packageCache = new BoundedVertxCache<>(VERTX, 60, 100, value -> 1, "packageCache");
+    service = new CacheInvalidationService(VERTX, repository, vertxIdProvider, configurationCache, packageCache,
+      new BoundedVertxCache<ResourceCacheKey, Title>(VERTX, 60, 100, value -> 1, "resourceCache"),
+      new BoundedVertxCache<TitleCacheKey, Title>(VERTX, 60, 100, value -> 1, "titleCache"), true, 5000);
+  }
+
+  @Test
+  void shouldInvalidatePackageOfTenantForAllCredentials() {
+    var packageData = PackageData.builder().build();
+    packageCache.putValue(packageKey(TENANT, CONFIGURATION), packageData);
+    packageCache.putValue(packageKey(TENANT, OTHER_CONFIGURATION), packageData);
+    packageCache.putValue(packageKey(OTHER_TENANT, CONFIGURATION), packageData);
+
+    service.onNotification(CacheInvalidation.packageRecord(TENANT, PACKAGE_ID).toJson()
+      .put("sender", UUID.randomUUID().toString())
+      .encode());
+
+    assertNull(packageCache.getValue(packageKey(TENANT, CONFIGURATION)));
+    assertNull(packageCache.getValue(packageKey(TENANT, OTHER_CONFIGURATION)));
+    assertNotNull(packageCache.getValue(packageKey(OTHER_TENANT, CONFIGURATION)));
+  }
+
+  @Test
+  void shouldIgnoreOwnNotification() {
+    configurationCache.putValue(TENANT, CONFIGURATION);
+
+    service.onNotification(CacheInvalidation.configuration(TENANT).toJson()
+      .put("sender", VERTX_ID.toString())
+      .encode());
+
+    assertNotNull(configurationCache.getValue(TENANT));
+  }
+
+  @Test
+  void shouldInvalidateLocallyAndNotifyOtherInstances() {
+    configurationCache.putValue(TENANT, CONFIGURATION);
+
+    service.invalidate(CacheInvalidation.configuration(TENANT)).join();
+
+    assertNull(configurationCache.getValue(TENANT));
+    var payload = ArgumentCaptor.forClass(JsonObject.class);
+    verify(repository).notify(payload.capture());
+    assertEquals(VERTX_ID.toString(), payload.getValue().getString("sender"));
+    assertEquals(CacheInvalidation.configuration(TENANT), CacheInvalidation.fromJson(payload.getValue()));
+  }
+
+  @Test
+  void shouldNotFailWhenNotificationIsNotSent() {
+    when(repository.notify(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("No db")));
+
+    assertDoesNotThrow(() -> service.publish(CacheInvalidation.title(TENANT, "1")).join());
+  }
+
+  private PackageCacheKey packageKey(String tenant, Configuration configuration) {
+    return PackageCacheKey.builder()
+      .packageId(PACKAGE_ID)
+      .tenant(tenant)
+      .rmapiConfiguration(configuration)
+      .build();
+  }
+
+  @Test
+  void shouldConnectWithoutSslWhenServerPemIsNotConfigured() {
+    var options = CacheInvalidationService.connectOptions(connectionConfig());
+
+    assertEquals("db-host", options.getHost());
+    assertEquals(5433, options.getPort());
+    assertEquals("db", options.getDatabase());
+    assertEquals("user", options.getUser());
+    assertEquals("password", options.getPassword());
+    assertEquals(SslMode.DISABLE, options.getSslMode());
+  }
+
+  @Test
+  void shouldConnectWithSslWhenServerPemIsConfigured() {
+    var options = CacheInvalidationService.connectOptions(connectionConfig().put("server_pem", "pem"));
+
+    assertEquals(SslMode.VERIFY_FULL, options.getSslMode());
+    assertEquals("HTTPS", options.getSslOptions().getHostnameVerificationAlgorithm());
+    var trustOptions = (PemTrustOptions) options.getSslOptions().getTrustOptions();
+    assertEquals("pem", trustOptions.getCertValues().getFirst().toString());
+  }
+
+  @Test
+  void shouldStopWhenNotStarted() {
+    assertTrue(service.stop().succeeded());
+  }
+
+  private JsonObject connectionConfig() {
+    return new JsonObject()
+      .put("host", "db-host")
+      .put("port", 5433)
+      .put("database", "db")
+      .put("username", "user")
+      .put("password", "password");
+  }
+}
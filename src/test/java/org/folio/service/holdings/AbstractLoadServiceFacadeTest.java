@@ -1,10 +1,12 @@
 package org.folio.service.holdings;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.repository.holdings.LoadStatus.COMPLETED;
 import static org.folio.repository.holdings.LoadStatus.IN_PROGRESS;
 import static org.folio.repository.holdings.LoadStatus.NONE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -12,7 +14,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.vertx.core.Vertx;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.SneakyThrows;
 import org.folio.holdingsiq.service.LoadService;
 import org.folio.holdingsiq.service.impl.LoadServiceImpl;
@@ -38,33 +46,8 @@ class AbstractLoadServiceFacadeTest {
 
   private final Vertx vertx = Vertx.vertx();
 
-  private final AbstractLoadServiceFacade loadServiceFacadeSpy =
-    Mockito.spy(new AbstractLoadServiceFacade(1L, 3, 1, 1, 1, 1, vertx) {
-      @Override
-      protected CompletableFuture<String> populateHoldings(LoadService loadingService) {
-        return CompletableFuture.completedFuture(TEST);
-      }
-
-      @Override
-      protected CompletableFuture<HoldingsStatus> getLastLoadingStatus(LoadService loadingService) {
-        return null;
-      }
-
-      @Override
-      protected CompletableFuture<HoldingsStatus> getLoadingStatus(LoadService loadingService, String transactionId) {
-        return null;
-      }
-
-      @Override
-      protected CompletableFuture<Void> loadHoldings(LoadHoldingsMessage message, LoadService loadingService) {
-        return null;
-      }
-
-      @Override
-      protected int getMaxPageSize() {
-        return 0;
-      }
-    });
+  private final AbstractLoadServiceFacade loadServiceFacadeSpy = createLoadServiceFacade(1);
+  private final AbstractLoadServiceFacade concurrentLoadServiceFacade = createLoadServiceFacade(2);
 
   @Test
   @SneakyThrows
@@ -117,6 +100,83 @@ class AbstractLoadServiceFacadeTest {
       .getLoadingStatus(any(), any());
   }
 
+  @Test
+  @SneakyThrows
+  void shouldLoadAllPagesWithLimitedConcurrency() {
+    var loadedPages = ConcurrentHashMap.<Integer>newKeySet();
+    var inFlight = new AtomicInteger();
+    var maxInFlight = new AtomicInteger();
+    var pendingPages = new ConcurrentLinkedQueue<CompletableFuture<Void>>();
+
+    var future = concurrentLoadServiceFacade.loadWithPagination(5, page -> {
+      loadedPages.add(page);
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      var pageFuture = new CompletableFuture<Void>();
+      pendingPages.add(pageFuture);
+      return pageFuture;
+    });
+    CompletableFuture<Void> pageFuture;
+    while ((pageFuture = pendingPages.poll()) != null) {
+      inFlight.decrementAndGet();
+      pageFuture.complete(null);
+    }
+
+    future.get(5, TimeUnit.SECONDS);
+    assertEquals(Set.of(1, 2, 3, 4, 5), loadedPages);
+    assertEquals(2, maxInFlight.get());
+  }
+
+  @Test
+  void shouldFailConcurrentLoadingWhenPageFails() {
+    var future = concurrentLoadServiceFacade.loadWithPagination(5,
+      page -> page == 2 ? CompletableFuture.failedFuture(new IllegalStateException()) : completedFuture(null));
+
+    assertThrows(ExecutionException.class, future::get);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldLoadPagesStartingFromFirstPage() {
+    var loadedPages = ConcurrentHashMap.<Integer>newKeySet();
+
+    loadServiceFacadeSpy.loadWithPagination(4, 5, page -> {
+      loadedPages.add(page);
+      return completedFuture(null);
+    }).get();
+
+    assertEquals(Set.of(4, 5), loadedPages);
+  }
+
+  private AbstractLoadServiceFacade createLoadServiceFacade(int pageConcurrency) {
+    return Mockito.spy(new AbstractLoadServiceFacade(1L, 3, 1, 1, 1, 1, 4, pageConcurrency, false, 1000L, null,
+      vertx) {
+      @Override
+      protected CompletableFuture<String> populateHoldings(LoadService loadingService) {
+        return CompletableFuture.completedFuture(TEST);
+      }
+
+      @Override
+      protected CompletableFuture<HoldingsStatus> getLastLoadingStatus(LoadService loadingService) {
+        return null;
+      }
+
+      @Override
+      protected CompletableFuture<HoldingsStatus> getLoadingStatus(LoadService loadingService, String transactionId) {
+        return null;
+      }
+
+      @Override
+      protected CompletableFuture<Void> loadHoldings(LoadHoldingsMessage message, LoadService loadingService) {
+        return null;
+      }
+
+      @Override
+      protected int getMaxPageSize() {
+        return 0;
+      }
+    });
+  }
+
   private HoldingsStatus getHoldingsStatus(LoadStatus loadStatus) {
     return HoldingsStatus.builder()
       .status(loadStatus)
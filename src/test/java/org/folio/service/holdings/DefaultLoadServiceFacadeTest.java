@@ -4,18 +4,30 @@ import static org.folio.repository.holdings.LoadStatus.COMPLETED;
 import static org.folio.repository.holdings.LoadStatus.FAILED;
 import static org.folio.repository.holdings.LoadStatus.IN_PROGRESS;
 import static org.folio.repository.holdings.LoadStatus.NONE;
+import static org.folio.util.TestUtil.readJsonFile;
 import static org.folio.util.TestUtil.result;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
+import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.IntFunction;
+import org.folio.holdingsiq.model.Holding;
+import org.folio.holdingsiq.model.Holdings;
 import org.folio.holdingsiq.model.HoldingsLoadStatus;
 import org.folio.holdingsiq.service.impl.LoadServiceImpl;
+import org.folio.service.holdings.message.HoldingsMessage;
+import org.folio.service.holdings.message.LoadHoldingsMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,24 +40,55 @@ import org.mockito.quality.Strictness;
 @ExtendWith(MockitoExtension.class)
 class DefaultLoadServiceFacadeTest {
 
+  private static final String HOLDINGS_PAGE = "responses/rmapi/holdings/holdings/get-holdings.json";
+
   private final Vertx vertx = Vertx.vertx();
   private final int pageSize = 2500;
   private final int pageRetryCount = 3;
   @Mock
   private LoadServiceImpl loadService;
+
+  @Mock
+  private HoldingsService localHoldingsService;
   private DefaultLoadServiceFacade defaultLoadServiceFacade;
 
   @BeforeEach
   void setUp() {
-    defaultLoadServiceFacade = new DefaultLoadServiceFacade(
-      1L, // statusRetryDelay
-      1,  // statusRetryCount
-      100, // loadPageRetryDelay
-      50, // snapshotRefreshPeriod
-      pageRetryCount, // loadPageRetryCount
-      pageSize, // loadPageSize
-      500, // loadPageSizeMin
-      vertx);
+    defaultLoadServiceFacade = createFacade(false);
+  }
+
+  @Test
+  void shouldCallLocalHoldingsServiceWhenDirectCallIsEnabled() {
+    assertSame(localHoldingsService, createFacade(true).holdingsService);
+    assertNotSame(localHoldingsService, defaultLoadServiceFacade.holdingsService);
+  }
+
+  @Test
+  void shouldPassLoadedPagesUnchangedToLocalHoldingsService() {
+    var loadedPages = new ArrayList<List<Holding>>();
+    when(loadService.loadHoldings(anyInt(), anyInt())).thenAnswer(invocation -> {
+      var holdings = readJsonFile(HOLDINGS_PAGE, Holdings.class);
+      loadedPages.add(holdings.getHoldingsList());
+      return CompletableFuture.completedFuture(holdings);
+    });
+    var messages = new ArrayList<HoldingsMessage>();
+    var handedOffPages = new ArrayList<List<Holding>>();
+    when(localHoldingsService.saveHolding(any())).thenAnswer(invocation -> {
+      HoldingsMessage message = invocation.getArgument(0);
+      messages.add(message);
+      handedOffPages.add(List.copyOf(message.getHoldingList()));
+      return Future.succeededFuture();
+    });
+
+    var loadMessage = new LoadHoldingsMessage(null, "credentials", "tenant", 5000, 2, null, null, 1);
+    result(createFacade(true).loadHoldings(loadMessage, loadService));
+
+    assertEquals(2, messages.size());
+    for (int i = 0; i < messages.size(); i++) {
+      assertEquals(i + 1, messages.get(i).getPage());
+      assertSame(loadedPages.get(i), messages.get(i).getHoldingList());
+      assertEquals(handedOffPages.get(i), messages.get(i).getHoldingList());
+    }
   }
 
   @Test
@@ -197,4 +240,21 @@ class DefaultLoadServiceFacadeTest {
 
     assertTrue(callbackFuture.isDone());
   }
+
+  private DefaultLoadServiceFacade createFacade(boolean directCallEnabled) {
+    return new DefaultLoadServiceFacade(
+      1L, // statusRetryDelay
+      1,  // statusRetryCount
+      100, // loadPageRetryDelay
+      50, // snapshotRefreshPeriod
+      pageRetryCount, // loadPageRetryCount
+      pageSize, // loadPageSize
+      500, // loadPageSizeMin
+      4, // maxPendingPages
+      1, // pageConcurrency
+      directCallEnabled,
+      1000L, // proxyTimeout
+      localHoldingsService,
+      vertx);
+  }
 }
@@ -0,0 +1,87 @@
+package org.folio.service.holdings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.Promise;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class HoldingsPagePipelineTest {
+
+  private static final String CREDENTIALS_ID = "credentials";
+
+  private final HoldingsPagePipeline pipeline = new HoldingsPagePipeline(CREDENTIALS_ID, 2);
+
+  @Test
+  void shouldAcceptNextPageWhilePipelineIsNotFull() {
+    Promise<Void> write = Promise.promise();
+
+    CompletableFuture<Void> next = pipeline.submit(write::future);
+
+    assertTrue(next.isDone());
+    assertEquals(1, pipeline.getPendingPages());
+  }
+
+  @Test
+  void shouldSuspendUntilPageIsWrittenWhenPipelineIsFull() {
+    Promise<Void> firstWrite = Promise.promise();
+    Promise<Void> secondWrite = Promise.promise();
+
+    pipeline.submit(firstWrite::future);
+    CompletableFuture<Void> next = pipeline.submit(secondWrite::future);
+    assertFalse(next.isDone());
+
+    firstWrite.complete();
+
+    assertTrue(next.isDone());
+    assertEquals(1, pipeline.getPendingPages());
+    assertEquals(2, pipeline.getMaxObservedPendingPages());
+  }
+
+  @Test
+  void shouldReleaseSlotWhenPageWriteFails() {
+    Promise<Void> firstWrite = Promise.promise();
+    Promise<Void> secondWrite = Promise.promise();
+
+    pipeline.submit(firstWrite::future);
+    CompletableFuture<Void> next = pipeline.submit(secondWrite::future);
+
+    firstWrite.fail("write failed");
+
+    assertTrue(next.isDone());
+    assertFalse(next.isCompletedExceptionally());
+  }
+
+  @Test
+  void shouldDrainWhenAllPagesAreWritten() {
+    Promise<Void> firstWrite = Promise.promise();
+    Promise<Void> secondWrite = Promise.promise();
+    pipeline.submit(firstWrite::future);
+    pipeline.submit(secondWrite::future);
+
+    CompletableFuture<Void> drained = pipeline.drain();
+    firstWrite.complete();
+    assertFalse(drained.isDone());
+
+    secondWrite.complete();
+    assertTrue(drained.isDone());
+    assertEquals(0, pipeline.getPendingPages());
+  }
+
+  @Test
+  void shouldFailDrainWhenPageWriteFailed() {
+    Promise<Void> firstWrite = Promise.promise();
+    Promise<Void> secondWrite = Promise.promise();
+    pipeline.submit(firstWrite::future);
+    pipeline.submit(secondWrite::future);
+
+    CompletableFuture<Void> drained = pipeline.drain();
+    firstWrite.fail("write failed");
+    assertFalse(drained.isDone());
+
+    secondWrite.complete();
+    assertTrue(drained.isCompletedExceptionally());
+  }
+}
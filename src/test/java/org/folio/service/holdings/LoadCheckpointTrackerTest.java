@@ -0,0 +1,41 @@
+package org.folio.service.holdings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.service.holdings.LoadCheckpointTracker.Checkpoint;
+import org.junit.jupiter.api.Test;
+
+class LoadCheckpointTrackerTest {
+
+  private static final UUID CREDENTIALS_ID = UUID.randomUUID();
+
+  private final LoadCheckpointTracker tracker = new LoadCheckpointTracker();
+
+  @Test
+  void shouldMoveCheckpointWhenNextPageIsWritten() {
+    tracker.start(CREDENTIALS_ID, 0, 0);
+
+    assertEquals(Optional.of(new Checkpoint(1, 10)), tracker.pageWritten(CREDENTIALS_ID, 1, 10));
+    assertEquals(Optional.of(new Checkpoint(2, 20)), tracker.pageWritten(CREDENTIALS_ID, 2, 10));
+  }
+
+  @Test
+  void shouldNotMoveCheckpointUntilGapIsFilled() {
+    tracker.start(CREDENTIALS_ID, 0, 0);
+
+    assertTrue(tracker.pageWritten(CREDENTIALS_ID, 2, 10).isEmpty());
+    assertTrue(tracker.pageWritten(CREDENTIALS_ID, 3, 10).isEmpty());
+    assertEquals(Optional.of(new Checkpoint(3, 30)), tracker.pageWritten(CREDENTIALS_ID, 1, 10));
+  }
+
+  @Test
+  void shouldContinueFromResumedCheckpoint() {
+    tracker.start(CREDENTIALS_ID, 5, 50);
+
+    assertTrue(tracker.pageWritten(CREDENTIALS_ID, 5, 10).isEmpty());
+    assertEquals(Optional.of(new Checkpoint(6, 60)), tracker.pageWritten(CREDENTIALS_ID, 6, 10));
+  }
+}
@@ -0,0 +1,49 @@
+package org.folio.service.holdings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.service.holdings.LoadProgressTracker.PageProgress;
+import org.junit.jupiter.api.Test;
+
+class LoadProgressTrackerTest {
+
+  private static final UUID CREDENTIALS_ID = UUID.randomUUID();
+  private static final long ONE_HOUR = 3_600_000;
+
+  @Test
+  void shouldCountPagesWithoutFlushingBeforeIntervalElapses() {
+    LoadProgressTracker tracker = new LoadProgressTracker(ONE_HOUR);
+    tracker.start(CREDENTIALS_ID, 30, 3, 0, 0);
+
+    assertEquals(Optional.of(new PageProgress(30, 10, 1, false, false)), tracker.pageWritten(CREDENTIALS_ID, 10));
+    assertEquals(Optional.of(new PageProgress(30, 20, 2, false, false)), tracker.pageWritten(CREDENTIALS_ID, 10));
+  }
+
+  @Test
+  void shouldFlushAndDetectLastPage() {
+    LoadProgressTracker tracker = new LoadProgressTracker(ONE_HOUR);
+    tracker.start(CREDENTIALS_ID, 30, 3, 20, 2);
+
+    assertEquals(Optional.of(new PageProgress(30, 30, 3, true, true)), tracker.pageWritten(CREDENTIALS_ID, 10));
+  }
+
+  @Test
+  void shouldFlushEveryPageWhenIntervalIsZero() {
+    LoadProgressTracker tracker = new LoadProgressTracker(0);
+    tracker.start(CREDENTIALS_ID, 30, 3, 0, 0);
+
+    assertEquals(Optional.of(new PageProgress(30, 10, 1, false, true)), tracker.pageWritten(CREDENTIALS_ID, 10));
+  }
+
+  @Test
+  void shouldReturnEmptyProgressForStoppedLoad() {
+    LoadProgressTracker tracker = new LoadProgressTracker(0);
+    tracker.start(CREDENTIALS_ID, 30, 3, 0, 0);
+    tracker.stop(CREDENTIALS_ID);
+
+    assertTrue(tracker.pageWritten(CREDENTIALS_ID, 10).isEmpty());
+  }
+}
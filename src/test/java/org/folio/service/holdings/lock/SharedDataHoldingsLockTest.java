@@ -0,0 +1,43 @@
+package org.folio.service.holdings.lock;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.SharedData;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SharedDataHoldingsLockTest {
+
+  @Mock
+  private Vertx vertx;
+  @Mock
+  private SharedData sharedData;
+
+  @Test
+  void shouldFailWhenLockIsNotAcquired() {
+    var exception = new IllegalStateException("Lock timeout");
+    when(vertx.sharedData()).thenReturn(sharedData);
+    when(sharedData.getLock(anyString())).thenReturn(Future.failedFuture(exception));
+    var actionExecuted = new AtomicBoolean(false);
+
+    var result = new SharedDataHoldingsLock(vertx).executeWithLock("lock", "tenant", () -> {
+      actionExecuted.set(true);
+      return CompletableFuture.completedFuture(null);
+    });
+
+    assertTrue(result.failed());
+    assertSame(exception, result.cause());
+    assertFalse(actionExecuted.get());
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.service.holdingsiq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CredentialsRequestQueueTest {
+
+  private final List<String> started = new ArrayList<>();
+  private final List<CompletableFuture<String>> pending = new ArrayList<>();
+
+  @Test
+  void shouldLimitRequestsInFlight() {
+    var queue = new CredentialsRequestQueue(2);
+
+    var results = queue.submitAll(requests("a", 5));
+    assertEquals(List.of("a0", "a1"), started);
+    assertEquals(3, queue.getMetrics().getQueued());
+    assertEquals(2, queue.getMetrics().getInFlight());
+
+    pending.getFirst().complete("a0");
+    assertEquals(List.of("a0", "a1", "a2"), started);
+    assertEquals("a0", results.getFirst().join());
+  }
+
+  @Test
+  void shouldServeBatchesInTurn() {
+    var queue = new CredentialsRequestQueue(1);
+
+    queue.submitAll(requests("a", 3));
+    queue.submitAll(requests("b", 2));
+    IntStream.range(0, 4).forEach(i -> pending.get(i).complete(started.get(i)));
+
+    assertEquals(List.of("a0", "a1", "b0", "a2", "b1"), started);
+  }
+
+  @Test
+  void shouldNotStallWhenRequestsCompleteImmediately() {
+    var queue = new CredentialsRequestQueue(1);
+    List<Supplier<CompletableFuture<Integer>>> requests = IntStream.range(0, 10_000)
+      .<Supplier<CompletableFuture<Integer>>>mapToObj(i -> () -> CompletableFuture.completedFuture(i))
+      .toList();
+
+    var results = queue.submitAll(requests);
+
+    assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+    assertEquals(9_999, results.getLast().join());
+    assertEquals(10_000, queue.getMetrics().getDispatched());
+    assertEquals(0, queue.getMetrics().getInFlight());
+  }
+
+  @Test
+  void shouldFailOnlyFailedRequest() {
+    var queue = new CredentialsRequestQueue(1);
+    List<Supplier<CompletableFuture<String>>> requests = List.of(
+      () -> {
+        throw new IllegalStateException("Request failed");
+      },
+      () -> CompletableFuture.completedFuture("b"));
+
+    var results = queue.submitAll(requests);
+
+    assertTrue(results.getFirst().isCompletedExceptionally());
+    assertEquals("b", results.get(1).join());
+  }
+
+  private List<Supplier<CompletableFuture<String>>> requests(String prefix, int count) {
+    return IntStream.range(0, count)
+      .<Supplier<CompletableFuture<String>>>mapToObj(i -> () -> {
+        started.add(prefix + i);
+        var future = new CompletableFuture<String>();
+        pending.add(future);
+        return future;
+      })
+      .toList();
+  }
+}
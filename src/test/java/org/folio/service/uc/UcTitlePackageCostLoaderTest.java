@@ -0,0 +1,119 @@
+package org.folio.service.uc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Vertx;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.folio.client.uc.UcApigeeEbscoClient;
+import org.folio.client.uc.UcFailedRequestException;
+import org.folio.client.uc.configuration.GetTitlePackageUcConfiguration;
+import org.folio.client.uc.model.UcCostAnalysis;
+import org.folio.client.uc.model.UcTitlePackageId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UcTitlePackageCostLoaderTest {
+
+  private static final GetTitlePackageUcConfiguration CONFIGURATION = GetTitlePackageUcConfiguration.builder().build();
+  private static final UcCostAnalysis COST_ANALYSIS = new UcCostAnalysis(null, null);
+
+  private final Vertx vertx = Vertx.vertx();
+  @Mock
+  private UcApigeeEbscoClient client;
+
+  @AfterEach
+  void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  void shouldLimitAmountOfPartitionsLoadedAtTheSameTime() throws Exception {
+    List<CompletableFuture<Map<String, UcCostAnalysis>>> requests = new ArrayList<>();
+    when(client.getTitlePackageCostPerUse(anyList(), any())).thenAnswer(invocation -> {
+      CompletableFuture<Map<String, UcCostAnalysis>> request = new CompletableFuture<>();
+      requests.add(request);
+      return request;
+    });
+    var loader = new UcTitlePackageCostLoader(client, vertx, 2, 0, 1);
+
+    var result = loader.load(createIds(2500), CONFIGURATION);
+    assertEquals(2, requests.size());
+
+    requests.getFirst().complete(Map.of("1.1", COST_ANALYSIS));
+    assertEquals(3, requests.size());
+
+    requests.get(1).complete(Map.of("2.1", COST_ANALYSIS));
+    requests.get(2).complete(Map.of("3.1", COST_ANALYSIS));
+    assertEquals(3, result.get(1, TimeUnit.SECONDS).size());
+  }
+
+  @Test
+  void shouldShareLimitBetweenLoads() throws Exception {
+    List<CompletableFuture<Map<String, UcCostAnalysis>>> requests = new ArrayList<>();
+    when(client.getTitlePackageCostPerUse(anyList(), any())).thenAnswer(invocation -> {
+      CompletableFuture<Map<String, UcCostAnalysis>> request = new CompletableFuture<>();
+      requests.add(request);
+      return request;
+    });
+    var loader = new UcTitlePackageCostLoader(client, vertx, 2, 0, 1);
+
+    var firstResult = loader.load(createIds(2000), CONFIGURATION);
+    var secondResult = loader.load(createIds(1000), CONFIGURATION);
+    assertEquals(2, requests.size());
+
+    requests.getFirst().complete(Map.of("1.1", COST_ANALYSIS));
+    assertEquals(3, requests.size());
+
+    requests.get(1).complete(Map.of("2.1", COST_ANALYSIS));
+    requests.get(2).complete(Map.of("3.1", COST_ANALYSIS));
+    assertEquals(2, firstResult.get(1, TimeUnit.SECONDS).size());
+    assertEquals(1, secondResult.get(1, TimeUnit.SECONDS).size());
+  }
+
+  @Test
+  void shouldRetryFailedPartition() throws Exception {
+    when(client.getTitlePackageCostPerUse(anyList(), any()))
+      .thenReturn(CompletableFuture.failedFuture(new UcFailedRequestException(503, "Service unavailable")))
+      .thenReturn(CompletableFuture.completedFuture(Map.of("1.1", COST_ANALYSIS)));
+    var loader = new UcTitlePackageCostLoader(client, vertx, 2, 3, 1);
+
+    var result = loader.load(createIds(10), CONFIGURATION).get(5, TimeUnit.SECONDS);
+
+    assertEquals(Map.of("1.1", COST_ANALYSIS), result);
+    verify(client, times(2)).getTitlePackageCostPerUse(anyList(), any());
+  }
+
+  @Test
+  void shouldNotRetryRejectedPartition() {
+    when(client.getTitlePackageCostPerUse(anyList(), any()))
+      .thenReturn(CompletableFuture.failedFuture(new UcFailedRequestException(400, "Bad request")));
+    var loader = new UcTitlePackageCostLoader(client, vertx, 2, 3, 1);
+
+    var result = loader.load(createIds(10), CONFIGURATION);
+
+    var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(UcFailedRequestException.class, exception.getCause());
+    verify(client).getTitlePackageCostPerUse(anyList(), any());
+  }
+
+  private List<UcTitlePackageId> createIds(int count) {
+    return IntStream.range(0, count).mapToObj(titleId -> new UcTitlePackageId(titleId, 1)).toList();
+  }
+}
@@ -0,0 +1,54 @@
+package org.folio.service.uc.export;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.vertx.core.buffer.Buffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class CsvExportWriterTest {
+
+  private static final TitleExportModel FIRST_TITLE = TitleExportModel.builder().title("First").build();
+  private static final TitleExportModel SECOND_TITLE = TitleExportModel.builder().title("Second").build();
+
+  @Test
+  void shouldWriteHeaderOnlyBeforeFirstChunk() {
+    var writer = new CsvExportWriter(false);
+
+    var firstChunk = writer.write(List.of(FIRST_TITLE)).toString();
+    var secondChunk = writer.write(List.of(SECOND_TITLE)).toString();
+
+    assertTrue(firstChunk.startsWith("\"Title\"|"));
+    assertTrue(firstChunk.contains("\"First\"|"));
+    assertTrue(secondChunk.startsWith("\"Second\"|"));
+    assertEquals(0, writer.finish().length());
+  }
+
+  @Test
+  void shouldWriteNothingForEmptyExport() {
+    var writer = new CsvExportWriter(false);
+
+    assertEquals(0, writer.write(List.of()).length());
+  }
+
+  @Test
+  void shouldCompressChunksIntoOneGzipStream() throws IOException {
+    var expected = new CsvExportWriter(false);
+    var expectedCsv = expected.write(List.of(FIRST_TITLE)).toString() + expected.write(List.of(SECOND_TITLE));
+
+    var writer = new CsvExportWriter(true);
+    var compressed = Buffer.buffer()
+      .appendBuffer(writer.write(List.of(FIRST_TITLE)))
+      .appendBuffer(writer.write(List.of(SECOND_TITLE)))
+      .appendBuffer(writer.finish());
+
+    try (var gzipStream = new GZIPInputStream(new ByteArrayInputStream(compressed.getBytes()))) {
+      assertEquals(expectedCsv, new String(gzipStream.readAllBytes(), UTF_8));
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package org.folio.service.uc.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.folio.holdingsiq.model.RequestContext;
+import org.folio.okapi.common.XOkapiHeaders;
+import org.folio.repository.export.DbExportJob;
+import org.folio.repository.export.ExportJobRepository;
+import org.folio.repository.export.ExportJobStatus;
+import org.folio.rest.util.template.RmApiTemplateContext;
+import org.folio.service.locale.LocaleSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportJobWorkerTest {
+
+  private static final String TENANT = "tenant";
+  private static final RmApiTemplateContext CONTEXT = RmApiTemplateContext.builder()
+    .requestContext(new RequestContext(Map.of(XOkapiHeaders.TENANT, TENANT)))
+    .build();
+  private static final LocaleSettings LOCALE_SETTINGS = LocaleSettings.builder().locale("en-US").build();
+
+  @Mock
+  private ExportService exportService;
+  @Mock
+  private ExportJobRepository exportJobRepository;
+
+  @Test
+  void shouldLimitAmountOfJobsExecutedAtTheSameTime() {
+    List<CompletableFuture<Void>> exports = mockExports();
+    when(exportJobRepository.updateStatus(any(), eq(TENANT))).thenReturn(CompletableFuture.completedFuture(null));
+    when(exportJobRepository.saveFile(any(), any(), any(), eq(TENANT)))
+      .thenReturn(CompletableFuture.completedFuture(null));
+    var worker = new ExportJobWorker(exportService, exportJobRepository, 1, 10);
+
+    assertTrue(worker.submit(createJob(), CONTEXT, LOCALE_SETTINGS));
+    assertTrue(worker.submit(createJob(), CONTEXT, LOCALE_SETTINGS));
+    assertEquals(1, exports.size());
+
+    exports.getFirst().complete(null);
+    assertEquals(2, exports.size());
+  }
+
+  @Test
+  void shouldRejectJobWhenQueueIsFull() {
+    List<CompletableFuture<Void>> exports = mockExports();
+    when(exportJobRepository.updateStatus(any(), eq(TENANT))).thenReturn(CompletableFuture.completedFuture(null));
+    var worker = new ExportJobWorker(exportService, exportJobRepository, 1, 1);
+
+    assertTrue(worker.submit(createJob(), CONTEXT, LOCALE_SETTINGS));
+    assertTrue(worker.submit(createJob(), CONTEXT, LOCALE_SETTINGS));
+    assertFalse(worker.submit(createJob(), CONTEXT, LOCALE_SETTINGS));
+    assertEquals(1, exports.size());
+  }
+
+  @Test
+  void shouldMarkJobFailedWhenExportFails() {
+    List<CompletableFuture<Void>> exports = mockExports();
+    when(exportJobRepository.updateStatus(any(), eq(TENANT))).thenReturn(CompletableFuture.completedFuture(null));
+    var worker = new ExportJobWorker(exportService, exportJobRepository, 1, 10);
+
+    worker.submit(createJob(), CONTEXT, LOCALE_SETTINGS);
+    exports.getFirst().completeExceptionally(new ExportException("Export failed"));
+
+    ArgumentCaptor<DbExportJob> jobCaptor = ArgumentCaptor.forClass(DbExportJob.class);
+    verify(exportJobRepository, times(2)).updateStatus(jobCaptor.capture(), eq(TENANT));
+    verify(exportJobRepository, never()).saveFile(any(), any(), any(), any());
+    var failedJob = jobCaptor.getAllValues().get(1);
+    assertEquals(ExportJobStatus.FAILED, failedJob.getStatus());
+    assertEquals("Export failed", failedJob.getErrorMessage());
+  }
+
+  private List<CompletableFuture<Void>> mockExports() {
+    List<CompletableFuture<Void>> exports = new ArrayList<>();
+    when(exportService.exportCsv(anyString(), any(), anyString(), anyBoolean(), any(), eq(CONTEXT),
+      eq(LOCALE_SETTINGS)))
+      .thenAnswer(invocation -> {
+        CompletableFuture<Void> export = new CompletableFuture<>();
+        exports.add(export);
+        return export;
+      });
+    return exports;
+  }
+
+  private DbExportJob createJob() {
+    return DbExportJob.builder()
+      .id(UUID.randomUUID())
+      .packageId("19-4478")
+      .fiscalYear("2019")
+      .status(ExportJobStatus.QUEUED)
+      .build();
+  }
+}
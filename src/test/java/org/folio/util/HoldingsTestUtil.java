@@ -5,12 +5,16 @@ import static org.folio.db.RowSetUtils.mapItems;
 import static org.folio.db.RowSetUtils.toUUID;
 import static org.folio.repository.DbUtil.prepareQuery;
 import static org.folio.repository.holdings.HoldingsTableConstants.HOLDINGS_TABLE;
+import static org.folio.repository.holdings.HoldingsTableConstants.ID_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.PACKAGE_ID_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.PUBLICATION_TITLE_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.PUBLISHER_NAME_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.RESOURCE_TYPE_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.TITLE_ID_COLUMN;
+import static org.folio.repository.holdings.HoldingsTableConstants.UPDATED_AT_COLUMN;
 import static org.folio.repository.holdings.HoldingsTableConstants.VENDOR_ID_COLUMN;
+import static org.folio.repository.holdings.HoldingsTableConstants.getPartitionName;
+import static org.folio.repository.holdings.HoldingsTableConstants.getSnapshotTableName;
 import static org.folio.repository.holdings.HoldingsTableConstants.insertOrUpdateHoldings;
 import static org.folio.util.TestUtil.STUB_TENANT;
 import static org.folio.util.TestUtil.readJsonFile;
@@ -19,11 +23,14 @@ import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.Tuple;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import lombok.experimental.UtilityClass;
 import org.folio.repository.SqlQueryHelper;
 import org.folio.repository.holdings.DbHoldingInfo;
+import org.folio.repository.holdings.HoldingsContentHash;
 import org.folio.rest.persist.PostgresClient;
 
 @UtilityClass
@@ -37,9 +44,41 @@ public class HoldingsTestUtil {
     return future.join();
   }
 
+  public static Map<String, OffsetDateTime> getHoldingsUpdatedAt(Vertx vertx) {
+    CompletableFuture<Map<String, OffsetDateTime>> future = new CompletableFuture<>();
+    String query = prepareQuery(SqlQueryHelper.selectQuery(), holdingsTestTable());
+    PostgresClient.getInstance(vertx, STUB_TENANT)
+      .select(query, event -> {
+        Map<String, OffsetDateTime> updatedAt = new HashMap<>();
+        for (Row row : event.result()) {
+          updatedAt.put(row.getString(ID_COLUMN), row.getOffsetDateTime(UPDATED_AT_COLUMN));
+        }
+        future.complete(updatedAt);
+      });
+    return future.join();
+  }
+
+  /**
+   * Checks that holdings partition of credentials exists and is attached to holdings table.
+   */
+  public static boolean isPartitionAttached(String credentialsId, Vertx vertx) {
+    String query = "SELECT EXISTS (SELECT 1 FROM pg_inherits "
+                   + "WHERE inhrelid = to_regclass($1) AND inhparent = to_regclass($2));";
+    Tuple params = Tuple.of(getPartitionName(STUB_TENANT, toUUID(credentialsId)), holdingsTestTable());
+    return selectBoolean(query, params, vertx);
+  }
+
+  public static boolean partitionExists(String credentialsId, Vertx vertx) {
+    return tableExists(getPartitionName(STUB_TENANT, toUUID(credentialsId)), vertx);
+  }
+
+  public static boolean snapshotTableExists(String credentialsId, Vertx vertx) {
+    return tableExists(getSnapshotTableName(STUB_TENANT, toUUID(credentialsId)), vertx);
+  }
+
   public static void saveHolding(String credentialsId, DbHoldingInfo holding, OffsetDateTime updatedAt, Vertx vertx) {
     CompletableFuture<Void> future = new CompletableFuture<>();
-    String query = prepareQuery(insertOrUpdateHoldings(), holdingsTestTable(), createPlaceholders(9, 1));
+    String query = prepareQuery(insertOrUpdateHoldings(), holdingsTestTable(), createPlaceholders(10, 1));
     Tuple params = getHoldingsInsertParams(credentialsId, holding, updatedAt);
     PostgresClient.getInstance(vertx, STUB_TENANT).execute(query, params, event -> future.complete(null));
     future.join();
@@ -51,6 +90,17 @@ public class HoldingsTestUtil {
     }
   }
 
+  private static boolean tableExists(String tableName, Vertx vertx) {
+    return selectBoolean("SELECT to_regclass($1) IS NOT NULL;", Tuple.of(tableName), vertx);
+  }
+
+  private static boolean selectBoolean(String query, Tuple params, Vertx vertx) {
+    CompletableFuture<Boolean> future = new CompletableFuture<>();
+    PostgresClient.getInstance(vertx, STUB_TENANT)
+      .select(query, params, event -> future.complete(event.result().iterator().next().getBoolean(0)));
+    return future.join();
+  }
+
   private static Tuple getHoldingsInsertParams(String credentialsId, DbHoldingInfo holding, OffsetDateTime updatedAt) {
     return Tuple.of(
       toUUID(credentialsId),
@@ -61,6 +111,7 @@ public class HoldingsTestUtil {
       holding.getResourceType(),
       holding.getPublisherName(),
       holding.getPublicationTitle(),
+      HoldingsContentHash.of(holding),
       updatedAt
     );
   }
@@ -10,6 +10,7 @@ import static org.folio.repository.DbMetadataUtil.UPDATED_BY_USER_ID_COLUMN;
 import static org.folio.repository.DbMetadataUtil.UPDATED_BY_USER_NAME_COLUMN;
 import static org.folio.repository.DbMetadataUtil.UPDATED_DATE_COLUMN;
 import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.holdings.HoldingsTableConstants.createPartition;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.API_KEY_COLUMN;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.CUSTOMER_ID_COLUMN;
 import static org.folio.repository.kbcredentials.KbCredentialsTableConstants.ID_COLUMN;
@@ -93,10 +94,26 @@ public class KbCredentialsTestUtil {
       }
     });
     future.join();
+    saveHoldingsPartition(id, vertx);
 
     return id;
   }
 
+  /**
+   * Creates holdings partition of credentials, so that holdings can be saved for credentials saved directly.
+   */
+  private static void saveHoldingsPartition(String id, Vertx vertx) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    PostgresClient.getInstance(vertx, STUB_TENANT).execute(createPartition(STUB_TENANT, toUUID(id)), event -> {
+      if (event.succeeded()) {
+        future.complete(null);
+      } else {
+        future.completeExceptionally(event.cause());
+      }
+    });
+    future.join();
+  }
+
   public static String setupDefaultKbConfiguration(String wiremockUrl, Vertx vertx) {
     return saveKbCredentials(wiremockUrl, CREDENTIALS_NAME, API_KEY, CUSTOMER_ID, vertx);
   }
@@ -0,0 +1,33 @@
+package org.folio.util;
+
+import static org.folio.db.RowSetUtils.mapItems;
+import static org.folio.repository.DbUtil.getUcTitlePackageCostTableName;
+import static org.folio.repository.DbUtil.prepareQuery;
+import static org.folio.repository.SqlQueryHelper.selectQuery;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.PACKAGE_ID_COLUMN;
+import static org.folio.repository.uc.UcTitlePackageCostTableConstants.TITLE_ID_COLUMN;
+import static org.folio.util.TestUtil.STUB_TENANT;
+
+import io.vertx.core.Vertx;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.experimental.UtilityClass;
+import org.folio.client.uc.model.UcTitlePackageId;
+import org.folio.rest.persist.PostgresClient;
+
+@UtilityClass
+public class UcTitlePackageCostTestUtil {
+
+  /**
+   * Returns ids of all stored title packages, including the ones with expired cost.
+   */
+  public static List<UcTitlePackageId> getStoredTitlePackageIds(Vertx vertx) {
+    var future = new CompletableFuture<List<UcTitlePackageId>>();
+
+    var query = prepareQuery(selectQuery(), getUcTitlePackageCostTableName(STUB_TENANT));
+    PostgresClient.getInstance(vertx).select(query, event -> future.complete(mapItems(event.result(),
+      row -> new UcTitlePackageId(row.getInteger(TITLE_ID_COLUMN), row.getInteger(PACKAGE_ID_COLUMN)))));
+
+    return future.join();
+  }
+}